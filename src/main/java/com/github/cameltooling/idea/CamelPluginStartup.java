@@ -69,6 +69,8 @@ public class CamelPluginStartup implements ProjectManagerListener, ModuleRootLis
     @Nullable
     @Override
     public Object execute(@NotNull Project project, @NotNull Continuation<? super Unit> continuation) {
+        // Start loading the catalog matching the build files while the project is being imported
+        getCamelIdeaService(project).preloadCamelCatalog();
         scanForCamelProject(project);
         return null;
     }
@@ -23,6 +23,7 @@ import com.intellij.lang.annotation.AnnotationHolder;
 import com.intellij.lang.annotation.Annotator;
 import com.intellij.lang.properties.psi.impl.PropertyValueImpl;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiLiteralExpression;
 import com.intellij.psi.PsiPolyadicExpression;
 import com.intellij.psi.TokenType;
@@ -32,6 +33,7 @@ import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlElement;
 import com.intellij.psi.xml.XmlElementType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.yaml.psi.YAMLKeyValue;
 
 /**
@@ -49,16 +51,38 @@ abstract class AbstractCamelAnnotator implements Annotator {
     @Override
     public void annotate(@NotNull PsiElement element, @NotNull AnnotationHolder holder) {
         if (element.getProject().getService(CamelService.class).isCamelProject() && isEnabled()) {
-            boolean accept = accept(element);
-            if (accept) {
-                String text = IdeaUtils.getService().extractTextFromElement(element, true, false, false);
-                if (!StringUtils.isEmpty(text)) {
-                    validateText(element, holder, text);
-                }
+            String text = getTextToValidate(element);
+            if (text != null) {
+                validateText(element, holder, text);
             }
         }
     }
 
+    /**
+     * Indicates whether the elements of the given file can be validated.
+     *
+     * @param file the file to check.
+     * @return <tt>true</tt> if the file is supported, <tt>false</tt> otherwise.
+     */
+    boolean isSupported(@NotNull PsiFile file) {
+        return true;
+    }
+
+    /**
+     * @param element the element for which the text to validate is expected.
+     * @return the text of the given element to validate, {@code null} if the element should not be validated.
+     */
+    @Nullable
+    String getTextToValidate(@NotNull PsiElement element) {
+        if (accept(element)) {
+            String text = IdeaUtils.getService().extractTextFromElement(element, true, false, false);
+            if (!StringUtils.isEmpty(text)) {
+                return text;
+            }
+        }
+        return null;
+    }
+
     /**
      * To filter unwanted elements
      *
@@ -105,11 +129,30 @@ abstract class AbstractCamelAnnotator implements Annotator {
 
     /**
      * Validate the text and create error messaged from the validation result.
+     * <p/>
+     * By default, the validation prepared by {@link #prepareValidation(PsiElement, String)} is executed immediately.
      *
      * @param element - Element to parse
      * @param holder - Container for the different error messages and it's test range
      * @param text - String to validate such as an Camel endpoint uri, or a Simple expression
      */
-    abstract void validateText(@NotNull PsiElement element, @NotNull AnnotationHolder holder, @NotNull String text);
+    void validateText(@NotNull PsiElement element, @NotNull AnnotationHolder holder, @NotNull String text) {
+        CamelValidation<?> validation = prepareValidation(element, text);
+        if (validation != null) {
+            validation.validateAndAnnotate(element, text, holder);
+        }
+    }
+
+    /**
+     * Prepare the validation of the text, which can then be executed in the background.
+     *
+     * @param element - Element to parse
+     * @param text - String to validate such as an Camel endpoint uri, or a Simple expression
+     * @return the validation to execute, {@code null} if there is nothing to validate.
+     */
+    @Nullable
+    CamelValidation<?> prepareValidation(@NotNull PsiElement element, @NotNull String text) {
+        return null;
+    }
 
 }
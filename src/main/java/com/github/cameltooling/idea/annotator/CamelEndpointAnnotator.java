@@ -33,6 +33,8 @@ import com.intellij.lang.annotation.HighlightSeverity;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.editor.markup.EffectType;
 import com.intellij.openapi.editor.markup.TextAttributes;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.ResolveResult;
@@ -48,8 +50,11 @@ import static com.github.cameltooling.idea.util.StringUtils.isEmpty;
 
 /**
  * Validate Camel URI endpoint and simple expression and annotated the specific property to highlight the error in the editor
+ * <p/>
+ * The validation against the catalog is also done while the project is being indexed, only the validation of the
+ * references to the endpoints waits for the indexes.
  */
-public class CamelEndpointAnnotator extends AbstractCamelAnnotator {
+public class CamelEndpointAnnotator extends AbstractCamelAnnotator implements DumbAware {
 
     private static final Logger LOG = Logger.getInstance(CamelEndpointAnnotator.class);
 
@@ -70,10 +75,11 @@ public class CamelEndpointAnnotator extends AbstractCamelAnnotator {
     }
 
     /**
-     * Validate endpoint options list aka properties. eg "timer:trigger?delay=1000&bridgeErrorHandler=true"
+     * Prepare the validation of the endpoint options list aka properties. eg "timer:trigger?delay=1000&bridgeErrorHandler=true"
      * if the URI is not valid an error annotation is created and highlight the invalid value.
      */
-    void validateText(@NotNull PsiElement element, @NotNull AnnotationHolder holder, @NotNull String uri) {
+    @Override
+    CamelValidation<?> prepareValidation(@NotNull PsiElement element, @NotNull String uri) {
         if (QueryUtils.isQueryContainingCamelComponent(element.getProject(), uri)) {
             IElementType type = element.getNode().getElementType();
             if (LOG.isTraceEnabled()) {
@@ -81,19 +87,20 @@ public class CamelEndpointAnnotator extends AbstractCamelAnnotator {
             }
 
             final CamelIdeaUtils camelIdeaUtils = CamelIdeaUtils.getService();
+            final IdeaUtils ideaUtils = IdeaUtils.getService();
 
             // skip special values such as configuring ActiveMQ brokerURL
-            if (camelIdeaUtils.skipEndpointValidation(element)) {
+            if (ideaUtils.testInDumbMode(element, camelIdeaUtils::skipEndpointValidation, false)) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug(String.format("Skipping element %s for validation with text: %s", element, uri));
                 }
-                return;
+                return null;
             }
 
             // camel catalog expects &amp; as & when it parses so replace all &amp; as &
-            String camelQuery = IdeaUtils.getService().getInnerText(uri);
+            String camelQuery = ideaUtils.getInnerText(uri);
             if (camelQuery == null) {
-                return;
+                return null;
             }
             camelQuery = camelQuery.replace("&amp;", "&");
 
@@ -102,7 +109,7 @@ public class CamelEndpointAnnotator extends AbstractCamelAnnotator {
                 camelQuery = camelQuery.substring(0, camelQuery.length() - 1);
             }
 
-            boolean stringFormat = camelIdeaUtils.isFromStringFormatEndpoint(element);
+            boolean stringFormat = ideaUtils.testInDumbMode(element, camelIdeaUtils::isFromStringFormatEndpoint, false);
             if (stringFormat) {
                 // if the node is fromF or toF, then replace all %X with {{%X}} as we cannot parse that value
                 camelQuery = camelQuery.replace("%s", "{{%s}}");
@@ -110,35 +117,65 @@ public class CamelEndpointAnnotator extends AbstractCamelAnnotator {
                 camelQuery = camelQuery.replace("%b", "{{%b}}");
             }
 
-            boolean consumerOnly = camelIdeaUtils.isConsumerEndpoint(element);
-            boolean producerOnly = camelIdeaUtils.isProducerEndpoint(element);
+            // without the indexes, the endpoint is validated as if it could be used as both consumer and producer
+            boolean consumerOnly = ideaUtils.testInDumbMode(element, camelIdeaUtils::isConsumerEndpoint, false);
+            boolean producerOnly = ideaUtils.testInDumbMode(element, camelIdeaUtils::isProducerEndpoint, false);
 
-            if (producerOnly) {
-                validateEndpointReference(element, holder);
-            }
+            return new EndpointValidation(
+                element.getProject().getService(CamelCatalogService.class).get(), camelQuery, consumerOnly, producerOnly
+            );
+        }
+        return null;
+    }
+
+    /**
+     * The validation of the options of an endpoint against the catalog.
+     *
+     * @param catalog      the catalog to use for the validation.
+     * @param camelQuery   the endpoint uri to validate.
+     * @param consumerOnly whether the endpoint is used as consumer.
+     * @param producerOnly whether the endpoint is used as producer.
+     */
+    private record EndpointValidation(CamelCatalog catalog, String camelQuery, boolean consumerOnly,
+                                      boolean producerOnly) implements CamelValidation<EndpointValidationResult> {
 
+        @Override
+        public EndpointValidationResult validate() {
             try {
-                CamelCatalog catalogService = element.getProject().getService(CamelCatalogService.class).get();
-                EndpointValidationResult result = catalogService.validateEndpointProperties(camelQuery, false, consumerOnly, producerOnly);
-
-                extractMapValue(result, result.getInvalidBoolean(), uri, element, holder, new BooleanErrorMsg());
-                extractMapValue(result, result.getInvalidEnum(), uri, element, holder, new EnumErrorMsg());
-                extractMapValue(result, result.getInvalidInteger(), uri, element, holder, new IntegerErrorMsg());
-                extractMapValue(result, result.getInvalidDuration(), uri, element, holder, new DurationErrorMsg());
-                extractMapValue(result, result.getInvalidNumber(), uri, element, holder, new NumberErrorMsg());
-                extractMapValue(result, result.getInvalidReference(), uri, element, holder, new ReferenceErrorMsg());
-                extractSetValue(result, result.getUnknown(), uri, element, holder, new UnknownErrorMsg(), false, null);
-                extractSetValue(result, result.getLenient(), uri, element, holder, new LenientOptionMsg(CamelPreferenceService.getService().isHighlightCustomOptions()), true, null);
-                extractSetValue(result, result.getNotConsumerOnly(), uri, element, holder, new NotConsumerOnlyErrorMsg(), false, null);
-                extractSetValue(result, result.getNotProducerOnly(), uri, element, holder, new NotProducerOnlyErrorMsg(), false, null);
-                extractSetValue(result, result.getDeprecated(), uri, element, holder, new DeprecatedErrorMsg(), true, DEPRECATION_ATTRIBUTES);
+                return CamelCatalogService.withExclusiveAccess(
+                    catalog, () -> catalog.validateEndpointProperties(camelQuery, false, consumerOnly, producerOnly)
+                );
             } catch (Exception e) {
-                LOG.warn(String.format("Error validating Camel endpoint: %s", uri), e);
+                LOG.warn(String.format("Error validating Camel endpoint: %s", camelQuery), e);
             }
+            return null;
+        }
+
+        @Override
+        public void annotateElement(@NotNull PsiElement element, @NotNull AnnotationHolder holder) {
+            if (producerOnly && !DumbService.isDumb(element.getProject())) {
+                validateEndpointReference(element, holder);
+            }
+        }
+
+        @Override
+        public void annotate(@NotNull PsiElement element, @NotNull String uri, @NotNull EndpointValidationResult result,
+                             @NotNull AnnotationHolder holder) {
+            extractMapValue(result, result.getInvalidBoolean(), uri, element, holder, new BooleanErrorMsg());
+            extractMapValue(result, result.getInvalidEnum(), uri, element, holder, new EnumErrorMsg());
+            extractMapValue(result, result.getInvalidInteger(), uri, element, holder, new IntegerErrorMsg());
+            extractMapValue(result, result.getInvalidDuration(), uri, element, holder, new DurationErrorMsg());
+            extractMapValue(result, result.getInvalidNumber(), uri, element, holder, new NumberErrorMsg());
+            extractMapValue(result, result.getInvalidReference(), uri, element, holder, new ReferenceErrorMsg());
+            extractSetValue(result, result.getUnknown(), uri, element, holder, new UnknownErrorMsg(), false, null);
+            extractSetValue(result, result.getLenient(), uri, element, holder, new LenientOptionMsg(CamelPreferenceService.getService().isHighlightCustomOptions()), true, null);
+            extractSetValue(result, result.getNotConsumerOnly(), uri, element, holder, new NotConsumerOnlyErrorMsg(), false, null);
+            extractSetValue(result, result.getNotProducerOnly(), uri, element, holder, new NotProducerOnlyErrorMsg(), false, null);
+            extractSetValue(result, result.getDeprecated(), uri, element, holder, new DeprecatedErrorMsg(), true, DEPRECATION_ATTRIBUTES);
         }
     }
 
-    private void validateEndpointReference(PsiElement element, AnnotationHolder holder) {
+    private static void validateEndpointReference(PsiElement element, AnnotationHolder holder) {
         if (!IdeaUtils.getService().isJavaLanguage(element)) { //no need, unresolvable references in XML are already highlighted
             return;
         }
@@ -159,7 +196,7 @@ public class CamelEndpointAnnotator extends AbstractCamelAnnotator {
     /**
      * @return the {@link HighlightSeverity} corresponding to the given message
      */
-    private HighlightSeverity getHighlightSeverity(CamelAnnotatorEndpointMessage<?> msg) {
+    private static HighlightSeverity getHighlightSeverity(CamelAnnotatorEndpointMessage<?> msg) {
         if (msg.isInfoLevel()) {
             return HighlightSeverity.INFORMATION;
         } else if (msg.isWarnLevel()) {
@@ -168,7 +205,7 @@ public class CamelEndpointAnnotator extends AbstractCamelAnnotator {
         return HighlightSeverity.ERROR;
     }
 
-    private void extractSetValue(EndpointValidationResult result, Set<String> validationSet, String fromElement, PsiElement element,
+    private static void extractSetValue(EndpointValidationResult result, Set<String> validationSet, String fromElement, PsiElement element,
                                  AnnotationHolder holder, CamelAnnotatorEndpointMessage<String> msg, boolean lenient,
                                  TextAttributes textAttributes) {
         if (validationSet != null && (lenient || !result.isSuccess())) {
@@ -197,7 +234,7 @@ public class CamelEndpointAnnotator extends AbstractCamelAnnotator {
         }
     }
 
-    private void extractMapValue(EndpointValidationResult result, Map<String, String> validationMap,
+    private static void extractMapValue(EndpointValidationResult result, Map<String, String> validationMap,
                                  String fromElement, @NotNull PsiElement element, @NotNull AnnotationHolder holder,
                                  CamelAnnotatorEndpointMessage<Map.Entry<String, String>> msg) {
         if (!result.isSuccess() && validationMap != null) {
@@ -235,7 +272,7 @@ public class CamelEndpointAnnotator extends AbstractCamelAnnotator {
      * @param element the element to test
      * @return {@code true} if the index to use should be the normal one, {@code false} otherwise.
      */
-    private boolean useNormalIndex(@NotNull PsiElement element) {
+    private static boolean useNormalIndex(@NotNull PsiElement element) {
         IdeaUtils ideaUtils = IdeaUtils.getService();
         return ideaUtils.isJavaLanguage(element) || ideaUtils.isXmlLanguage(element)
             || ideaUtils.isYamlLanguage(element) && element instanceof YAMLQuotedText;
@@ -390,7 +427,7 @@ public class CamelEndpointAnnotator extends AbstractCamelAnnotator {
      *
      * @return the summary, or <tt>empty</tt> if no validation errors
      */
-    private <T> String summaryMessage(EndpointValidationResult result, T entry, CamelAnnotatorEndpointMessage<T> msg) {
+    private static <T> String summaryMessage(EndpointValidationResult result, T entry, CamelAnnotatorEndpointMessage<T> msg) {
         if (result.getIncapable() != null) {
             return "Incapable of parsing uri: " + result.getIncapable();
         } else if (result.getSyntaxError() != null) {
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.annotator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.cameltooling.idea.service.CamelService;
+import com.intellij.lang.annotation.AnnotationHolder;
+import com.intellij.lang.annotation.ExternalAnnotator;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Validate the Camel endpoint URIs, the simple expressions and the language expressions of a file as a batch.
+ * <p/>
+ * The validations are prepared in one pass over the file, then executed in the background, the identical
+ * validations being executed only once, and finally all the annotations are created at once. This way, the
+ * validation against the catalog doesn't slow down the main highlighting pass. The validations are executed one
+ * after the other, as they need an exclusive access to the catalog which is not thread-safe.
+ * <p/>
+ * While the project is being indexed, only the validations of the {@link DumbAware} annotators are executed.
+ */
+public class CamelExternalAnnotator extends ExternalAnnotator<CamelExternalAnnotator.Requests, CamelExternalAnnotator.Results>
+    implements DumbAware {
+
+    /**
+     * The annotators whose validations are executed in the background.
+     */
+    private final List<AbstractCamelAnnotator> annotators = List.of(
+        new CamelEndpointAnnotator(), new CamelSimpleAnnotator(), new CamelLanguageAnnotator()
+    );
+
+    @Override
+    public @Nullable Requests collectInformation(@NotNull PsiFile file, @NotNull Editor editor, boolean hasErrors) {
+        if (!file.getProject().getService(CamelService.class).isCamelProject()) {
+            return null;
+        }
+        final boolean dumb = DumbService.isDumb(file.getProject());
+        final List<AbstractCamelAnnotator> enabled = annotators.stream()
+            .filter(annotator -> annotator.isEnabled() && annotator.isSupported(file))
+            .filter(annotator -> !dumb || DumbService.isDumbAware(annotator))
+            .toList();
+        if (enabled.isEmpty()) {
+            return null;
+        }
+        final List<Request> requests = new ArrayList<>();
+        PsiTreeUtil.processElements(file, element -> {
+            for (AbstractCamelAnnotator annotator : enabled) {
+                String text = annotator.getTextToValidate(element);
+                if (text != null) {
+                    CamelValidation<?> validation = annotator.prepareValidation(element, text);
+                    if (validation != null) {
+                        requests.add(new Request(element, text, validation));
+                    }
+                }
+            }
+            return true;
+        });
+        return requests.isEmpty() ? null : new Requests(requests);
+    }
+
+    @Override
+    public @Nullable Results doAnnotate(Requests requests) {
+        final List<CamelValidation<?>> validations = requests.requests().stream()
+            .map(Request::validation)
+            .distinct()
+            .toList();
+        final Map<CamelValidation<?>, Object> results = new HashMap<>();
+        for (CamelValidation<?> validation : validations) {
+            ProgressManager.checkCanceled();
+            Object result = validation.validate();
+            if (result != null) {
+                results.put(validation, result);
+            }
+        }
+        return new Results(requests.requests(), results);
+    }
+
+    @Override
+    public void apply(@NotNull PsiFile file, Results results, @NotNull AnnotationHolder holder) {
+        for (Request request : results.requests()) {
+            if (!request.element().isValid()) {
+                continue;
+            }
+            request.validation().annotateElement(request.element(), holder);
+            Object result = results.results().get(request.validation());
+            if (result != null) {
+                annotate(request, result, holder);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> void annotate(Request request, Object result, AnnotationHolder holder) {
+        ((CamelValidation<R>) request.validation()).annotate(request.element(), request.text(), (R) result, holder);
+    }
+
+    /**
+     * A validation to execute for a given element.
+     *
+     * @param element    the element to validate.
+     * @param text       the text of the element to validate.
+     * @param validation the validation to execute.
+     */
+    record Request(PsiElement element, String text, CamelValidation<?> validation) {
+    }
+
+    /**
+     * All the validations to execute for a file.
+     *
+     * @param requests the validations to execute.
+     */
+    record Requests(List<Request> requests) {
+    }
+
+    /**
+     * The results of the validations of a file.
+     *
+     * @param requests the validations that have been executed.
+     * @param results  the non-{@code null} results of the validations.
+     */
+    record Results(List<Request> requests, Map<CamelValidation<?>, Object> results) {
+    }
+}
@@ -23,10 +23,12 @@ import com.github.cameltooling.idea.util.CamelIdeaUtils;
 import com.github.cameltooling.idea.util.IdeaUtils;
 import com.intellij.lang.annotation.AnnotationHolder;
 import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.lang.properties.psi.PropertiesFile;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.xml.XmlAttributeValue;
 import org.apache.camel.catalog.CamelCatalog;
 import org.apache.camel.catalog.LanguageValidationResult;
@@ -44,11 +46,18 @@ public class CamelLanguageAnnotator extends AbstractCamelAnnotator {
         return CamelPreferenceService.getService().isRealTimeJSonPathValidation() || CamelPreferenceService.getService().isRealTimeJQValidation() || CamelPreferenceService.getService().isRealTimeXPathValidation();
     }
 
+    @Override
+    boolean isSupported(@NotNull PsiFile file) {
+        // the language expressions are not validated in properties files
+        return !(file instanceof PropertiesFile);
+    }
+
     /**
-     * Validate language expression, such as jsonpath("$.store.book[?(@.price < 10)]")
+     * Prepare the validation of the language expression, such as jsonpath("$.store.book[?(@.price < 10)]")
      * if the expression is not valid an error annotation is created and highlight the invalid value.
      */
-    void validateText(@NotNull PsiElement element, @NotNull AnnotationHolder holder, @NotNull String text) {
+    @Override
+    CamelValidation<?> prepareValidation(@NotNull PsiElement element, @NotNull String text) {
         final CamelIdeaUtils camelIdeaUtils = CamelIdeaUtils.getService();
 
         boolean json = CamelPreferenceService.getService().isRealTimeJSonPathValidation() && camelIdeaUtils.isCamelExpression(element, "jsonpath");
@@ -56,7 +65,6 @@ public class CamelLanguageAnnotator extends AbstractCamelAnnotator {
         boolean xpath = CamelPreferenceService.getService().isRealTimeXPathValidation() && camelIdeaUtils.isCamelExpression(element, "xpath");
         if (json || jq || xpath) {
             Project project = element.getProject();
-            CamelCatalog catalogService = project.getService(CamelCatalogService.class).get();
             CamelService camelService = project.getService(CamelService.class);
 
             // must have the supporting library
@@ -74,42 +82,71 @@ public class CamelLanguageAnnotator extends AbstractCamelAnnotator {
             }
             if (!camelService.containsLibrary(lib, false)) {
                 camelService.showMissingLanguageJarNotification(lib);
-                return;
+                return null;
             }
 
+            // need to use the classloader that can load classes from the project
+            ClassLoader loader = camelService.getProjectClassloader();
+            if (loader != null) {
+                return new LanguageValidation(
+                    project.getService(CamelCatalogService.class).get(), loader, lan, text,
+                    camelIdeaUtils.isCamelExpressionUsedAsPredicate(element, lan)
+                );
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The validation of a language expression or predicate.
+     *
+     * @param catalog   the catalog to use for the validation.
+     * @param loader    the classloader that can load classes from the project.
+     * @param language  the name of the language of the text.
+     * @param text      the expression or predicate to validate.
+     * @param predicate whether the text is used as a predicate.
+     */
+    private record LanguageValidation(CamelCatalog catalog, ClassLoader loader, String language, String text,
+                                      boolean predicate) implements CamelValidation<LanguageValidationResult> {
+
+        @Override
+        public LanguageValidationResult validate() {
             try {
-                // need to use the classloader that can load classes from the project
-                ClassLoader loader = camelService.getProjectClassloader();
-                if (loader != null) {
-                    LanguageValidationResult result;
-                    boolean predicate = camelIdeaUtils.isCamelExpressionUsedAsPredicate(element, lan);
-                    if (predicate) {
-                        LOG.debug("Inspecting " + lan + " predicate: " + text);
-                        result = catalogService.validateLanguagePredicate(loader, lan, text);
-                    } else {
-                        LOG.debug("Inspecting " + lan + " expression: " + text);
-                        result = catalogService.validateLanguageExpression(loader, lan, text);
-                    }
-                    if (!result.isSuccess()) {
-                        String error = result.getShortError();
-                        if ("[null]".equals(error)) {
-                            return;
-                        }
-                        if (error == null) {
-                            error = result.getError();
-                        }
-                        TextRange range = element.getTextRange();
-                        if (result.getIndex() > 0) {
-                            range = getAdjustedTextRange(element, range, text, result);
-
-                        }
-                        holder.newAnnotation(HighlightSeverity.ERROR, error)
-                                .range(range).create();
-                    }
+                LanguageValidationResult result;
+                if (predicate) {
+                    LOG.debug("Inspecting " + language + " predicate: " + text);
+                    result = CamelCatalogService.withExclusiveAccess(
+                        catalog, () -> catalog.validateLanguagePredicate(loader, language, text)
+                    );
+                } else {
+                    LOG.debug("Inspecting " + language + " expression: " + text);
+                    result = CamelCatalogService.withExclusiveAccess(
+                        catalog, () -> catalog.validateLanguageExpression(loader, language, text)
+                    );
+                }
+                if (!result.isSuccess() && !"[null]".equals(result.getShortError())) {
+                    return result;
                 }
             } catch (Throwable e) {
-                LOG.warn("Error inspecting Camel " + lan + ": " + text, e);
+                LOG.warn("Error inspecting Camel " + language + ": " + text, e);
+            }
+            return null;
+        }
+
+        @Override
+        public void annotate(@NotNull PsiElement element, @NotNull String text, @NotNull LanguageValidationResult result,
+                             @NotNull AnnotationHolder holder) {
+            String error = result.getShortError();
+            if (error == null) {
+                error = result.getError();
+            }
+            TextRange range = element.getTextRange();
+            if (result.getIndex() > 0) {
+                range = getAdjustedTextRange(element, range, text, result);
+
             }
+            holder.newAnnotation(HighlightSeverity.ERROR, error)
+                    .range(range).create();
         }
     }
 
@@ -117,7 +154,7 @@ public class CamelLanguageAnnotator extends AbstractCamelAnnotator {
      * Adjust the text range according to the type of ${@link PsiElement}
      * @return a new text range
      */
-    private TextRange getAdjustedTextRange(@NotNull PsiElement element, TextRange range, String text, LanguageValidationResult result) {
+    private static TextRange getAdjustedTextRange(@NotNull PsiElement element, TextRange range, String text, LanguageValidationResult result) {
         if (element instanceof XmlAttributeValue) {
             // we can use the xml range as-is
             range = ((XmlAttributeValue) element).getValueTextRange();
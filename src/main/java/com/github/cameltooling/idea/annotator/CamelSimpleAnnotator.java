@@ -24,11 +24,13 @@ import com.github.cameltooling.idea.util.CamelIdeaUtils;
 import com.github.cameltooling.idea.util.IdeaUtils;
 import com.intellij.lang.annotation.AnnotationHolder;
 import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.lang.properties.psi.PropertiesFile;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.xml.XmlAttributeValue;
 import org.apache.camel.catalog.CamelCatalog;
 import org.apache.camel.catalog.LanguageValidationResult;
@@ -46,58 +48,88 @@ public class CamelSimpleAnnotator extends AbstractCamelAnnotator {
         return CamelPreferenceService.getService().isRealTimeSimpleValidation();
     }
 
+    @Override
+    boolean isSupported(@NotNull PsiFile file) {
+        // the simple expressions are not validated in properties files
+        return !(file instanceof PropertiesFile);
+    }
+
     /**
-     * Validate simple expression. eg simple("${body}")
+     * Prepare the validation of the simple expression. eg simple("${body}")
      * if the expression is not valid a error annotation is created and highlight the invalid value.
      */
-    void validateText(@NotNull PsiElement element, @NotNull AnnotationHolder holder, @NotNull String text) {
+    @Override
+    CamelValidation<?> prepareValidation(@NotNull PsiElement element, @NotNull String text) {
 
         final CamelIdeaUtils camelIdeaUtils = CamelIdeaUtils.getService();
 
         // we only want to evaluate if there is a simple function as plain text without functions dont make sense to validate
         boolean hasSimple = text.contains("${") || text.contains("$simple{");
         if (hasSimple && camelIdeaUtils.isCamelExpression(element, "simple")) {
-            CamelCatalog catalogService = element.getProject().getService(CamelCatalogService.class).get();
-            CamelService camelService = element.getProject().getService(CamelService.class);
+            // need to use the classloader that can load classes from the camel-core
+            ClassLoader loader = element.getProject().getService(CamelService.class).getCamelCoreClassloader();
+            if (loader != null) {
+                return new SimpleValidation(
+                    element.getProject().getService(CamelCatalogService.class).get(), loader, text,
+                    camelIdeaUtils.isCamelExpressionUsedAsPredicate(element, "simple")
+                );
+            }
+        }
+        return null;
+    }
 
-            boolean predicate = false;
+    /**
+     * The validation of a simple expression or predicate.
+     *
+     * @param catalog   the catalog to use for the validation.
+     * @param loader    the classloader that can load classes from the camel-core.
+     * @param text      the simple expression or predicate to validate.
+     * @param predicate whether the text is used as a predicate.
+     */
+    private record SimpleValidation(CamelCatalog catalog, ClassLoader loader, String text,
+                                    boolean predicate) implements CamelValidation<LanguageValidationResult> {
+
+        @Override
+        public LanguageValidationResult validate() {
             try {
-                // need to use the classloader that can load classes from the camel-core
-                ClassLoader loader = camelService.getCamelCoreClassloader();
-                if (loader != null) {
-                    LanguageValidationResult result;
-                    predicate = camelIdeaUtils.isCamelExpressionUsedAsPredicate(element, "simple");
-                    if (predicate) {
-                        LOG.debug("Validate simple predicate: " + text);
-                        result = catalogService.validateLanguagePredicate(loader, "simple", text);
-                    } else {
-                        LOG.debug("Validate simple expression: " + text);
-                        result = catalogService.validateLanguageExpression(loader, "simple", text);
-                    }
-                    if (!result.isSuccess()) {
-                        String error = result.getShortError();
-                        if ("[null]".equals(error)) {
-                            return;
-                        }
-                        String missingBeanName = extractMissingBeanName(result);
-                        if (missingBeanName != null) {
-                            Module module = ModuleUtilCore.findModuleForPsiElement(element);
-                            boolean beanExists = module != null && BeanUtils.getService().findReferenceableBeanId(module, missingBeanName).isPresent();
-                            if (beanExists) {
-                                return; // camel catalog's validator can't see the beans we can see, let's ignore the error if we known the bean exists
-                            }
-                        }
-                        TextRange range = element.getTextRange();
-                        if (result.getIndex() > 0) {
-                            range = getAdjustedTextRange(element, range, text, result);
-                        }
-                        holder.newAnnotation(HighlightSeverity.ERROR, error)
-                                .range(range).create();
-                    }
+                LanguageValidationResult result;
+                if (predicate) {
+                    LOG.debug("Validate simple predicate: " + text);
+                    result = CamelCatalogService.withExclusiveAccess(
+                        catalog, () -> catalog.validateLanguagePredicate(loader, "simple", text)
+                    );
+                } else {
+                    LOG.debug("Validate simple expression: " + text);
+                    result = CamelCatalogService.withExclusiveAccess(
+                        catalog, () -> catalog.validateLanguageExpression(loader, "simple", text)
+                    );
+                }
+                if (!result.isSuccess() && !"[null]".equals(result.getShortError())) {
+                    return result;
                 }
             } catch (Throwable e) {
                 LOG.warn("Error validating Camel simple " + (predicate ? "predicate" : "expression") + ": " + text, e);
             }
+            return null;
+        }
+
+        @Override
+        public void annotate(@NotNull PsiElement element, @NotNull String text, @NotNull LanguageValidationResult result,
+                             @NotNull AnnotationHolder holder) {
+            String missingBeanName = extractMissingBeanName(result);
+            if (missingBeanName != null) {
+                Module module = ModuleUtilCore.findModuleForPsiElement(element);
+                boolean beanExists = module != null && BeanUtils.getService().findReferenceableBeanId(module, missingBeanName).isPresent();
+                if (beanExists) {
+                    return; // camel catalog's validator can't see the beans we can see, let's ignore the error if we known the bean exists
+                }
+            }
+            TextRange range = element.getTextRange();
+            if (result.getIndex() > 0) {
+                range = getAdjustedTextRange(element, range, text, result);
+            }
+            holder.newAnnotation(HighlightSeverity.ERROR, result.getShortError())
+                    .range(range).create();
         }
     }
 
@@ -105,7 +137,7 @@ public class CamelSimpleAnnotator extends AbstractCamelAnnotator {
      * This is hoping that the error message will stay the same forever.
      * Could be implemented in a different way, see GH issue #1115 - supply list of beans we know to Camel catalog's validator.
      */
-    private String extractMissingBeanName(LanguageValidationResult result) {
+    private static String extractMissingBeanName(LanguageValidationResult result) {
         String missingBeanErrorPrefix = "No bean could be found in the registry for: ";
         String error = result.getError();
         if (error.startsWith(missingBeanErrorPrefix)) {
@@ -122,7 +154,7 @@ public class CamelSimpleAnnotator extends AbstractCamelAnnotator {
      * Adjust the text range according to the type of ${@link PsiElement}
      * @return a new text range
      */
-    private TextRange getAdjustedTextRange(@NotNull PsiElement element, TextRange range, String text, LanguageValidationResult result) {
+    private static TextRange getAdjustedTextRange(@NotNull PsiElement element, TextRange range, String text, LanguageValidationResult result) {
         if (element instanceof XmlAttributeValue) {
             // we can use the xml range as-is
             range = ((XmlAttributeValue) element).getValueTextRange();
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.annotator;
+
+import com.intellij.lang.annotation.AnnotationHolder;
+import com.intellij.psi.PsiElement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The validation of a text found in an element. The validation is prepared with access to the PSI, then executed
+ * without any access to the PSI, which allows to execute it in the background, and finally its result is turned into
+ * annotations with access to the PSI.
+ * <p/>
+ * The implementations are expected to be records holding only what is needed to execute the validation, so that the
+ * identical validations of a file are executed only once.
+ *
+ * @param <R> the type of result of the validation.
+ */
+interface CamelValidation<R> {
+
+    /**
+     * Executes the validation, no PSI can be accessed from this method.
+     *
+     * @return the result of the validation, {@code null} if there is nothing to report.
+     */
+    @Nullable
+    R validate();
+
+    /**
+     * Creates the annotations corresponding to the given result of the validation.
+     *
+     * @param element the element that has been validated.
+     * @param text    the text of the element that has been validated.
+     * @param result  the result of the validation.
+     * @param holder  the holder into which the annotations are added.
+     */
+    void annotate(@NotNull PsiElement element, @NotNull String text, @NotNull R result, @NotNull AnnotationHolder holder);
+
+    /**
+     * Creates the annotations of the given element that do not depend on the result of the validation, whatever the
+     * result is.
+     *
+     * @param element the element that has been validated.
+     * @param holder  the holder into which the annotations are added.
+     */
+    default void annotateElement(@NotNull PsiElement element, @NotNull AnnotationHolder holder) {
+        // Nothing by default
+    }
+
+    /**
+     * Executes the validation and creates the annotations corresponding to its result.
+     *
+     * @param element the element to validate.
+     * @param text    the text of the element to validate.
+     * @param holder  the holder into which the annotations are added.
+     */
+    default void validateAndAnnotate(@NotNull PsiElement element, @NotNull String text, @NotNull AnnotationHolder holder) {
+        annotateElement(element, holder);
+        R result = validate();
+        if (result != null) {
+            annotate(element, text, result, holder);
+        }
+    }
+}
@@ -33,6 +33,10 @@ public class OptionSuggestion {
      * The lookup string to use.
      */
     private final String lookupString;
+    /**
+     * The name of the component to which the option belongs, {@code null} if unknown.
+     */
+    private final String componentName;
 
     /**
      * Construct a {@code OptionSuggestion} with the given parameters.
@@ -40,14 +44,29 @@ public class OptionSuggestion {
      * @param lookupString the lookup string to use
      */
     public OptionSuggestion(BaseOptionModel option, String lookupString) {
+        this(option, lookupString, null);
+    }
+
+    /**
+     * Construct a {@code OptionSuggestion} with the given parameters.
+     * @param option the suggested option
+     * @param lookupString the lookup string to use
+     * @param componentName the name of the component to which the option belongs, {@code null} if unknown.
+     */
+    public OptionSuggestion(BaseOptionModel option, String lookupString, String componentName) {
         this.option = option;
         this.lookupString = lookupString;
+        this.componentName = componentName;
     }
 
     public BaseOptionModel getOption() {
         return option;
     }
 
+    public String getComponentName() {
+        return componentName;
+    }
+
     @Override
     public String toString() {
         return lookupString;
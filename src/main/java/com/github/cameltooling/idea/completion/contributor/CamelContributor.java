@@ -28,6 +28,10 @@ import com.intellij.codeInsight.completion.CompletionProvider;
 import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.completion.CompletionType;
 import com.intellij.codeInsight.completion.CompletionUtil;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.patterns.ElementPattern;
 import com.intellij.patterns.InitialPatternCondition;
 import com.intellij.patterns.PsiFilePattern;
 import com.intellij.psi.PsiElement;
@@ -39,10 +43,21 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Hook into the IDEA language completion system, to setup Camel smart completion.
  * Extend this class to define what it should re-act on when using smart completion
+ * <p/>
+ * While the project is being indexed, only the completion extensions that are {@link DumbAware} are called, the
+ * other completion providers wait for the indexes.
  */
-public abstract class CamelContributor extends CompletionContributor {
+public abstract class CamelContributor extends CompletionContributor implements DumbAware {
 
     private final List<CamelCompletionExtension> camelCompletionExtensions = new ArrayList<>();
+    /**
+     * The location where the completion extensions are called.
+     */
+    private ElementPattern<? extends PsiElement> completionExtensionsPlace;
+    /**
+     * The provider calling the completion extensions.
+     */
+    private CompositeCompletionProvider completionExtensionsProvider;
 
     CamelContributor() {
     }
@@ -61,9 +76,12 @@ public abstract class CamelContributor extends CompletionContributor {
         public void addCompletions(@NotNull CompletionParameters parameters,
                                    ProcessingContext context,
                                    @NotNull CompletionResultSet resultSet) {
-            if (parameters.getOriginalFile().getProject().getService(CamelService.class).isCamelProject()) {
+            final Project project = parameters.getOriginalFile().getProject();
+            if (project.getService(CamelService.class).isCamelProject()) {
+                final boolean dumb = DumbService.isDumb(project);
                 CompletionQuery query = parsePsiElement(parameters);
                 camelCompletionExtensions.stream()
+                    .filter(p -> !dumb || DumbService.isDumbAware(p))
                     .filter(p -> isSupportedCompletionType(p, parameters.getCompletionType()))
                     .filter(p -> p.isValid(parameters, context, query))
                     .forEach(p -> p.addCompletions(parameters, context, resultSet, query));
@@ -79,6 +97,19 @@ public abstract class CamelContributor extends CompletionContributor {
         }
     }
 
+    @Override
+    public void fillCompletionVariants(@NotNull CompletionParameters parameters, @NotNull CompletionResultSet result) {
+        if (!DumbService.isDumb(parameters.getPosition().getProject())) {
+            super.fillCompletionVariants(parameters, result);
+        } else if (completionExtensionsProvider != null) {
+            // Only the completion extensions can be called while the project is being indexed
+            final ProcessingContext context = new ProcessingContext();
+            if (completionExtensionsPlace.accepts(parameters.getPosition(), context)) {
+                completionExtensionsProvider.addCompletionVariants(parameters, context, result);
+            }
+        }
+    }
+
     /**
      * Parse the PSI text {@link CompletionUtil#DUMMY_IDENTIFIER} and " character and remove them.
      * <p/>
@@ -134,6 +165,15 @@ public abstract class CamelContributor extends CompletionContributor {
         return camelCompletionExtensions;
     }
 
+    /**
+     * Calls the completion extensions for any type of completion at the given location.
+     */
+    void extendWithCompletionExtensions(ElementPattern<? extends PsiElement> place) {
+        this.completionExtensionsPlace = place;
+        this.completionExtensionsProvider = new CompositeCompletionProvider(camelCompletionExtensions);
+        extend(null, place, completionExtensionsProvider);
+    }
+
     /**
      * Checks if it is a file with the expected type
      */
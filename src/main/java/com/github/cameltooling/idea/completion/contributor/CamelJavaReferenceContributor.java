@@ -49,9 +49,7 @@ public class CamelJavaReferenceContributor extends CamelContributor {
         addCompletionExtension(new CamelEndpointNameCompletionExtension());
         addCompletionExtension(new CamelEndpointSmartCompletionExtension(false));
         addCompletionExtension(new CamelPropertyPlaceholderSmartCompletionExtension());
-        extend(null, psiElement().and(psiElement().inside(PsiFile.class).inFile(matchFileType("java"))),
-            new CompositeCompletionProvider(getCamelCompletionExtensions())
-        );
+        extendWithCompletionExtensions(psiElement().and(psiElement().inside(PsiFile.class).inFile(matchFileType("java"))));
         extend(CompletionType.BASIC, psiElement(PsiJavaToken.class).with(new PatternCondition<>("CamelJavaBeanReferenceSmartCompletion") {
             @Override
             public boolean accepts(@NotNull PsiJavaToken psiJavaToken, ProcessingContext processingContext) {
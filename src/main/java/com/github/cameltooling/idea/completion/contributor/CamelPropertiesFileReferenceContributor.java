@@ -36,10 +36,7 @@ public class CamelPropertiesFileReferenceContributor extends CamelContributor {
         addCompletionExtension(new CamelEndpointSmartCompletionExtension(false));
         // To match with file with "properties" as extension
         final PsiFilePattern.Capture<PsiFile> filePattern = matchFileType("properties");
-        extend(null,
-                psiElement().and(psiElement().inside(PsiFile.class).inFile(filePattern)),
-                new CompositeCompletionProvider(getCamelCompletionExtensions())
-        );
+        extendWithCompletionExtensions(psiElement().and(psiElement().inside(PsiFile.class).inFile(filePattern)));
         // The key of the property corresponding to key characters in a properties file
         extend(CompletionType.BASIC,
             psiElement(PropertiesTokenTypes.KEY_CHARACTERS)
@@ -47,10 +47,7 @@ public class CamelXmlReferenceContributor extends CamelContributor {
         addCompletionExtension(new CamelEndpointNameCompletionExtension());
         addCompletionExtension(new CamelEndpointSmartCompletionExtension(true));
         addCompletionExtension(new CamelPropertyPlaceholderSmartCompletionExtension());
-        extend(null, // any completion type
-                psiElement().and(psiElement().inside(PsiFile.class).inFile(matchFileType("xml"))),
-                new CompositeCompletionProvider(getCamelCompletionExtensions())
-        );
+        extendWithCompletionExtensions(psiElement().and(psiElement().inside(PsiFile.class).inFile(matchFileType("xml"))));
         final String setHeaderTagName = "setHeader";
         // The name of the header corresponding to the attribute "name" of the tag "setHeader"
         extend(CompletionType.BASIC,
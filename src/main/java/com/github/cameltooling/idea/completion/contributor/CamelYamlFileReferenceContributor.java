@@ -88,10 +88,7 @@ public class CamelYamlFileReferenceContributor extends CamelContributor {
         addCompletionExtension(new CamelEndpointNameCompletionExtension());
         addCompletionExtension(new CamelEndpointSmartCompletionExtension(false));
         addCompletionExtension(new CamelPropertyPlaceholderSmartCompletionExtension());
-        extend(null,
-            psiElement().and(psiElement().inside(PsiFile.class).inFile(matchFileType("yaml", "yml"))),
-            new CompositeCompletionProvider(getCamelCompletionExtensions())
-        );
+        extendWithCompletionExtensions(psiElement().and(psiElement().inside(PsiFile.class).inFile(matchFileType("yaml", "yml"))));
         final String[] setHeaderTagNames = {"set-header", "setHeader"};
         // The name of the header corresponding to the value of the key "name" in the dictionary
         // set-header or setHeader
@@ -29,13 +29,11 @@ import com.github.cameltooling.idea.completion.extension.CompletionQuery;
 import com.github.cameltooling.idea.service.CamelPreferenceService;
 import com.github.cameltooling.idea.util.CamelIdeaUtils;
 import com.github.cameltooling.idea.util.IdeaUtils;
-import com.github.cameltooling.idea.util.JavaClassUtils;
 import com.intellij.codeInsight.completion.PrioritizedLookupElement;
 import com.intellij.codeInsight.lookup.AutoCompletionPolicy;
 import com.intellij.codeInsight.lookup.Lookup;
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
-import com.intellij.icons.AllIcons;
 import com.intellij.lang.properties.psi.impl.PropertiesFileImpl;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.editor.EditorModificationUtil;
@@ -98,8 +96,9 @@ public final class CamelSmartCompletionEndpointOptions {
                 this.suffix = query.suffix();
                 this.xmlMode = xmlMode;
                 final CamelIdeaUtils camelIdeaUtils = CamelIdeaUtils.getService();
-                this.consumerOnly = camelIdeaUtils.isConsumerEndpoint(element);
-                this.producerOnly = camelIdeaUtils.isProducerEndpoint(element);
+                final IdeaUtils ideaUtils = IdeaUtils.getService();
+                this.consumerOnly = ideaUtils.testInDumbMode(element, camelIdeaUtils::isConsumerEndpoint, false);
+                this.producerOnly = ideaUtils.testInDumbMode(element, camelIdeaUtils::isProducerEndpoint, false);
             }
 
             public String getQueryAtPosition() {
@@ -154,87 +153,47 @@ public final class CamelSmartCompletionEndpointOptions {
         if (context.isXmlMode()) {
             queryAtPosition = queryAtPosition.replace("&amp;", "&");
         }
-
-        final List<ComponentModel.EndpointOptionModel> options = component.getEndpointOptions();
-        // sort the options A..Z which is easier to users to understand
-        options.sort((o1, o2) -> o1
-                .getName()
-                .compareToIgnoreCase(o2.getName()));
         queryAtPosition = removeUnknownOption(queryAtPosition, existing, element);
 
-        for (final ComponentModel.EndpointOptionModel option : options) {
-
-            if ("parameter".equals(option.getKind())) {
-                final String name = option.getName();
-
-                // if we are consumer only, then any option that has producer in the label should be skipped (as its only for producer)
-                if (context.isConsumerOnly() && option.getLabel() != null && option.getLabel().contains("producer")) {
-                    continue;
-                }
-                // if we are producer only, then any option that has consumer in the label should be skipped (as its only for consumer)
-                if (context.isProducerOnly() && option.getLabel() != null && option.getLabel().contains("consumer")) {
-                    continue;
-                }
-
-                // only add if not already used (or if the option is multi valued then it can have many)
-                final String old = existing != null ? existing.get(name) : "";
-                if (option.isMultiValue() || existing == null || old == null || old.isEmpty()) {
-
-                    // no tail for prefix, otherwise use = to setup for value
-                    final String key = option.getPrefix() != null ? option.getPrefix() : name;
-
-                    // the lookup should prepare for the new option
-                    String lookup;
-                    if (context.isLookupAsURI()) {
-                        final String concatQuery = context.getConcatQuery();
-                        if (!concatQuery.contains("?")) {
-                            // none existing options so we need to start with a ? mark
-                            lookup = queryAtPosition + "?" + key;
+        // the options are already sorted A..Z and filtered according to the type of endpoint
+        final List<EndpointOptionTable.Entry> entries = EndpointOptionTable.of(component)
+            .getParameters(context.isConsumerOnly(), context.isProducerOnly());
+        for (final EndpointOptionTable.Entry entry : entries) {
+            final ComponentModel.EndpointOptionModel option = entry.getOption();
+
+            // only add if not already used (or if the option is multi valued then it can have many)
+            final String old = existing != null ? existing.get(entry.getName()) : "";
+            if (option.isMultiValue() || existing == null || old == null || old.isEmpty()) {
+                final String key = entry.getKey();
+
+                // the lookup should prepare for the new option
+                String lookup;
+                if (context.isLookupAsURI()) {
+                    final String concatQuery = context.getConcatQuery();
+                    if (!concatQuery.contains("?")) {
+                        // none existing options so we need to start with a ? mark
+                        lookup = queryAtPosition + "?" + key;
+                    } else {
+                        if (!queryAtPosition.endsWith("&") && !queryAtPosition.endsWith("?")) {
+                            lookup = queryAtPosition + "&" + key;
                         } else {
-                            if (!queryAtPosition.endsWith("&") && !queryAtPosition.endsWith("?")) {
-                                lookup = queryAtPosition + "&" + key;
-                            } else {
-                                // there is already either an ending ? or &
-                                lookup = queryAtPosition + key;
-                            }
+                            // there is already either an ending ? or &
+                            lookup = queryAtPosition + key;
                         }
-                        if (context.isXmlMode()) {
-                            lookup = lookup.replace("&", "&amp;");
-                        }
-                    } else {
-                        lookup = queryAtPosition + key;
                     }
-                    LookupElementBuilder builder = LookupElementBuilder.create(new OptionSuggestion(option, lookup));
-                    builder = addInsertHandler(editor, builder, context.getLookupSuffixChar(), context.getLookupSuffix(), context.getSuffix());
-                    // only show the option in the UI
-                    builder = builder.withPresentableText(name);
-                    // we don't want to highlight the advanced options which should be more seldom in use
-                    final boolean advanced = option
-                            .getGroup()
-                            .contains("advanced");
-                    builder = builder.withBoldness(!advanced);
-                    if (!option.getJavaType().isEmpty()) {
-                        builder = builder.withTypeText(JavaClassUtils.getService().toSimpleType(option.getJavaType()), true);
+                    if (context.isXmlMode()) {
+                        lookup = lookup.replace("&", "&amp;");
                     }
-                    if (option.isDeprecated()) {
-                        // mark as deprecated
-                        builder = builder.withStrikeoutness(true);
-                    }
-                    // add icons for various options
-                    if (option.isRequired()) {
-                        builder = builder.withIcon(AllIcons.Nodes.Favorite);
-                    } else if (option.isSecret()) {
-                        builder = builder.withIcon(AllIcons.Nodes.SecurityRole);
-                    } else if (option.isMultiValue()) {
-                        builder = builder.withIcon(AllIcons.General.ArrowRight);
-                    } else if (option.getEnums() != null) {
-                        builder = builder.withIcon(AllIcons.Nodes.Enum);
-                    } else if ("object".equals(option.getType())) {
-                        builder = builder.withIcon(AllIcons.Nodes.Class);
-                    }
-
-                    answer.add(builder.withAutoCompletionPolicy(AutoCompletionPolicy.GIVE_CHANCE_TO_OVERWRITE));
+                } else {
+                    lookup = queryAtPosition + key;
                 }
+                LookupElementBuilder builder = LookupElementBuilder.create(
+                    new OptionSuggestion(option, lookup, component.getScheme())
+                );
+                builder = addInsertHandler(editor, builder, context.getLookupSuffixChar(), context.getLookupSuffix(), context.getSuffix());
+                // the presentation of the option is precomputed
+                builder = builder.withRenderer(entry);
+                answer.add(builder.withAutoCompletionPolicy(AutoCompletionPolicy.GIVE_CHANCE_TO_OVERWRITE));
             }
         }
 
@@ -290,13 +249,14 @@ public final class CamelSmartCompletionEndpointOptions {
                         List<String> enums = option.getEnums();
                         if (enums == null || enums.isEmpty()) {
                             priority = createContextPathLookupElement(
-                                answer, priority, option, name, option.getDisplayName(), val + name, iconProvider
+                                answer, priority, component, option, name, option.getDisplayName(), val + name,
+                                iconProvider
                             );
                         } else {
                             // add all enum as choices
                             for (final String choice : enums) {
                                 priority = createContextPathLookupElement(
-                                    answer, priority, option, name, choice, val + choice, iconProvider
+                                    answer, priority, component, option, name, choice, val + choice, iconProvider
                                 );
                             }
                         }
@@ -309,10 +269,13 @@ public final class CamelSmartCompletionEndpointOptions {
     }
 
     private static double createContextPathLookupElement(List<LookupElement> answer, double priority,
+                                                         ComponentModel component,
                                                          ComponentModel.EndpointOptionModel option, String name,
                                                          String choice, String lookup,
                                                          Function<ComponentModel.EndpointOptionModel, Icon> iconProvider) {
-        LookupElementBuilder builder = LookupElementBuilder.create(new OptionSuggestion(option, lookup));
+        LookupElementBuilder builder = LookupElementBuilder.create(
+            new OptionSuggestion(option, lookup, component.getScheme())
+        );
         // only show the option in the UI
         builder = builder.withPresentableText(choice);
         // lets use the option name as the type so its visible
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.completion.endpoint;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.swing.*;
+
+import com.github.cameltooling.idea.util.JavaClassUtils;
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.codeInsight.lookup.LookupElementRenderer;
+import com.intellij.icons.AllIcons;
+import com.intellij.util.containers.CollectionFactory;
+import org.apache.camel.tooling.model.ComponentModel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@code EndpointOptionTable} is an immutable view of the endpoint options of a component that is computed once per
+ * component model, and therefore per version of the catalog, to avoid re-deriving the suggestions of the options on
+ * each completion.
+ * <p/>
+ * It gives access to the options by name and to the query parameters sorted by name and filtered according to the
+ * type of endpoint, with their presentation already computed, so that only the options already used and the lookup
+ * strings depend on the completion.
+ */
+public final class EndpointOptionTable {
+
+    /**
+     * The tables indexed by component model. The models are weakly referenced as they are cached by the catalog
+     * which means that the tables are released with the catalog.
+     */
+    private static final ConcurrentMap<ComponentModel, EndpointOptionTable> TABLES =
+        CollectionFactory.createConcurrentWeakIdentityMap();
+
+    /**
+     * The options indexed by name.
+     */
+    private final Map<String, ComponentModel.EndpointOptionModel> options;
+    /**
+     * The query parameters that can be suggested for any endpoint.
+     */
+    private final List<Entry> parameters;
+    /**
+     * The query parameters that can be suggested for a consumer endpoint.
+     */
+    private final List<Entry> consumerParameters;
+    /**
+     * The query parameters that can be suggested for a producer endpoint.
+     */
+    private final List<Entry> producerParameters;
+    /**
+     * The query parameters that can be suggested for an endpoint that is both a consumer and a producer.
+     */
+    private final List<Entry> commonParameters;
+
+    private EndpointOptionTable(ComponentModel component) {
+        final Map<String, ComponentModel.EndpointOptionModel> byName = new HashMap<>();
+        for (ComponentModel.EndpointOptionModel option : component.getEndpointOptions()) {
+            byName.putIfAbsent(option.getName(), option);
+        }
+        this.options = Map.copyOf(byName);
+        // sort the options A..Z which is easier to users to understand
+        this.parameters = component.getEndpointOptions().stream()
+            .filter(option -> "parameter".equals(option.getKind()))
+            .sorted(Comparator.comparing(ComponentModel.EndpointOptionModel::getName, String::compareToIgnoreCase))
+            .map(Entry::new)
+            .toList();
+        // if we are consumer only, then any option that has producer in the label should be skipped (as its only for producer)
+        this.consumerParameters = parameters.stream().filter(entry -> !entry.hasLabel("producer")).toList();
+        // if we are producer only, then any option that has consumer in the label should be skipped (as its only for consumer)
+        this.producerParameters = parameters.stream().filter(entry -> !entry.hasLabel("consumer")).toList();
+        this.commonParameters = consumerParameters.stream().filter(entry -> !entry.hasLabel("consumer")).toList();
+    }
+
+    /**
+     * @param component the component for which the table is expected.
+     * @return the table of the options of the given component.
+     */
+    @NotNull
+    public static EndpointOptionTable of(@NotNull ComponentModel component) {
+        return TABLES.computeIfAbsent(component, EndpointOptionTable::new);
+    }
+
+    /**
+     * @param name the name of the option to find.
+     * @return the option of the component with the given name, {@code null} if it doesn't exist.
+     */
+    @Nullable
+    public ComponentModel.EndpointOptionModel getOption(@NotNull String name) {
+        return options.get(name);
+    }
+
+    /**
+     * @param consumerOnly {@code true} if the endpoint is a consumer, {@code false} otherwise.
+     * @param producerOnly {@code true} if the endpoint is a producer, {@code false} otherwise.
+     * @return the query parameters that can be suggested for the given type of endpoint sorted by name.
+     */
+    @NotNull
+    public List<Entry> getParameters(boolean consumerOnly, boolean producerOnly) {
+        if (consumerOnly) {
+            return producerOnly ? commonParameters : consumerParameters;
+        }
+        return producerOnly ? producerParameters : parameters;
+    }
+
+    /**
+     * A query parameter of the component with its precomputed presentation.
+     */
+    public static final class Entry implements LookupElementRenderer<LookupElement> {
+
+        private final ComponentModel.EndpointOptionModel option;
+        /**
+         * The key to insert, no tail for prefix, otherwise the value will be set up after the name.
+         */
+        private final String key;
+        private final String typeText;
+        private final Icon icon;
+        /**
+         * We don't want to highlight the advanced options which should be more seldom in use.
+         */
+        private final boolean bold;
+
+        private Entry(ComponentModel.EndpointOptionModel option) {
+            this.option = option;
+            this.key = option.getPrefix() != null ? option.getPrefix() : option.getName();
+            this.typeText = option.getJavaType().isEmpty() ? null : JavaClassUtils.getService().toSimpleType(option.getJavaType());
+            this.icon = toIcon(option);
+            this.bold = !option.getGroup().contains("advanced");
+        }
+
+        public ComponentModel.EndpointOptionModel getOption() {
+            return option;
+        }
+
+        public String getName() {
+            return option.getName();
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        private boolean hasLabel(String label) {
+            return option.getLabel() != null && option.getLabel().contains(label);
+        }
+
+        @Override
+        public void renderElement(LookupElement element, LookupElementPresentation presentation) {
+            // only show the option in the UI
+            presentation.setItemText(option.getName());
+            presentation.setItemTextBold(bold);
+            presentation.setStrikeout(option.isDeprecated());
+            presentation.setTypeText(typeText);
+            presentation.setTypeGrayed(true);
+            presentation.setIcon(icon);
+        }
+
+        /**
+         * @return the icon of the given option.
+         */
+        @Nullable
+        private static Icon toIcon(ComponentModel.EndpointOptionModel option) {
+            if (option.isRequired()) {
+                return AllIcons.Nodes.Favorite;
+            } else if (option.isSecret()) {
+                return AllIcons.Nodes.SecurityRole;
+            } else if (option.isMultiValue()) {
+                return AllIcons.General.ArrowRight;
+            } else if (option.getEnums() != null) {
+                return AllIcons.Nodes.Enum;
+            } else if ("object".equals(option.getType())) {
+                return AllIcons.Nodes.Class;
+            }
+            return null;
+        }
+    }
+}
@@ -48,7 +48,7 @@ public class CamelEndpointNameCompletionExtension extends SimpleCompletionExtens
 
     @NotNull
     private LookupElement createLookupElement(PsiElement endpointElement) {
-        CamelEndpoint endpoint = new CamelEndpoint(endpointElement.getText());
+        CamelEndpoint endpoint = CamelEndpoint.parse(endpointElement.getText());
         return createLookupElement(endpoint.getBaseUri(), endpointElement);
     }
 
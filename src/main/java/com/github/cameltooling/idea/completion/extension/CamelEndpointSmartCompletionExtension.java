@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 import javax.swing.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.cameltooling.idea.completion.endpoint.EndpointOptionTable;
 import com.github.cameltooling.idea.service.CamelCatalogService;
 import com.github.cameltooling.idea.service.CamelProjectPreferenceService;
 import com.github.cameltooling.idea.service.KameletService;
@@ -39,6 +40,7 @@ import com.intellij.codeInsight.completion.CompletionResultSet;
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.icons.AllIcons;
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.DumbAware;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
 import com.intellij.util.ProcessingContext;
@@ -54,8 +56,10 @@ import static com.github.cameltooling.idea.completion.endpoint.CamelSmartComplet
 
 /**
  * Extension for supporting camel smart completion for camel options and values.
+ * <p/>
+ * The options and values come from the catalog, so the completion is also available while the project is being indexed.
  */
-public class CamelEndpointSmartCompletionExtension implements CamelCompletionExtension {
+public class CamelEndpointSmartCompletionExtension implements CamelCompletionExtension, DumbAware {
 
     private static final Logger LOG = Logger.getInstance(CamelEndpointSmartCompletionExtension.class);
 
@@ -138,7 +142,8 @@ public class CamelEndpointSmartCompletionExtension implements CamelCompletionExt
             LOG.warn("Error parsing Camel endpoint properties with url: " + queryAtPosition, e);
         }
         final ComponentModel componentModel = mode.componentModel(
-            project, camelCatalog, componentName, concatQuery, CamelIdeaUtils.getService().isConsumerEndpoint(element)
+            project, camelCatalog, componentName, concatQuery,
+            ideaUtils.testInDumbMode(element, CamelIdeaUtils.getService()::isConsumerEndpoint, false)
         );
         if (componentModel == null) {
             return;
@@ -146,9 +151,7 @@ public class CamelEndpointSmartCompletionExtension implements CamelCompletionExt
         List<LookupElement> answer = null;
         if (editOptionValue) {
             String name = queryParameter[0].substring(1);
-            ComponentModel.EndpointOptionModel endpointOption = componentModel.getEndpointOptions().stream().filter(
-                o -> name.equals(o.getName()))
-                .findFirst().orElse(null);
+            ComponentModel.EndpointOptionModel endpointOption = EndpointOptionTable.of(componentModel).getOption(name);
             if (endpointOption != null) {
                 answer = addSmartCompletionForEndpointValue(parameters.getEditor(), queryAtPosition, suffix, endpointOption, element, xmlMode);
             }
@@ -0,0 +1,379 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.completion.property;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import javax.swing.*;
+
+import com.github.cameltooling.idea.service.CamelCatalogService;
+import com.github.cameltooling.idea.util.JavaClassUtils;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.util.NullableLazyValue;
+import com.intellij.util.containers.CollectionFactory;
+import org.apache.camel.catalog.CamelCatalog;
+import org.apache.camel.tooling.model.ArtifactModel;
+import org.apache.camel.tooling.model.BaseOptionModel;
+import org.apache.camel.tooling.model.ComponentModel;
+import org.apache.camel.tooling.model.DataFormatModel;
+import org.apache.camel.tooling.model.JBangModel;
+import org.apache.camel.tooling.model.JsonMapper;
+import org.apache.camel.tooling.model.LanguageModel;
+import org.apache.camel.tooling.model.MainModel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static com.github.cameltooling.idea.completion.property.CamelPropertyKeyCompletion.COMPONENT_KEY_PREFIX;
+import static com.github.cameltooling.idea.completion.property.CamelPropertyKeyCompletion.DATA_FORMAT_KEY_PREFIX;
+import static com.github.cameltooling.idea.completion.property.CamelPropertyKeyCompletion.JBANG_KEY_PREFIX;
+import static com.github.cameltooling.idea.completion.property.CamelPropertyKeyCompletion.LANGUAGE_KEY_PREFIX;
+
+/**
+ * {@code CamelPropertyKeyTrie} is the tree of all the Camel property keys known by a catalog, organized by section of
+ * key, that is built once per catalog, version, runtime and set of components to avoid extracting the keys from the
+ * metadata on each keystroke.
+ * <p/>
+ * The first level contains the groups of keys, the second level the names of components, data formats and languages
+ * or the options of main and JBang, and the third level the options of a given component, data format or language
+ * which are only extracted from the metadata when the corresponding name is reached for the first time.
+ */
+final class CamelPropertyKeyTrie {
+
+    /**
+     * The tries indexed by catalog. The catalogs are weakly referenced such that the tries are released with them.
+     */
+    private static final ConcurrentMap<CamelCatalog, CamelPropertyKeyTrie> TRIES =
+        CollectionFactory.createConcurrentWeakIdentityMap();
+
+    /**
+     * The second part of the prefix of all camel keys corresponding to the configuration of a given component.
+     */
+    private static final String COMPONENT_KEY_NAME = "component";
+    /**
+     * The second part of the prefix of all camel keys corresponding to the configuration of a given data format.
+     */
+    private static final String DATA_FORMAT_KEY_NAME = "dataformat";
+    /**
+     * The second part of the prefix of all camel keys corresponding to the configuration of a given language.
+     */
+    private static final String LANGUAGE_KEY_NAME = "language";
+    /**
+     * The second part of the prefix of all camel keys corresponding to the configuration of jbang options.
+     */
+    private static final String JBANG_KEY_NAME = "jbang";
+
+    /**
+     * The version, the runtime and the component names of the catalog from which the trie has been built.
+     */
+    private final String key;
+    /**
+     * The suggestions of groups of keys.
+     */
+    private final List<Entry> groups;
+    /**
+     * The nodes of the second level indexed by second section of key.
+     */
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+    /**
+     * All the options of main used when the group of the key is unknown.
+     */
+    private final List<Entry> mainOptions;
+
+    private CamelPropertyKeyTrie(CamelCatalog catalog, String key) {
+        this.key = key;
+        final MainModel mainModel = catalog.mainModel();
+        this.groups = mainModel == null ? List.of() : createGroups(mainModel);
+        this.mainOptions = mainModel == null ? List.of() : mainModel.getOptions().stream().map(Entry::new).toList();
+        // Index the options of main by group, the sections used by components, data formats, languages and
+        // JBang take precedence
+        final Map<String, List<Entry>> mainGroups = new LinkedHashMap<>();
+        for (Entry option : mainOptions) {
+            final String[] sections = option.getKey().split("\\.");
+            if (sections.length > 2) {
+                mainGroups.computeIfAbsent(sections[1], k -> new ArrayList<>()).add(option);
+            }
+        }
+        mainGroups.forEach((group, options) -> nodes.put(group, new Node(List.copyOf(options), null)));
+        final JBangModel jbangModel = catalog.jbangModel();
+        nodes.put(
+            JBANG_KEY_NAME, new Node(jbangModel == null ? List.of() : jbangModel.getOptions().stream().map(Entry::new).toList(), null)
+        );
+        nodes.put(COMPONENT_KEY_NAME, createNode(
+            COMPONENT_KEY_PREFIX, catalog.findComponentNames(), catalog::componentJSonSchema,
+            JsonMapper::generateComponentModel, ComponentModel::getComponentOptions,
+            option -> "property".equals(option.getKind())
+        ));
+        nodes.put(DATA_FORMAT_KEY_NAME, createNode(
+            DATA_FORMAT_KEY_PREFIX, catalog.findDataFormatNames(), catalog::dataFormatJSonSchema,
+            JsonMapper::generateDataFormatModel, DataFormatModel::getOptions,
+            option -> "attribute".equals(option.getKind()) && !"id".equals(option.getName())
+        ));
+        nodes.put(LANGUAGE_KEY_NAME, createNode(
+            LANGUAGE_KEY_PREFIX, catalog.findLanguageNames(), catalog::languageJSonSchema,
+            JsonMapper::generateLanguageModel, LanguageModel::getOptions,
+            option -> "attribute".equals(option.getKind()) && !"id".equals(option.getName())
+        ));
+    }
+
+    /**
+     * @param catalog the catalog for which the trie is expected.
+     * @return the trie of the keys of the given catalog, built again if the version or the runtime of the catalog
+     * changed or if components have been added to the catalog like the custom components found in the libraries of
+     * the project.
+     */
+    static CamelPropertyKeyTrie of(@NotNull CamelCatalog catalog) {
+        final List<String> componentNames = catalog.findComponentNames();
+        final String key = String.join(
+            ":", CamelCatalogService.toVersionKey(catalog), String.valueOf(componentNames.size()),
+            String.valueOf(componentNames.hashCode())
+        );
+        return TRIES.compute(
+            catalog, (c, trie) -> trie != null && trie.key.equals(key) ? trie : new CamelPropertyKeyTrie(c, key)
+        );
+    }
+
+    /**
+     * Walks the trie to the section of key that is being edited.
+     *
+     * @param keys      the sections of the key that is being edited.
+     * @param endsWithDot {@code true} if the key ends with a dot meaning that the last section is complete.
+     * @return the suggestions corresponding to the section of key that is being edited.
+     */
+    List<Entry> suggest(String[] keys, boolean endsWithDot) {
+        if (keys.length < 2 || keys.length == 2 && !endsWithDot) {
+            return groups;
+        }
+        final Node node = nodes.get(keys[1]);
+        if (node == null) {
+            return mainOptions;
+        } else if (node.children == null || keys.length < 3 || keys.length == 3 && !endsWithDot) {
+            return node.entries;
+        }
+        final NullableLazyValue<List<Entry>> options = node.children.get(keys[2]);
+        if (options == null) {
+            return List.of();
+        }
+        final List<Entry> result = options.getValue();
+        return result == null ? List.of() : result;
+    }
+
+    private static List<Entry> createGroups(MainModel mainModel) {
+        final List<Entry> result = new ArrayList<>(mainModel.getGroups().size() + 4);
+        result.add(new Entry(COMPONENT_KEY_PREFIX, null));
+        result.add(new Entry(DATA_FORMAT_KEY_PREFIX, null));
+        result.add(new Entry(LANGUAGE_KEY_PREFIX, null));
+        for (MainModel.MainGroupModel group : mainModel.getGroups()) {
+            result.add(new Entry(group.getName(), group::getDescription));
+        }
+        result.add(new Entry(JBANG_KEY_PREFIX, () -> "Camel JBang"));
+        return List.copyOf(result);
+    }
+
+    /**
+     * @param keyPrefix       the prefix of the key to use when generating the entire key.
+     * @param names           the names of the components/data formats/languages.
+     * @param jsonProvider    the function allowing to retrieve the json content corresponding to the given name
+     * @param modelProvider   the function allowing to parse the model from a json payload
+     * @param optionsProvider the function allowing to retrieve all the potential options from the model
+     * @param optionFilter    the filter to apply on the options retrieved from the metadata.
+     * @return the node of the names whose models are only parsed when needed.
+     */
+    private static <T extends ArtifactModel<O>, O extends BaseOptionModel> Node createNode(
+        String keyPrefix, List<String> names, UnaryOperator<String> jsonProvider, Function<String, T> modelProvider,
+        Function<T, List<O>> optionsProvider, Predicate<O> optionFilter) {
+        final List<Entry> entries = new ArrayList<>(names.size());
+        final Map<String, NullableLazyValue<List<Entry>>> children = new LinkedHashMap<>();
+        for (String name : names) {
+            final NullableLazyValue<T> model = NullableLazyValue.atomicLazyNullable(() -> {
+                final String json = jsonProvider.apply(name);
+                return json == null ? null : modelProvider.apply(json);
+            });
+            final NullableLazyValue<String> description = NullableLazyValue.atomicLazyNullable(() -> {
+                final T value = model.getValue();
+                return value == null ? null : value.getDescription();
+            });
+            entries.add(new Entry(String.format("%s.%s", keyPrefix, name), description::getValue));
+            children.put(name, NullableLazyValue.atomicLazyNullable(() -> {
+                final T value = model.getValue();
+                if (value == null) {
+                    return null;
+                }
+                return optionsProvider.apply(value)
+                    .stream()
+                    .filter(optionFilter)
+                    .map(option -> new Entry(option, String.format("%s.%s.%s", keyPrefix, name, option.getName())))
+                    .toList();
+            }));
+        }
+        return new Node(List.copyOf(entries), children);
+    }
+
+    /**
+     * A node of the trie.
+     *
+     * @param entries  the suggestions provided when the section of key of the node is edited.
+     * @param children the options indexed by next section of key, {@code null} if the entries are already options.
+     */
+    private record Node(List<Entry> entries, @Nullable Map<String, NullableLazyValue<List<Entry>>> children) {
+    }
+
+    /**
+     * A suggestion of the trie which is either a prefix of key or the key of an option with its presentation.
+     */
+    static final class Entry {
+
+        private final String key;
+        private final BaseOptionModel option;
+        private final Supplier<String> descriptionSupplier;
+        private final String keyInKebabCase;
+        private final boolean bold;
+        private final String typeText;
+        private final Icon icon;
+
+        /**
+         * Construct an {@code Entry} corresponding to a prefix of key.
+         */
+        private Entry(String key, @Nullable Supplier<String> descriptionSupplier) {
+            this.key = key;
+            this.option = null;
+            this.descriptionSupplier = descriptionSupplier;
+            this.keyInKebabCase = null;
+            this.bold = false;
+            this.typeText = null;
+            this.icon = null;
+        }
+
+        /**
+         * Construct an {@code Entry} corresponding to an option whose name is the full key.
+         */
+        private Entry(BaseOptionModel option) {
+            this(option, option.getName());
+        }
+
+        /**
+         * Construct an {@code Entry} corresponding to an option.
+         */
+        private Entry(BaseOptionModel option, String key) {
+            this.key = key;
+            this.option = option;
+            this.descriptionSupplier = null;
+            this.keyInKebabCase = toKebabCaseLeaf(key);
+            // we don't want to highlight the advanced headers which should be more seldom in use
+            final String group = option.getGroup();
+            this.bold = group == null || !group.contains("advanced");
+            this.typeText = option.getJavaType() == null || option.getJavaType().isEmpty()
+                ? null : JavaClassUtils.getService().toSimpleType(option.getJavaType());
+            this.icon = toIcon(option);
+        }
+
+        /**
+         * @return the full key or the prefix of key of the suggestion.
+         */
+        String getKey() {
+            return key;
+        }
+
+        /**
+         * @return the option corresponding to the suggestion, {@code null} if it is a prefix of key.
+         */
+        @Nullable
+        BaseOptionModel getOption() {
+            return option;
+        }
+
+        /**
+         * @return the supplier of the description of a prefix of key, {@code null} if there is no description.
+         */
+        @Nullable
+        Supplier<String> getDescriptionSupplier() {
+            return descriptionSupplier;
+        }
+
+        /**
+         * @return the key of the option with the last section in kebab case.
+         */
+        String getKeyInKebabCase() {
+            return keyInKebabCase;
+        }
+
+        boolean isBold() {
+            return bold;
+        }
+
+        /**
+         * @return the simple type of the option, {@code null} if unknown.
+         */
+        @Nullable
+        String getTypeText() {
+            return typeText;
+        }
+
+        /**
+         * @return the icon that matches the best with the option, {@code null} if none.
+         */
+        @Nullable
+        Icon getIcon() {
+            return icon;
+        }
+
+        @Nullable
+        private static Icon toIcon(BaseOptionModel option) {
+            if (option.isRequired()) {
+                return AllIcons.Nodes.Favorite;
+            } else if (option.isSecret()) {
+                return AllIcons.Nodes.SecurityRole;
+            } else if (option.isMultiValue()) {
+                return AllIcons.General.ArrowRight;
+            } else if (option.getEnums() != null) {
+                return AllIcons.Nodes.Enum;
+            } else if ("object".equalsIgnoreCase(option.getType()) || "java.lang.object".equalsIgnoreCase(option.getType())) {
+                return AllIcons.Nodes.Class;
+            }
+            return null;
+        }
+
+        /**
+         * Convert the content after the last dot in kebab case.
+         *
+         * @param key the key to convert.
+         * @return the content of the given key with the last section of the key in kebab case.
+         */
+        private static String toKebabCaseLeaf(String key) {
+            final int lastIndex = key.lastIndexOf('.');
+            final int length = key.length();
+            final StringBuilder result = new StringBuilder(64);
+            for (int i = 0; i < length; i++) {
+                char c = key.charAt(i);
+                if (i > lastIndex && Character.isUpperCase(c)) {
+                    result.append('-');
+                    result.append(Character.toLowerCase(c));
+                } else {
+                    result.append(c);
+                }
+            }
+            return result.toString();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.documentation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.Service;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Service keeping the fragments of documentation rendered in HTML from the catalog, such as the description of a
+ * component or of an option, to avoid rendering them again each time the documentation is requested, for example
+ * while scrolling through a list of suggestions.
+ * <p/>
+ * The fragments are identified by the version of the catalog, the component, the option and the wrap length. The
+ * least recently used fragments are evicted once the maximum size is reached.
+ */
+@Service
+final class CamelDocumentationCache {
+
+    /**
+     * The maximum amount of fragments to keep.
+     */
+    static final int MAX_SIZE = 1024;
+    /**
+     * The wrap length of the fragments that are not wrapped.
+     */
+    static final int NO_WRAP = -1;
+
+    private final Map<Key, String> fragments = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    CamelDocumentationCache() {
+    }
+
+    static CamelDocumentationCache getService() {
+        return ApplicationManager.getApplication().getService(CamelDocumentationCache.class);
+    }
+
+    /**
+     * Gives the fragment corresponding to the given key, rendering it if it is not yet known.
+     *
+     * @param key      the key of the expected fragment.
+     * @param renderer the renderer of the fragment to call if the fragment is not yet known.
+     * @return the fragment corresponding to the given key, {@code null} if it could not be rendered.
+     */
+    @Nullable
+    String get(@NotNull Key key, @NotNull Supplier<String> renderer) {
+        synchronized (fragments) {
+            String result = fragments.get(key);
+            if (result != null) {
+                return result;
+            }
+        }
+        // Render outside the lock, rendering the same fragment twice concurrently is harmless
+        String result = renderer.get();
+        if (result != null) {
+            synchronized (fragments) {
+                fragments.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the amount of fragments kept.
+     */
+    int size() {
+        synchronized (fragments) {
+            return fragments.size();
+        }
+    }
+
+    /**
+     * The key of a fragment of documentation.
+     *
+     * @param type       the type of fragment.
+     * @param version    the key of the version of the catalog from which the fragment is rendered.
+     * @param component  the name of the component, {@code null} if the fragment doesn't depend on a component.
+     * @param option     the name of the option, {@code null} if the fragment doesn't depend on an option.
+     * @param wrapLength the length at which the text is wrapped, {@link #NO_WRAP} for no wrapping.
+     */
+    record Key(@NotNull Type type, @Nullable String version, @Nullable String component, @Nullable String option,
+               int wrapLength) {
+    }
+
+    /**
+     * The types of fragments.
+     */
+    enum Type {
+        /**
+         * The description of a component with its main characteristics.
+         */
+        COMPONENT,
+        /**
+         * The description of an option configured in an endpoint.
+         */
+        ENDPOINT_OPTION_SUMMARY,
+        /**
+         * The complete documentation of an option.
+         */
+        OPTION
+    }
+}
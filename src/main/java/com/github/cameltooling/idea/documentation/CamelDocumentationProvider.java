@@ -23,6 +23,7 @@ import java.util.Optional;
 
 import com.github.cameltooling.idea.completion.OptionSuggestion;
 import com.github.cameltooling.idea.completion.SimpleSuggestion;
+import com.github.cameltooling.idea.completion.endpoint.EndpointOptionTable;
 import com.github.cameltooling.idea.service.CamelCatalogService;
 import com.github.cameltooling.idea.service.CamelService;
 import com.github.cameltooling.idea.util.CamelIdeaUtils;
@@ -37,6 +38,8 @@ import com.intellij.lang.documentation.ExternalDocumentationProvider;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Computable;
 import com.intellij.psi.PsiClass;
@@ -59,9 +62,6 @@ import org.apache.camel.catalog.CamelCatalog;
 import org.apache.camel.tooling.model.BaseOptionModel;
 import org.apache.camel.tooling.model.ComponentModel;
 import org.apache.camel.tooling.model.JsonMapper;
-import org.apache.camel.util.json.DeserializationException;
-import org.apache.camel.util.json.JsonObject;
-import org.apache.camel.util.json.Jsoner;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import static com.github.cameltooling.idea.util.StringUtils.asComponentName;
@@ -70,15 +70,18 @@ import static com.github.cameltooling.idea.util.StringUtils.wrapWords;
 
 /**
  * Camel documentation provider to hook into IDEA to show Camel endpoint documentation in popups and various other places.
+ * <p/>
+ * The documentation comes from the catalog, so it is also available while the project is being indexed except for
+ * the quick navigation info which needs to resolve the types.
  */
-public class CamelDocumentationProvider extends DocumentationProviderEx implements ExternalDocumentationProvider, ExternalDocumentationHandler {
+public class CamelDocumentationProvider extends DocumentationProviderEx implements ExternalDocumentationProvider, ExternalDocumentationHandler, DumbAware {
 
     private static final Logger LOG = Logger.getInstance(CamelDocumentationProvider.class);
 
     @Nullable
     @Override
     public String getQuickNavigateInfo(PsiElement element, PsiElement originalElement) {
-        if (element.getProject().getService(CamelService.class).isCamelProject()) {
+        if (!DumbService.isDumb(element.getProject()) && element.getProject().getService(CamelService.class).isCamelProject()) {
             PsiExpressionList exps = PsiTreeUtil.getNextSiblingOfType(originalElement, PsiExpressionList.class);
             if (exps != null) {
                 if (exps.getExpressions().length >= 1) {
@@ -144,7 +147,7 @@ public class CamelDocumentationProvider extends DocumentationProviderEx implemen
 
         String componentName = asComponentName(val);
         if (componentName != null) {
-            return generateCamelComponentDocumentation(componentName, val, -1, element.getProject());
+            return generateCamelComponentDocumentation(componentName, val, CamelDocumentationCache.NO_WRAP, element.getProject());
         }
         return null;
     }
@@ -349,6 +352,18 @@ public class CamelDocumentationProvider extends DocumentationProviderEx implemen
     @Nullable
     private String generateCamelEndpointOptionDocumentation(String componentName, String option, Project project) {
         CamelCatalog camelCatalog = project.getService(CamelCatalogService.class).get();
+        return CamelDocumentationCache.getService().get(
+            new CamelDocumentationCache.Key(
+                CamelDocumentationCache.Type.OPTION, CamelCatalogService.toVersionKey(camelCatalog), componentName,
+                option, CamelDocumentationCache.NO_WRAP
+            ),
+            () -> generateCamelEndpointOptionDocumentation(camelCatalog, componentName, option)
+        );
+    }
+
+    @Nullable
+    private static String generateCamelEndpointOptionDocumentation(CamelCatalog camelCatalog, String componentName,
+                                                                   String option) {
         ComponentModel component = camelCatalog.componentModel(componentName);
         if (component == null) {
             return null;
@@ -360,21 +375,40 @@ public class CamelDocumentationProvider extends DocumentationProviderEx implemen
                 o -> o.isMultiValue() && option.equals(o.getPrefix()))
                 .findFirst().orElse(null);
         } else {
-            endpointOption = component.getEndpointOptions().stream().filter(
-                o -> option.equals(o.getName()))
-                .findFirst().orElse(null);
+            endpointOption = EndpointOptionTable.of(component).getOption(option);
         }
-        return generateCamelOptionDocumentation(endpointOption);
+        return renderCamelOptionDocumentation(endpointOption);
     }
 
     /**
      * Generate the documentation of a given option.
+     * @param project the current project
+     * @param componentName the name of the component to which the option belongs, {@code null} if unknown in which
+     *                      case the documentation is not cached as it cannot be identified.
      * @param option the option for which we expect the documentation.
      * @return the documentation corresponding to the given option. {@code null} if the given option is also
      * {@code null}.
      */
     @Nullable
-    private static String generateCamelOptionDocumentation(@Nullable BaseOptionModel option) {
+    private static String generateCamelOptionDocumentation(@NotNull Project project, @Nullable String componentName,
+                                                           @Nullable BaseOptionModel option) {
+        if (option == null) {
+            return null;
+        } else if (componentName == null) {
+            return renderCamelOptionDocumentation(option);
+        }
+        final CamelCatalog camelCatalog = project.getService(CamelCatalogService.class).get();
+        return CamelDocumentationCache.getService().get(
+            new CamelDocumentationCache.Key(
+                CamelDocumentationCache.Type.OPTION, CamelCatalogService.toVersionKey(camelCatalog), componentName,
+                option.getName(), CamelDocumentationCache.NO_WRAP
+            ),
+            () -> renderCamelOptionDocumentation(option)
+        );
+    }
+
+    @Nullable
+    private static String renderCamelOptionDocumentation(@Nullable BaseOptionModel option) {
         if (option == null) {
             return null;
         }
@@ -418,12 +452,12 @@ public class CamelDocumentationProvider extends DocumentationProviderEx implemen
     private String generateCamelComponentDocumentation(String componentName, String val, int wrapLength, Project project) {
         // it is a known Camel component
         CamelCatalog camelCatalog = project.getService(CamelCatalogService.class).get();
-        String json = camelCatalog.componentJSonSchema(componentName);
-        if (json == null) {
+        ComponentModel component = camelCatalog.componentModel(componentName);
+        if (component == null) {
             return null;
         }
-
-        ComponentModel component = JsonMapper.generateComponentModel(json);
+        final CamelDocumentationCache cache = CamelDocumentationCache.getService();
+        final String version = CamelCatalogService.toVersionKey(camelCatalog);
 
         // camel catalog expects &amp; as & when it parses so replace all &amp; as &
         String camelQuery = val;
@@ -443,28 +477,18 @@ public class CamelDocumentationProvider extends DocumentationProviderEx implemen
 
         StringBuilder options = new StringBuilder();
         if (existing != null && !existing.isEmpty()) {
-            JsonObject jsonObject;
-            try {
-                jsonObject = (JsonObject) Jsoner.deserialize(json);
-            } catch (DeserializationException e) {
-                throw new RuntimeException(e);
-            }
-            Map<String, JsonObject> properties = jsonObject.getMap("properties");
-
+            EndpointOptionTable table = EndpointOptionTable.of(component);
             for (Map.Entry<String, String> entry : existing.entrySet()) {
                 String name = entry.getKey();
                 String value = entry.getValue();
-                JsonObject row = properties.get(name);
-
-                if (row != null) {
-                    String kind = row.getString("kind");
-                    String deprecated = row.getString("deprecated");
+                ComponentModel.EndpointOptionModel option = table.getOption(name);
 
+                if (option != null) {
                     String line;
-                    if ("path".equals(kind)) {
+                    if ("path".equals(option.getKind())) {
                         line = value + "<br/>";
                     } else {
-                        if ("true".equals(deprecated)) {
+                        if (option.isDeprecated()) {
                             line = "<s>" + name + "</s>=" + value + "<br/>";
                         } else {
                             line = name + "=" + value + "<br/>";
@@ -473,10 +497,16 @@ public class CamelDocumentationProvider extends DocumentationProviderEx implemen
                     options.append("<br/>");
                     options.append("<b>").append(line).append("</b>");
 
-                    String summary = row.getString("description");
-                    // the text looks a bit weird when using single /
-                    summary = summary.replace('/', ' ');
-                    options.append(wrapText(summary, wrapLength)).append("<br/>");
+                    // only the values are specific to the endpoint, the description of the option is cached
+                    String summary = cache.get(
+                        new CamelDocumentationCache.Key(
+                            CamelDocumentationCache.Type.ENDPOINT_OPTION_SUMMARY, version, componentName, name,
+                            wrapLength
+                        ),
+                        // the text looks a bit weird when using single /
+                        () -> wrapText(Optional.ofNullable(option.getDescription()).orElse("").replace('/', ' '), wrapLength)
+                    );
+                    options.append(summary).append("<br/>");
                 }
             }
         }
@@ -502,6 +532,31 @@ public class CamelDocumentationProvider extends DocumentationProviderEx implemen
             }
         }
 
+        StringBuilder sb = new StringBuilder();
+        sb.append(cache.get(
+            new CamelDocumentationCache.Key(
+                CamelDocumentationCache.Type.COMPONENT, version, componentName, null, wrapLength
+            ),
+            () -> renderCamelComponentDocumentation(component, wrapLength)
+        ));
+
+        // indent the endpoint url with 5 spaces and wrap it by url separator
+        String wrapped = wrapSeparator(val, "&", "<br/>&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;", 100);
+        sb.append("&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;<b>").append(wrapped).append("</b><br/>");
+
+        if (options.length() > 0) {
+            sb.append(options);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Renders the part of the documentation of a component that doesn't depend on the endpoint.
+     * @param component the component for which the documentation is expected.
+     * @param wrapLength the length at which the text is wrapped, {@code -1} for no wrapping.
+     * @return the HTML documentation of the component.
+     */
+    private static String renderCamelComponentDocumentation(ComponentModel component, int wrapLength) {
         StringBuilder sb = new StringBuilder();
         if (component.isDeprecated()) {
             sb.append("<b><s>").append(component.getTitle()).append(" Component (deprecated)</s></b><br/>");
@@ -525,14 +580,6 @@ public class CamelDocumentationProvider extends DocumentationProviderEx implemen
         sb.append("<b>Syntax:</b> <tt>").append(component.getSyntax()).append("?options</tt><br/>");
         sb.append("<p/>");
         sb.append("<br/>");
-
-        // indent the endpoint url with 5 spaces and wrap it by url separator
-        String wrapped = wrapSeparator(val, "&", "<br/>&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;", 100);
-        sb.append("&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;<b>").append(wrapped).append("</b><br/>");
-
-        if (options.length() > 0) {
-            sb.append(options);
-        }
         return sb.toString();
     }
 
@@ -616,6 +663,10 @@ public class CamelDocumentationProvider extends DocumentationProviderEx implemen
          * The option for which the documentation is expected.
          */
         private final transient BaseOptionModel option;
+        /**
+         * The name of the component to which the option belongs, {@code null} if unknown.
+         */
+        private final String componentName;
 
         /**
          * Construct a {@code OptionDocumentationElement} with the given parameters.
@@ -627,11 +678,12 @@ public class CamelDocumentationProvider extends DocumentationProviderEx implemen
                                    @NotNull OptionSuggestion suggestion) {
             super(manager, language);
             this.option = suggestion.getOption();
+            this.componentName = suggestion.getComponentName();
         }
 
         @Override
         public String toString() {
-            return generateCamelOptionDocumentation(option);
+            return generateCamelOptionDocumentation(getProject(), componentName, option);
         }
 
         @Override
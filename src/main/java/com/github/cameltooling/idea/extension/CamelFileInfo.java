@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.extension;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The information of a file containing Camel routes or route configurations.
+ *
+ * @param dsl                 the DSL in which the routes are written.
+ * @param routeBuilderClasses the fully qualified names of the route builder classes of the file, only set for the
+ *                            Java DSL.
+ * @param routeCount          the amount of routes and route configurations found in the file.
+ */
+public record CamelFileInfo(@NotNull Dsl dsl, @NotNull List<String> routeBuilderClasses, int routeCount) {
+
+    /**
+     * The DSL in which the routes can be written.
+     */
+    public enum Dsl {
+        JAVA,
+        XML,
+        YAML,
+        /**
+         * A DSL supported by an extension that doesn't provide the information of its files.
+         */
+        OTHER
+    }
+}
@@ -24,6 +24,7 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.codeStyle.CodeStyleSettings;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.function.Predicate;
@@ -37,11 +38,38 @@ public interface CamelIdeaUtilsExtension {
 
     /**
      * Is the given file a file containing Camel route or route configuration
+     * <p/>
+     * This check is not cached, use {@link com.github.cameltooling.idea.util.CamelIdeaUtils#isCamelFile(PsiFile)}
+     * instead.
      *
      * @param file the file
      */
     boolean isCamelFile(PsiFile file);
 
+    /**
+     * @return the DSL supported by this extension.
+     */
+    default CamelFileInfo.Dsl getDsl() {
+        return CamelFileInfo.Dsl.OTHER;
+    }
+
+    /**
+     * Gives the information of the given file if it contains Camel routes or route configurations written in the
+     * DSL supported by this extension.
+     * <p/>
+     * This information is not cached, use
+     * {@link com.github.cameltooling.idea.util.CamelIdeaUtils#getCamelFileInfo(PsiFile)} instead.
+     * <p/>
+     * By default, only the DSL is provided, the extensions able to provide more information should override it.
+     *
+     * @param file the file
+     * @return the information of the file or {@code null} if it is not a Camel file of this DSL.
+     */
+    @Nullable
+    default CamelFileInfo getCamelFileInfo(PsiFile file) {
+        return isCamelFile(file) ? new CamelFileInfo(getDsl(), List.of(), 0) : null;
+    }
+
     /**
      * Is the given element from the start of a Camel route, eg <tt>from</tt>, ot &lt;from&gt;.
      */
@@ -18,6 +18,7 @@ package com.github.cameltooling.idea.formatter;
 
 import com.github.cameltooling.idea.service.CamelService;
 import com.github.cameltooling.idea.util.CamelIdeaUtils;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
@@ -29,7 +30,7 @@ public class CamelPostFormatProcessor implements PostFormatProcessor {
 
     @Override
     public @NotNull PsiElement processElement(@NotNull PsiElement source, @NotNull CodeStyleSettings settings) {
-        if (source.getProject().getService(CamelService.class).isCamelProject()) {
+        if (isEnabled(source)) {
             processText(source.getContainingFile(), source.getTextRange(), settings);
         }
         return source;
@@ -37,9 +38,16 @@ public class CamelPostFormatProcessor implements PostFormatProcessor {
 
     @Override
     public @NotNull TextRange processText(@NotNull PsiFile source, @NotNull TextRange rangeToReformat, @NotNull CodeStyleSettings settings) {
-        if (source.getProject().getService(CamelService.class).isCamelProject()) {
+        if (isEnabled(source)) {
             return CamelIdeaUtils.getService().processText(source, rangeToReformat, settings);
         }
         return rangeToReformat;
     }
+
+    /**
+     * The routes are formatted according to the resolved methods, which needs the indexes.
+     */
+    private static boolean isEnabled(@NotNull PsiElement source) {
+        return !DumbService.isDumb(source.getProject()) && source.getProject().getService(CamelService.class).isCamelProject();
+    }
 }
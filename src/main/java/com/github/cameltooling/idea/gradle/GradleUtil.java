@@ -23,18 +23,34 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.vfs.VirtualFile;
 import org.gradle.tooling.GradleConnector;
 import org.gradle.tooling.ProjectConnection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * {@code GradleUtil} is a utility class for Gradle related tasks.
  */
 public final class GradleUtil {
     private static final Logger LOG = Logger.getInstance(GradleUtil.class);
+    /**
+     * The pattern of the definition of the version of Camel in a version catalog or a properties file.
+     */
+    private static final Pattern VERSION_DEFINITION = Pattern.compile(
+        "^\\s*(?:camel|camelVersion|camel[-_.]version|apache[-_.]camel)\\s*[=:]\\s*[\"']?([0-9][^\"'\\s]*)[\"']?\\s*$",
+        Pattern.MULTILINE
+    );
+    /**
+     * The pattern of a dependency to an artifact of Camel with an explicit version in a build script.
+     */
+    private static final Pattern CAMEL_DEPENDENCY = Pattern.compile("[\"']org\\.apache\\.camel:[\\w.-]+:([0-9][^\"'\\s]*)[\"']");
     private GradleUtil() {
     }
 
@@ -99,4 +115,41 @@ public final class GradleUtil {
         }
         return initFile;
     }
+
+    /**
+     * Detects the version of Camel directly from the files of the given Gradle project without waiting for the
+     * project to be imported. The version is searched in the version catalog, then in the Gradle properties and
+     * finally in the dependencies of the build script.
+     *
+     * @param vf the root directory of the project
+     * @return the version of Camel defined in the Gradle project, {@code null} if it could not be found.
+     */
+    public static @Nullable String detectCamelVersion(@NotNull VirtualFile vf) {
+        for (String path : List.of("gradle/libs.versions.toml", "gradle.properties")) {
+            String version = findVersion(vf.findFileByRelativePath(path), VERSION_DEFINITION);
+            if (version != null) {
+                return version;
+            }
+        }
+        GradleFileWriter writer = GradleFileWriter.from(vf);
+        if (writer == null) {
+            return null;
+        }
+        return findVersion(vf.findChild(writer.getBuildScriptFileName()), CAMEL_DEPENDENCY);
+    }
+
+    private static @Nullable String findVersion(@Nullable VirtualFile file, Pattern pattern) {
+        if (file == null || file.isDirectory()) {
+            return null;
+        }
+        try {
+            Matcher matcher = pattern.matcher(new String(file.contentsToByteArray(), file.getCharset()));
+            if (matcher.find()) {
+                return matcher.group(1);
+            }
+        } catch (IOException e) {
+            LOG.debug("Could not read " + file.getPath(), e);
+        }
+        return null;
+    }
 }
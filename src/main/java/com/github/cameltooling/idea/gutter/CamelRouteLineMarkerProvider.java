@@ -20,8 +20,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.github.cameltooling.idea.reference.endpoint.direct.DirectEndpointReference;
 import com.github.cameltooling.idea.reference.endpoint.direct.DirectEndpointStartSelfReference;
@@ -38,18 +42,25 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.NotNullLazyValue;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiExpression;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiIdentifier;
 import com.intellij.psi.PsiJavaToken;
 import com.intellij.psi.PsiLiteralExpression;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiMethodCallExpression;
+import com.intellij.psi.PsiNameIdentifierOwner;
 import com.intellij.psi.PsiPolyadicExpression;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiVariable;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
 import com.intellij.psi.search.ProjectScope;
 import com.intellij.psi.search.PsiSearchHelper;
 import com.intellij.psi.search.UsageSearchContext;
 import com.intellij.psi.search.searches.ReferencesSearch;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlTag;
 import com.intellij.psi.xml.XmlToken;
@@ -70,18 +81,51 @@ public class CamelRouteLineMarkerProvider extends RelatedItemLineMarkerProvider
     private static final String[] XML_ROUTE_CALL = {"to", "toD", "enrich", "wireTap"};
     private static final String[] YAML_ROUTE_CALL = {"to", "tod", "toD", "to-d", "enrich", "wireTap", "wire-tap"};
 
+    /**
+     * Collects the markers of all the elements of a file at once, so that the checks of the preferences, the project
+     * and the file are done once and that the targets of the routes are searched through a shared cache.
+     */
+    @Override
+    public void collectNavigationMarkers(@NotNull List<? extends PsiElement> elements,
+                                         @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result,
+                                         boolean forNavigation) {
+        if (elements.isEmpty() || !isEnabled(elements.get(0))) {
+            return;
+        }
+        for (PsiElement element : elements) {
+            collectNavigationMarker(element, result);
+            if (forNavigation && element instanceof PsiNameIdentifierOwner owner) {
+                PsiElement nameIdentifier = owner.getNameIdentifier();
+                if (nameIdentifier != null && !elements.contains(nameIdentifier)) {
+                    collectNavigationMarker(nameIdentifier, result);
+                }
+            }
+        }
+    }
+
     @Override
     protected void collectNavigationMarkers(@NotNull PsiElement element,
                                             @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
-        CamelPreferenceService preferenceService = CamelPreferenceService.getService();
-        if (!preferenceService.isShowCamelIconInGutter() || !element.getProject().getService(CamelService.class).isCamelProject()
-            || !isCamelFile(element)) {
-            // The Gutter should not be shown, or it is not a Camel project or a Camel file
-            return;
+        if (isEnabled(element)) {
+            collectNavigationMarker(element, result);
         }
+    }
 
-        NotNullLazyValue<Collection<PsiElement>> endpointTargets = findEndpointReferences(element);
-        NotNullLazyValue<Collection<PsiElement>> manualTargets = findManualReferences(element);
+    /**
+     * @return {@code true} if the gutter should be shown for the given element, {@code false} if it is disabled or if
+     * the element is not part of a Camel project or a Camel file.
+     */
+    private boolean isEnabled(@NotNull PsiElement element) {
+        return CamelPreferenceService.getService().isShowCamelIconInGutter()
+            && element.getProject().getService(CamelService.class).isCamelProject()
+            && isCamelFile(element);
+    }
+
+    private void collectNavigationMarker(@NotNull PsiElement element,
+                                         @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
+        DirectEndpointStartSelfReference startRef = findStartSelfReference(element);
+        NotNullLazyValue<Collection<PsiElement>> endpointTargets = findEndpointReferences(element, startRef);
+        NotNullLazyValue<Collection<PsiElement>> manualTargets = startRef == null ? findManualReferences(element) : null;
 
         if (endpointTargets != null || manualTargets != null) {
             NotNullLazyValue<Collection<? extends PsiElement>> combinedTargets = NotNullLazyValue.lazy(() -> {
@@ -102,13 +146,18 @@ public class CamelRouteLineMarkerProvider extends RelatedItemLineMarkerProvider
         }
     }
 
-    private NotNullLazyValue<Collection<PsiElement>> findEndpointReferences(@NotNull PsiElement element) {
-        DirectEndpointStartSelfReference startRef = Arrays.stream(element.getReferences())
-                .filter(ref -> ref instanceof DirectEndpointStartSelfReference)
-                .map(ref -> (DirectEndpointStartSelfReference) ref)
-                .findFirst()
-                .orElse(null);
+    @Nullable
+    private static DirectEndpointStartSelfReference findStartSelfReference(@NotNull PsiElement element) {
+        for (PsiReference reference : element.getReferences()) {
+            if (reference instanceof DirectEndpointStartSelfReference startRef) {
+                return startRef;
+            }
+        }
+        return null;
+    }
 
+    private NotNullLazyValue<Collection<PsiElement>> findEndpointReferences(@NotNull PsiElement element,
+                                                                            @Nullable DirectEndpointStartSelfReference startRef) {
         if (startRef != null) {
             return NotNullLazyValue.lazy(() -> {
                 PsiElement startElement = startRef.resolve();
@@ -127,44 +176,70 @@ public class CamelRouteLineMarkerProvider extends RelatedItemLineMarkerProvider
     }
 
     private NotNullLazyValue<Collection<PsiElement>> findManualReferences(@NotNull PsiElement element) {
-        CamelIdeaUtils camelIdeaUtils = CamelIdeaUtils.getService();
-        if (camelIdeaUtils.isCamelLineMarker(element)) {
-
-            // let's not duplicate items found via #findEndpointReferences
-            if (Arrays.stream(element.getReferences()).anyMatch(ref -> ref instanceof DirectEndpointStartSelfReference)) {
-                return null;
-            }
+        // the elements with a direct endpoint start are handled by #findEndpointReferences
+        PsiFile file = element.getContainingFile();
+        if (file != null && findRouteStarts(file).contains(element)) {
+            // evaluate the targets lazy
+            return NotNullLazyValue.lazy(() -> {
+                List<PsiElement> routeDestinationForPsiElement = findRouteDestinationForPsiElement(element);
+                // Add identifier references as navigation target
+                resolvedIdentifier(element)
+                        .filter(el -> !routeDestinationForPsiElement.contains(el))
+                        .map(PsiElement::getNavigationElement)
+                        .ifPresent(routeDestinationForPsiElement::add);
+                return routeDestinationForPsiElement;
+            });
+        }
+        return null;
+    }
 
-            //skip the PsiLiteralExpression that are not the first operand of PsiPolyadicExpression to avoid having multiple gutter icons
-            // on the same PsiPolyadicExpression
-            if (element instanceof PsiLiteralExpression
-                    && isPartOfPolyadicExpression((PsiLiteralExpression) element)
-                    && !element.isEquivalentTo(getFirstExpressionFromPolyadicExpression((PsiLiteralExpression) element))) {
-                return null;
-            }
-            // skip if it is a Camel route that is multi-lined, then we only want Camel icon on the first line
-            if (element instanceof PsiJavaToken && isPartOfPolyadicExpression((PsiJavaToken) element)) {
-                PsiExpression first = getFirstExpressionFromPolyadicExpression((PsiJavaToken) element);
-                if (first != null && !element.isEquivalentTo(first.getFirstChild())) {
-                    return null;
+    /**
+     * Gives the elements of the given file starting a Camel route that should have a gutter icon. The route starts
+     * are detected in one pass over the file and kept until the next modification, instead of checking each element
+     * separately each time the markers are collected.
+     *
+     * @param file the file in which the route starts are searched.
+     * @return the elements of the given file starting a Camel route.
+     */
+    private static Set<PsiElement> findRouteStarts(@NotNull PsiFile file) {
+        return CachedValuesManager.getCachedValue(file, () -> {
+            Set<PsiElement> result = new HashSet<>();
+            PsiTreeUtil.processElements(file, element -> {
+                if (isRouteStart(element)) {
+                    result.add(element);
                 }
-            }
+                return true;
+            });
+            // The detection may resolve references to other files, hence the dependency on any modification
+            return CachedValueProvider.Result.create(Set.copyOf(result), PsiModificationTracker.MODIFICATION_COUNT);
+        });
+    }
 
-            if (camelIdeaUtils.isCamelRouteStartExpression(element)) {
-
-                // evaluate the targets lazy
-                return NotNullLazyValue.lazy(() -> {
-                    List<PsiElement> routeDestinationForPsiElement = findRouteDestinationForPsiElement(element);
-                    // Add identifier references as navigation target
-                    resolvedIdentifier(element)
-                            .filter(el -> !routeDestinationForPsiElement.contains(el))
-                            .map(PsiElement::getNavigationElement)
-                            .ifPresent(routeDestinationForPsiElement::add);
-                    return routeDestinationForPsiElement;
-                });
+    /**
+     * @param element the element to check.
+     * @return {@code true} if the given element starts a Camel route and should have a gutter icon, {@code false}
+     * otherwise.
+     */
+    private static boolean isRouteStart(@NotNull PsiElement element) {
+        CamelIdeaUtils camelIdeaUtils = CamelIdeaUtils.getService();
+        if (!camelIdeaUtils.isCamelLineMarker(element)) {
+            return false;
+        }
+        //skip the PsiLiteralExpression that are not the first operand of PsiPolyadicExpression to avoid having multiple gutter icons
+        // on the same PsiPolyadicExpression
+        if (element instanceof PsiLiteralExpression
+                && isPartOfPolyadicExpression((PsiLiteralExpression) element)
+                && !element.isEquivalentTo(getFirstExpressionFromPolyadicExpression((PsiLiteralExpression) element))) {
+            return false;
+        }
+        // skip if it is a Camel route that is multi-lined, then we only want Camel icon on the first line
+        if (element instanceof PsiJavaToken && isPartOfPolyadicExpression((PsiJavaToken) element)) {
+            PsiExpression first = getFirstExpressionFromPolyadicExpression((PsiJavaToken) element);
+            if (first != null && !element.isEquivalentTo(first.getFirstChild())) {
+                return false;
             }
         }
-        return null;
+        return camelIdeaUtils.isCamelRouteStartExpression(element);
     }
 
     private @NotNull RelatedItemLineMarkerInfo<PsiElement> createLineMarkerInfo(PsiElement element, NotNullLazyValue<Collection<? extends PsiElement>> targets) {
@@ -263,13 +338,10 @@ public class CamelRouteLineMarkerProvider extends RelatedItemLineMarkerProvider
 
         if (rawRoute != null && !rawRoute.isEmpty()) {
             final String route = rawRoute.replace("\"", "");
-            Project project = startElement.getProject();
-            PsiSearchHelper helper = PsiSearchHelper.getInstance(project);
             //get the component name and search only using that
             String componentName = route.split(":")[0];
 
-            helper.processElementsWithWord((psiElement, offsetInElement) -> {
-                LOG.debug("processElementsWithWord: " + psiElement + " with offset: " + offsetInElement);
+            for (PsiElement psiElement : findElementsWithWord(startElement.getProject(), componentName)) {
                 if (psiElement instanceof XmlToken) {
                     PsiElement xmlElement = findXMLElement(route, (XmlToken) psiElement);
                     if (xmlElement != null) {
@@ -294,12 +366,52 @@ public class CamelRouteLineMarkerProvider extends RelatedItemLineMarkerProvider
                         psiElements.add(psiElement);
                     }
                 }
-                return true;
-            }, new CamelRouteSearchScope(project), componentName, UsageSearchContext.ANY, false);
+            }
         }
         return psiElements;
     }
 
+    /**
+     * Gives the elements of the Camel files of the project containing the given word. The elements are searched
+     * once per word and kept until the next modification, as the routes of a file mostly share a few component names.
+     * The elements are kept through smart pointers to avoid retaining the PSI of the files of the whole project.
+     *
+     * @param project the project in which the elements are searched
+     * @param word    the word to search for
+     * @return the elements containing the given word.
+     */
+    private static List<PsiElement> findElementsWithWord(Project project, String word) {
+        Map<String, List<SmartPsiElementPointer<PsiElement>>> elementsByWord = CachedValuesManager.getManager(project).getCachedValue(
+            project, () -> CachedValueProvider.Result.create(
+                new ConcurrentHashMap<String, List<SmartPsiElementPointer<PsiElement>>>(), PsiModificationTracker.MODIFICATION_COUNT
+            )
+        );
+        List<SmartPsiElementPointer<PsiElement>> cached = elementsByWord.get(word);
+        if (cached == null) {
+            // The search is done outside the map as it may be canceled or read other cached values
+            SmartPointerManager pointerManager = SmartPointerManager.getInstance(project);
+            List<SmartPsiElementPointer<PsiElement>> pointers = new ArrayList<>();
+            PsiSearchHelper.getInstance(project).processElementsWithWord((psiElement, offsetInElement) -> {
+                LOG.debug("processElementsWithWord: " + psiElement + " with offset: " + offsetInElement);
+                pointers.add(pointerManager.createSmartPsiElementPointer(psiElement));
+                return true;
+            }, new CamelRouteSearchScope(project), word, UsageSearchContext.ANY, false);
+            List<SmartPsiElementPointer<PsiElement>> result = List.copyOf(pointers);
+            cached = elementsByWord.putIfAbsent(word, result);
+            if (cached == null) {
+                cached = result;
+            }
+        }
+        List<PsiElement> elements = new ArrayList<>(cached.size());
+        for (SmartPsiElementPointer<PsiElement> pointer : cached) {
+            PsiElement element = pointer.getElement();
+            if (element != null) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
     /**
      * Further refine search in order to match the exact YAML Camel route.
      *
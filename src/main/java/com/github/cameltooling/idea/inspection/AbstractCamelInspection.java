@@ -27,6 +27,7 @@ import com.github.cameltooling.idea.util.CamelIdeaUtils;
 import com.github.cameltooling.idea.util.IdeaUtils;
 import com.github.cameltooling.idea.util.StringUtils;
 import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemHighlightType;
 import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
@@ -129,10 +130,14 @@ public abstract class AbstractCamelInspection extends LocalInspectionTool {
                 boolean predicate = CamelIdeaUtils.getService().isCamelExpressionUsedAsPredicate(element, "simple");
                 if (predicate) {
                     LOG.debug("Inspecting simple predicate: " + text);
-                    result = catalogService.validateLanguagePredicate(loader, "simple", text);
+                    result = CamelCatalogService.withExclusiveAccess(
+                        catalogService, () -> catalogService.validateLanguagePredicate(loader, "simple", text)
+                    );
                 } else {
                     LOG.debug("Inspecting simple expression: " + text);
-                    result = catalogService.validateLanguageExpression(loader, "simple", text);
+                    result = CamelCatalogService.withExclusiveAccess(
+                        catalogService, () -> catalogService.validateLanguageExpression(loader, "simple", text)
+                    );
                 }
                 if (!result.isSuccess()) {
                     // favor the short error message
@@ -143,7 +148,7 @@ public abstract class AbstractCamelInspection extends LocalInspectionTool {
                     if ("[null]".equals(msg)) {
                         return;
                     }
-                    holder.registerProblem(element, msg);
+                    holder.registerProblem(element, msg, ProblemHighlightType.GENERIC_ERROR);
                 }
             }
         } catch (Exception e) {
@@ -172,10 +177,14 @@ public abstract class AbstractCamelInspection extends LocalInspectionTool {
                 boolean predicate = CamelIdeaUtils.getService().isCamelExpressionUsedAsPredicate(element, "jsonpath");
                 if (predicate) {
                     LOG.debug("Inspecting jsonpath predicate: " + text);
-                    result = catalogService.validateLanguagePredicate(loader, "jsonpath", text);
+                    result = CamelCatalogService.withExclusiveAccess(
+                        catalogService, () -> catalogService.validateLanguagePredicate(loader, "jsonpath", text)
+                    );
                 } else {
                     LOG.debug("Inspecting jsonpath expression: " + text);
-                    result = catalogService.validateLanguageExpression(loader, "jsonpath", text);
+                    result = CamelCatalogService.withExclusiveAccess(
+                        catalogService, () -> catalogService.validateLanguageExpression(loader, "jsonpath", text)
+                    );
                 }
                 if (!result.isSuccess()) {
                     // favor the short error message
@@ -186,7 +195,7 @@ public abstract class AbstractCamelInspection extends LocalInspectionTool {
                     if ("[null]".equals(msg)) {
                         return;
                     }
-                    holder.registerProblem(element, msg);
+                    holder.registerProblem(element, msg, ProblemHighlightType.GENERIC_ERROR);
                 }
             }
         } catch (Exception e) {
@@ -226,7 +235,10 @@ public abstract class AbstractCamelInspection extends LocalInspectionTool {
         boolean producerOnly = camelIdeaUtils.isProducerEndpoint(element);
 
         try {
-            EndpointValidationResult result = catalogService.validateEndpointProperties(camelQuery, false, consumerOnly, producerOnly);
+            final String query = camelQuery;
+            EndpointValidationResult result = CamelCatalogService.withExclusiveAccess(
+                catalogService, () -> catalogService.validateEndpointProperties(query, false, consumerOnly, producerOnly)
+            );
 
             extractMapValue(result, result.getInvalidBoolean(), text, element, holder, isOnTheFly, new AbstractCamelInspection.BooleanErrorMsg());
             extractMapValue(result, result.getInvalidEnum(), text, element, holder, isOnTheFly, new AbstractCamelInspection.EnumErrorMsg());
@@ -248,7 +260,7 @@ public abstract class AbstractCamelInspection extends LocalInspectionTool {
         if (!result.isSuccess() && validationSet != null) {
             for (String entry : validationSet) {
                 String desc = summaryErrorMessage(result, entry, msg);
-                holder.registerProblem(element, desc);
+                holder.registerProblem(element, desc, getHighlightType(msg));
             }
         }
     }
@@ -260,11 +272,23 @@ public abstract class AbstractCamelInspection extends LocalInspectionTool {
         if (!result.isSuccess() && validationMap != null) {
             for (Map.Entry<String, String> entry : validationMap.entrySet()) {
                 String desc = summaryErrorMessage(result, entry, msg);
-                holder.registerProblem(element, desc);
+                holder.registerProblem(element, desc, getHighlightType(msg));
             }
         }
     }
 
+    /**
+     * @return the {@link ProblemHighlightType} corresponding to the given message
+     */
+    private static ProblemHighlightType getHighlightType(CamelAnnotatorEndpointMessage<?> msg) {
+        if (msg.isInfoLevel()) {
+            return ProblemHighlightType.WEAK_WARNING;
+        } else if (msg.isWarnLevel()) {
+            return ProblemHighlightType.WARNING;
+        }
+        return ProblemHighlightType.GENERIC_ERROR;
+    }
+
     private static class BooleanErrorMsg implements CamelAnnotatorEndpointMessage<Map.Entry<String, String>> {
         @Override
         public String getErrorMessage(EndpointValidationResult result, Map.Entry<String, String> entry) {
@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.inspection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.github.cameltooling.idea.service.CamelCatalogService;
+import com.github.cameltooling.idea.service.CamelService;
+import com.github.cameltooling.idea.util.CamelIdeaUtils;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectUtil;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.apache.camel.catalog.CamelCatalog;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@code CamelBatchValidator} validates all the Camel files of a project at once with the same rules as the
+ * {@link CamelInspection}, typically to check a whole repository from a CI server.
+ * <p/>
+ * The Camel catalog is loaded once before validating the files in parallel within a dedicated {@link ForkJoinPool},
+ * each file being validated in its own read action. The files are traversed concurrently, but the calls to the
+ * catalog are serialized by the validations as the catalog is not thread-safe.
+ */
+public class CamelBatchValidator {
+
+    private static final Logger LOG = Logger.getInstance(CamelBatchValidator.class);
+    /**
+     * The extensions of the files that may contain Camel routes, endpoints or properties.
+     */
+    private static final Set<String> EXTENSIONS = Stream.concat(
+        Arrays.stream(CamelIdeaUtils.CAMEL_FILE_EXTENSIONS), Stream.of("properties")
+    ).collect(Collectors.toUnmodifiableSet());
+    /**
+     * The maximum amount of time to wait for the Camel catalog to be downloaded.
+     */
+    private static final long CATALOG_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+    /**
+     * The default maximum amount of time to wait for the libraries of Camel to be imported by Maven or Gradle.
+     */
+    private static final long DEFAULT_SYNC_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+    /**
+     * The amount of time between two checks of the libraries of the project while waiting for the import.
+     */
+    private static final long SYNC_POLL_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+
+    private final Project project;
+    private final int parallelism;
+    private final long syncTimeout;
+    private final CamelInspection inspection = new CamelInspection(true);
+
+    /**
+     * Construct a {@code CamelBatchValidator} with the given project and level of parallelism.
+     *
+     * @param project     the project to validate.
+     * @param parallelism the maximum amount of files to validate concurrently.
+     */
+    public CamelBatchValidator(@NotNull Project project, int parallelism) {
+        this(project, parallelism, DEFAULT_SYNC_TIMEOUT);
+    }
+
+    /**
+     * Construct a {@code CamelBatchValidator} with the given project, level of parallelism and timeout of the import.
+     *
+     * @param project     the project to validate.
+     * @param parallelism the maximum amount of files to validate concurrently.
+     * @param syncTimeout the maximum amount of time in milliseconds to wait for the libraries of Camel to be imported.
+     */
+    CamelBatchValidator(@NotNull Project project, int parallelism, long syncTimeout) {
+        this.project = project;
+        this.parallelism = parallelism;
+        this.syncTimeout = syncTimeout;
+    }
+
+    /**
+     * Validates all the Camel files of the project. It must not be called from the event dispatch thread since it
+     * waits for the libraries of the project to be imported, for the indexes and for the Camel catalog to be ready.
+     *
+     * @return the report of the validation.
+     * @throws InterruptedException if the current thread has been interrupted while waiting.
+     * @throws IllegalStateException if no Camel library could be found in the project once imported.
+     */
+    public CamelValidationReport validate() throws InterruptedException {
+        awaitCamelLibraries();
+        long start = System.nanoTime();
+        CamelCatalog catalog = loadCamelCatalog();
+        long catalogTime = toMillis(start);
+        String catalogVersion = catalog.getLoadedVersion() == null ? catalog.getCatalogVersion() : catalog.getLoadedVersion();
+        List<VirtualFile> files = ReadAction.compute(this::findCamelFiles);
+        LOG.info("Validating %d files with the Camel catalog %s".formatted(files.size(), catalogVersion));
+        start = System.nanoTime();
+        List<CamelValidationReport.FileResult> results = validate(files);
+        return new CamelValidationReport(catalogVersion, catalogTime, toMillis(start), results);
+    }
+
+    /**
+     * Waits for the Maven or Gradle import of the project to provide the libraries of Camel, since the project is
+     * opened before its libraries are known. The project is scanned each time the indexes are ready until a library
+     * of Camel is found.
+     *
+     * @throws InterruptedException if the current thread has been interrupted while waiting.
+     * @throws IllegalStateException if no Camel library could be found before the timeout.
+     */
+    private void awaitCamelLibraries() throws InterruptedException {
+        CamelService service = project.getService(CamelService.class);
+        long deadline = System.currentTimeMillis() + syncTimeout;
+        while (true) {
+            DumbService.getInstance(project).waitForSmartMode();
+            service.scanForCamelProject();
+            if (service.isCamelPresent()) {
+                return;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException(
+                    "No Camel library could be found in the project %s after %d seconds, make sure that it can be imported by Maven or Gradle"
+                        .formatted(project.getName(), TimeUnit.MILLISECONDS.toSeconds(syncTimeout))
+                );
+            }
+            Thread.sleep(SYNC_POLL_INTERVAL);
+        }
+    }
+
+    /**
+     * Waits for the Camel catalog matching the version of Camel of the project to be ready, the project having already
+     * been scanned.
+     *
+     * @return the Camel catalog to use for the validation.
+     * @throws InterruptedException if the current thread has been interrupted while waiting.
+     */
+    private CamelCatalog loadCamelCatalog() throws InterruptedException {
+        CamelService service = project.getService(CamelService.class);
+        long deadline = System.currentTimeMillis() + CATALOG_TIMEOUT;
+        while (service.isCamelCatalogLoading()) {
+            if (System.currentTimeMillis() > deadline) {
+                LOG.warn("The Camel catalog could not be loaded in time, the current one is used");
+                break;
+            }
+            Thread.sleep(100);
+        }
+        return project.getService(CamelCatalogService.class).get();
+    }
+
+    /**
+     * @return the files of the content of the project that may contain Camel routes or endpoints sorted by path.
+     */
+    private List<VirtualFile> findCamelFiles() {
+        List<VirtualFile> result = new ArrayList<>();
+        ProjectFileIndex index = ProjectFileIndex.getInstance(project);
+        index.iterateContent(file -> {
+            if (!file.isDirectory() && file.getExtension() != null && EXTENSIONS.contains(file.getExtension())
+                && !index.isExcluded(file)) {
+                result.add(file);
+            }
+            return true;
+        });
+        result.sort(Comparator.comparing(VirtualFile::getPath));
+        return result;
+    }
+
+    private List<CamelValidationReport.FileResult> validate(List<VirtualFile> files) throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            // The parallel stream is executed by the workers of the pool in which it is submitted
+            return pool.submit(() -> files.parallelStream().map(this::validate).toList()).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not validate the Camel files", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private CamelValidationReport.FileResult validate(VirtualFile file) {
+        long start = System.nanoTime();
+        List<CamelValidationReport.Problem> problems = ReadAction.compute(() -> inspect(file));
+        return new CamelValidationReport.FileResult(getRelativePath(file), toMillis(start), problems);
+    }
+
+    private List<CamelValidationReport.Problem> inspect(VirtualFile file) {
+        if (!file.isValid()) {
+            return List.of();
+        }
+        PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+        if (psiFile == null) {
+            return List.of();
+        }
+        ProblemsHolder holder = new ProblemsHolder(InspectionManager.getInstance(project), psiFile, false);
+        PsiElementVisitor visitor = inspection.buildVisitor(holder, false);
+        PsiTreeUtil.processElements(psiFile, element -> {
+            element.accept(visitor);
+            return true;
+        });
+        Document document = PsiDocumentManager.getInstance(project).getDocument(psiFile);
+        List<CamelValidationReport.Problem> result = new ArrayList<>();
+        for (ProblemDescriptor descriptor : holder.getResults()) {
+            result.add(toProblem(descriptor, document));
+        }
+        return result;
+    }
+
+    private static CamelValidationReport.Problem toProblem(ProblemDescriptor descriptor, @Nullable Document document) {
+        int line = descriptor.getLineNumber() + 1;
+        int column = 1;
+        PsiElement element = descriptor.getStartElement();
+        if (document != null && element != null) {
+            int offset = element.getTextRange().getStartOffset();
+            TextRange rangeInElement = descriptor.getTextRangeInElement();
+            if (rangeInElement != null) {
+                offset += rangeInElement.getStartOffset();
+            }
+            line = document.getLineNumber(offset) + 1;
+            column = offset - document.getLineStartOffset(line - 1) + 1;
+        }
+        return new CamelValidationReport.Problem(
+            line, column, toSeverity(descriptor.getHighlightType()), descriptor.getDescriptionTemplate()
+        );
+    }
+
+    /**
+     * @param type the highlight type of a problem reported by the inspection.
+     * @return the SARIF level corresponding to the given highlight type.
+     */
+    private static String toSeverity(ProblemHighlightType type) {
+        return switch (type) {
+            case ERROR, GENERIC_ERROR -> "error";
+            case WEAK_WARNING, INFORMATION -> "note";
+            default -> "warning";
+        };
+    }
+
+    private String getRelativePath(VirtualFile file) {
+        VirtualFile root = ProjectUtil.guessProjectDir(project);
+        String path = root == null ? null : VfsUtilCore.getRelativePath(file, root);
+        return path == null ? file.getPath() : path;
+    }
+
+    private static long toMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.inspection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Headless command validating all the Camel files of a project, to be used from a CI server:
+ * <pre>
+ * idea camelValidate &lt;project-path&gt; [--format=sarif|json] [--output=&lt;file&gt;] [--parallelism=&lt;n&gt;]
+ * </pre>
+ * The report is written to the standard output if no output file is provided. The exit code is {@code 0} if no
+ * problem has been found, {@code 1} if some problems have been found and {@code 2} in case of failure.
+ */
+public class CamelValidateStarter implements ApplicationStarter {
+
+    private static final Logger LOG = Logger.getInstance(CamelValidateStarter.class);
+    private static final String USAGE =
+        "Usage: camelValidate <project-path> [--format=sarif|json] [--output=<file>] [--parallelism=<n>]";
+
+    @Override
+    public int getRequiredModality() {
+        // The project is opened and validated synchronously which cannot be done from the event dispatch thread
+        return NOT_IN_EDT;
+    }
+
+    @Override
+    public void main(@NotNull List<String> args) {
+        int exitCode;
+        try {
+            exitCode = run(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            exitCode = 2;
+        } catch (IllegalStateException e) {
+            System.err.println(e.getMessage());
+            if (e.getCause() != null) {
+                LOG.error("Could not validate the Camel files", e.getCause());
+            }
+            exitCode = 2;
+        } catch (Exception e) {
+            LOG.error("Could not validate the Camel files", e);
+            exitCode = 2;
+        }
+        System.exit(exitCode);
+    }
+
+    private static int run(List<String> args) throws IOException, InterruptedException {
+        Options options = Options.parse(args);
+        Project project = ProjectUtil.openOrImport(options.project(), null, false);
+        if (project == null) {
+            throw new IllegalArgumentException("The project %s could not be opened".formatted(options.project()));
+        }
+        CamelValidationReport report = new CamelBatchValidator(project, options.parallelism()).validate();
+        String content = options.sarif() ? report.toSarif() : report.toJson();
+        if (options.output() == null) {
+            System.out.println(content);
+        } else {
+            Files.writeString(options.output(), content);
+        }
+        System.err.printf("%d problem(s) found in %d file(s) in %d ms (catalog loaded in %d ms)%n",
+            report.getProblemCount(), report.files().size(), report.totalTime(), report.catalogTime());
+        return report.getProblemCount() == 0 ? 0 : 1;
+    }
+
+    /**
+     * The options of the command.
+     *
+     * @param project     the path of the project to validate.
+     * @param output      the file in which the report is written, {@code null} for the standard output.
+     * @param sarif       {@code true} to write the report in SARIF, {@code false} for JSON.
+     * @param parallelism the maximum amount of files to validate concurrently.
+     */
+    record Options(Path project, Path output, boolean sarif, int parallelism) {
+
+        /**
+         * @param args the arguments of the command, starting with the name of the command.
+         * @return the corresponding options.
+         * @throws IllegalArgumentException if the arguments are invalid.
+         */
+        static Options parse(List<String> args) {
+            Path project = null;
+            Path output = null;
+            boolean sarif = true;
+            int parallelism = Runtime.getRuntime().availableProcessors();
+            for (String arg : args.subList(Math.min(1, args.size()), args.size())) {
+                if (arg.startsWith("--format=")) {
+                    String format = arg.substring("--format=".length());
+                    if (!"sarif".equals(format) && !"json".equals(format)) {
+                        throw new IllegalArgumentException("Unknown format: " + format);
+                    }
+                    sarif = "sarif".equals(format);
+                } else if (arg.startsWith("--output=")) {
+                    output = Path.of(arg.substring("--output=".length()));
+                } else if (arg.startsWith("--parallelism=")) {
+                    try {
+                        parallelism = Integer.parseInt(arg.substring("--parallelism=".length()));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid parallelism: " + arg);
+                    }
+                    if (parallelism < 1) {
+                        throw new IllegalArgumentException("Invalid parallelism: " + arg);
+                    }
+                } else if (arg.startsWith("--") || project != null) {
+                    throw new IllegalArgumentException("Unexpected argument: " + arg);
+                } else {
+                    project = Path.of(arg).toAbsolutePath();
+                }
+            }
+            if (project == null) {
+                throw new IllegalArgumentException("The path of the project is missing");
+            }
+            return new Options(project, output, sarif, parallelism);
+        }
+    }
+}
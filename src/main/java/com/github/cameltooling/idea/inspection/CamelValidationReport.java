@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.inspection;
+
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The result of the validation of the Camel files of a project by the {@link CamelBatchValidator}, which can be
+ * written in JSON or in SARIF to be consumed by a CI server.
+ *
+ * @param catalogVersion the version of the Camel catalog used to validate the files.
+ * @param catalogTime    the time spent loading the Camel catalog in milliseconds.
+ * @param totalTime      the time spent validating all the files in milliseconds.
+ * @param files          the result of the validation of each file.
+ */
+public record CamelValidationReport(String catalogVersion, long catalogTime, long totalTime,
+                                    List<FileResult> files) {
+
+    /**
+     * The identifier of the rule reported in SARIF.
+     */
+    static final String RULE_ID = "CamelInspection";
+    /**
+     * The mapper used to serialize the report.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * @return the total amount of problems found in all the files.
+     */
+    public int getProblemCount() {
+        return files.stream().mapToInt(file -> file.problems().size()).sum();
+    }
+
+    /**
+     * @return the report in the JSON format of the plugin, including the timings.
+     */
+    public String toJson() {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("catalogVersion", catalogVersion);
+        ObjectNode totals = root.putObject("totals");
+        totals.put("files", files.size());
+        totals.put("problems", getProblemCount());
+        totals.put("catalogTimeMs", catalogTime);
+        totals.put("totalTimeMs", totalTime);
+        ArrayNode array = root.putArray("files");
+        for (FileResult file : files) {
+            ObjectNode node = array.addObject();
+            node.put("path", file.path());
+            node.put("timeMs", file.time());
+            ArrayNode problems = node.putArray("problems");
+            for (Problem problem : file.problems()) {
+                problems.addObject()
+                    .put("line", problem.line())
+                    .put("column", problem.column())
+                    .put("severity", problem.severity())
+                    .put("message", problem.message());
+            }
+        }
+        return write(root);
+    }
+
+    /**
+     * @return the report in the SARIF 2.1.0 format, the timings are provided as properties of the run and of the
+     * artifacts.
+     */
+    public String toSarif() {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("$schema", "https://json.schemastore.org/sarif-2.1.0.json");
+        root.put("version", "2.1.0");
+        ObjectNode run = root.putArray("runs").addObject();
+        ObjectNode driver = run.putObject("tool").putObject("driver");
+        driver.put("name", "Apache Camel");
+        driver.put("informationUri", "https://github.com/camel-tooling/camel-idea-plugin");
+        driver.putArray("rules").addObject()
+            .put("id", RULE_ID)
+            .putObject("shortDescription")
+            .put("text", "Inspects all Camel endpoints and languages");
+        ObjectNode properties = run.putObject("properties");
+        properties.put("catalogVersion", catalogVersion);
+        properties.put("catalogTimeMs", catalogTime);
+        properties.put("totalTimeMs", totalTime);
+        ArrayNode artifacts = run.putArray("artifacts");
+        ArrayNode results = run.putArray("results");
+        for (int i = 0; i < files.size(); i++) {
+            FileResult file = files.get(i);
+            ObjectNode artifact = artifacts.addObject();
+            artifact.putObject("location").put("uri", file.path());
+            artifact.putObject("properties").put("timeMs", file.time());
+            for (Problem problem : file.problems()) {
+                ObjectNode result = results.addObject();
+                result.put("ruleId", RULE_ID);
+                result.put("level", problem.severity());
+                result.putObject("message").put("text", problem.message());
+                ObjectNode location = result.putArray("locations").addObject().putObject("physicalLocation");
+                location.putObject("artifactLocation")
+                    .put("uri", file.path())
+                    .put("index", i);
+                location.putObject("region")
+                    .put("startLine", problem.line())
+                    .put("startColumn", problem.column());
+            }
+        }
+        return write(root);
+    }
+
+    private static String write(ObjectNode root) {
+        try {
+            return MAPPER.writeValueAsString(root);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write the validation report", e);
+        }
+    }
+
+    /**
+     * The result of the validation of a file.
+     *
+     * @param path     the path of the file relative to the root of the project.
+     * @param time     the time spent validating the file in milliseconds.
+     * @param problems the problems found in the file.
+     */
+    public record FileResult(@NotNull String path, long time, @NotNull List<Problem> problems) {
+    }
+
+    /**
+     * A problem found in a file.
+     *
+     * @param line     the line of the problem starting from 1.
+     * @param column   the column of the problem starting from 1.
+     * @param severity the severity of the problem using the SARIF levels, {@code error}, {@code warning} or
+     *                 {@code note}.
+     * @param message  the description of the problem.
+     */
+    public record Problem(int line, int column, @NotNull String severity, @NotNull String message) {
+    }
+}
@@ -18,23 +18,38 @@ package com.github.cameltooling.idea.maven;
 
 import java.io.InputStream;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 import com.github.cameltooling.idea.gradle.GradleUtil;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.project.ProjectUtil;
 import com.intellij.openapi.vfs.VirtualFile;
+import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
 import org.apache.maven.model.Repository;
 import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * {@code MavenUtil} is a utility class for Maven related tasks.
  */
 public final class MavenUtil {
     private static final Logger LOG = Logger.getInstance(MavenUtil.class);
+    /**
+     * The group id of the artifacts whose version is the version of Camel.
+     */
+    private static final String CAMEL_GROUP_ID = "org.apache.camel";
+    /**
+     * The names of the properties commonly used to define the version of Camel.
+     */
+    private static final List<String> CAMEL_VERSION_PROPERTIES = List.of(
+        "camel.version", "version.camel", "camel-version", "camelVersion", "version.org.apache.camel"
+    );
 
     private MavenUtil() {
     }
@@ -81,4 +96,68 @@ public final class MavenUtil {
         }
         return answer;
     }
+
+    /**
+     * Detects the version of Camel directly from the given pom file without waiting for the project to be imported.
+     * The version is searched in the well-known properties, then in the Camel parent, BOMs and dependencies.
+     *
+     * @param pom the pom file from which the version of Camel should be detected.
+     * @return the version of Camel defined in the pom file, {@code null} if it could not be found.
+     */
+    public static @Nullable String detectCamelVersion(@NotNull VirtualFile pom) {
+        try (InputStream is = pom.getInputStream()) {
+            final Model model = new MavenXpp3Reader().read(is);
+            final Properties properties = model.getProperties();
+            for (String name : CAMEL_VERSION_PROPERTIES) {
+                String version = resolve(properties, properties.getProperty(name));
+                if (version != null) {
+                    return version;
+                }
+            }
+            Parent parent = model.getParent();
+            if (parent != null && CAMEL_GROUP_ID.equals(parent.getGroupId())) {
+                return resolve(properties, parent.getVersion());
+            }
+            if (model.getDependencyManagement() != null) {
+                String version = detectCamelVersion(properties, model.getDependencyManagement().getDependencies());
+                if (version != null) {
+                    return version;
+                }
+            }
+            return detectCamelVersion(properties, model.getDependencies());
+        } catch (Exception e) {
+            LOG.debug("Could not detect the Camel version from the pom.xml file", e);
+        }
+        return null;
+    }
+
+    private static @Nullable String detectCamelVersion(Properties properties, List<Dependency> dependencies) {
+        for (Dependency dependency : dependencies) {
+            if (CAMEL_GROUP_ID.equals(dependency.getGroupId())) {
+                String version = resolve(properties, dependency.getVersion());
+                if (version != null) {
+                    return version;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param properties the properties of the pom file.
+     * @param value      the value to resolve.
+     * @return the given value with its property placeholder resolved, {@code null} if it could not be resolved.
+     */
+    private static @Nullable String resolve(Properties properties, @Nullable String value) {
+        // Limit the depth to prevent infinite loops
+        for (int i = 0; value != null && i < 5; i++) {
+            if (!value.startsWith("${")) {
+                return value.isBlank() ? null : value.trim();
+            } else if (!value.endsWith("}")) {
+                return null;
+            }
+            value = properties.getProperty(value.substring(2, value.length() - 1));
+        }
+        return null;
+    }
 }
@@ -46,6 +46,7 @@ public class CamelEditorSettingsPage extends BaseConfigurable implements Searcha
     private JBCheckBox enableDebuggerCheckBox;
     private JBCheckBox camelDebuggerAutoSetupCheckBox;
     private JBCheckBox onlyShowKameletOptionsCheckBox;
+    private JBCheckBox warmCamelJBangLauncherCheckBox;
     private JComboBox<Boolean> isCamelProjectComboBox;
     private JComboBox<Boolean> isJBangProjectComboBox;
     private JComboBox<CamelCatalogProvider> camelRuntimeProviderComboBox;
@@ -66,6 +67,7 @@ public class CamelEditorSettingsPage extends BaseConfigurable implements Searcha
         enableDebuggerCheckBox = new JBCheckBox("Enable Camel Debugger");
         camelDebuggerAutoSetupCheckBox = new JBCheckBox("Setup automatically the Camel Debugger");
         onlyShowKameletOptionsCheckBox = new JBCheckBox("Only show Kamelet's own options");
+        warmCamelJBangLauncherCheckBox = new JBCheckBox("Keep the Camel JBang launcher warm");
         camelRuntimeProviderComboBox = new ComboBox<>(CamelCatalogProvider.values());
         camelRuntimeProviderComboBox.setRenderer(
             new SimpleListCellRenderer<>() {
@@ -105,6 +107,7 @@ public class CamelEditorSettingsPage extends BaseConfigurable implements Searcha
         panel.add(enableDebuggerCheckBox, constraintsForCheckBox);
         panel.add(camelDebuggerAutoSetupCheckBox, constraintsForCheckBox);
         panel.add(onlyShowKameletOptionsCheckBox, constraintsForCheckBox);
+        panel.add(warmCamelJBangLauncherCheckBox, constraintsForCheckBox);
 
         panel.add(new JLabel("Camel Runtime Provider"));
         panel.add(camelRuntimeProviderComboBox);
@@ -134,6 +137,7 @@ public class CamelEditorSettingsPage extends BaseConfigurable implements Searcha
         projectPreferenceService.setEnableCamelDebugger(enableDebuggerCheckBox.isSelected());
         projectPreferenceService.setCamelDebuggerAutoSetup(camelDebuggerAutoSetupCheckBox.isSelected());
         projectPreferenceService.setOnlyShowKameletOptions(onlyShowKameletOptionsCheckBox.isSelected());
+        projectPreferenceService.setWarmCamelJBangLauncher(warmCamelJBangLauncherCheckBox.isSelected());
         projectPreferenceService.setCamelCatalogProvider((CamelCatalogProvider) camelRuntimeProviderComboBox.getSelectedItem());
         projectPreferenceService.setCamelProject((Boolean) isCamelProjectComboBox.getSelectedItem());
         projectPreferenceService.setJBangProject((Boolean) isJBangProjectComboBox.getSelectedItem());
@@ -155,6 +159,7 @@ public class CamelEditorSettingsPage extends BaseConfigurable implements Searcha
                 || projectPreferenceService.isEnableCamelDebugger() != enableDebuggerCheckBox.isSelected()
                 || projectPreferenceService.isCamelDebuggerAutoSetup() != camelDebuggerAutoSetupCheckBox.isSelected()
                 || projectPreferenceService.isOnlyShowKameletOptions() != onlyShowKameletOptionsCheckBox.isSelected()
+                || projectPreferenceService.isWarmCamelJBangLauncher() != warmCamelJBangLauncherCheckBox.isSelected()
                 || projectPreferenceService.getCamelCatalogProvider() != camelRuntimeProviderComboBox.getSelectedItem()
                 || isCamelProjectComboBox.getSelectedItem() != projectPreferenceService.isCamelProject()
                 || isJBangProjectComboBox.getSelectedItem() != projectPreferenceService.isJBangProject()
@@ -172,6 +177,7 @@ public class CamelEditorSettingsPage extends BaseConfigurable implements Searcha
             enableDebuggerCheckBox.setSelected(projectPreferenceService.isEnableCamelDebugger());
             camelDebuggerAutoSetupCheckBox.setSelected(projectPreferenceService.isCamelDebuggerAutoSetup());
             onlyShowKameletOptionsCheckBox.setSelected(projectPreferenceService.isOnlyShowKameletOptions());
+            warmCamelJBangLauncherCheckBox.setSelected(projectPreferenceService.isWarmCamelJBangLauncher());
             camelRuntimeProviderComboBox.setSelectedItem(projectPreferenceService.getCamelCatalogProvider());
             isCamelProjectComboBox.setSelectedItem(projectPreferenceService.isCamelProject());
             isJBangProjectComboBox.setSelectedItem(projectPreferenceService.isJBangProject());
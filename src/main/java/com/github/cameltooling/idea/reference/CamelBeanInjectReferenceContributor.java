@@ -41,7 +41,7 @@ public class CamelBeanInjectReferenceContributor extends PsiReferenceContributor
                 .literalExpression()
                 .insideAnnotationParam(CamelIdeaUtils.BEAN_INJECT_ANNOTATION);
 
-        registrar.registerReferenceProvider(pattern, new CamelPsiReferenceProvider() {
+        registrar.registerReferenceProvider(CamelReferencePrefilter.camelCandidate(pattern, CamelReferencePrefilter.containing("\"")), new CamelPsiReferenceProvider() {
             @Override
             protected PsiReference[] getCamelReferencesByElement(PsiElement element, ProcessingContext context) {
                 PsiNameValuePair param = PsiTreeUtil.getParentOfType(element, PsiNameValuePair.class);
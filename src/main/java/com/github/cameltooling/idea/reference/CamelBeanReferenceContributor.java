@@ -16,6 +16,8 @@
  */
 package com.github.cameltooling.idea.reference;
 
+import java.util.function.Predicate;
+
 import com.github.cameltooling.idea.util.CamelIdeaUtils;
 import com.github.cameltooling.idea.util.JavaClassUtils;
 import com.github.cameltooling.idea.util.StringUtils;
@@ -59,9 +61,14 @@ public class CamelBeanReferenceContributor extends PsiReferenceContributor {
         psiMethod().withName("method").withParameters("java.lang.Object", "java.lang.String")
     );
 
+    /**
+     * The method names are given as string literals.
+     */
+    private static final Predicate<CharSequence> STRING_LITERAL = CamelReferencePrefilter.containing("\"");
+
     @Override
     public void registerReferenceProviders(@NotNull PsiReferenceRegistrar registrar) {
-        registrar.registerReferenceProvider(or(BEAN_CLASS_METHOD_PATTERN, METHOD_CLASS_METHOD_PATTERN), new CamelPsiReferenceProvider() {
+        registrar.registerReferenceProvider(CamelReferencePrefilter.camelCandidate(or(BEAN_CLASS_METHOD_PATTERN, METHOD_CLASS_METHOD_PATTERN), STRING_LITERAL), new CamelPsiReferenceProvider() {
             @NotNull
             @Override
             public PsiReference[] getCamelReferencesByElement(@NotNull PsiElement element, @NotNull ProcessingContext context) {
@@ -69,7 +76,7 @@ public class CamelBeanReferenceContributor extends PsiReferenceContributor {
             }
         });
 
-        registrar.registerReferenceProvider(or(BEAN_OBJECT_STRING_PATTERN, METHOD_STRING_STRING_PATTERN, METHOD_OBJECT_STRING_PATTERN), new CamelPsiReferenceProvider() {
+        registrar.registerReferenceProvider(CamelReferencePrefilter.camelCandidate(or(BEAN_OBJECT_STRING_PATTERN, METHOD_STRING_STRING_PATTERN, METHOD_OBJECT_STRING_PATTERN), STRING_LITERAL), new CamelPsiReferenceProvider() {
             @NotNull
             @Override
             public PsiReference[] getCamelReferencesByElement(@NotNull PsiElement element, @NotNull ProcessingContext context) {
@@ -17,6 +17,7 @@
 package com.github.cameltooling.idea.reference;
 
 import com.github.cameltooling.idea.service.CamelService;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceProvider;
@@ -25,13 +26,15 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * A parent class for {@link PsiReferenceProvider}s which should provide references only when camel support is active.
+ * As the references need the indexes to be resolved, no reference is provided while the project is being indexed.
  */
 public abstract class CamelPsiReferenceProvider extends PsiReferenceProvider {
 
     @NotNull
     @Override
     public PsiReference[] getReferencesByElement(@NotNull PsiElement element, @NotNull ProcessingContext context) {
-        if (!element.getProject().getService(CamelService.class).isCamelProject()) {
+        if (DumbService.isDumb(element.getProject())
+            || !element.getProject().getService(CamelService.class).isCamelProject()) {
             return PsiReference.EMPTY_ARRAY;
         } else {
             return getCamelReferencesByElement(element, context);
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.reference;
+
+import java.util.function.Predicate;
+
+import com.github.cameltooling.idea.service.CamelService;
+import com.github.cameltooling.idea.util.CamelIdeaUtils;
+import com.intellij.lang.ASTNode;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.patterns.ElementPattern;
+import com.intellij.patterns.PatternCondition;
+import com.intellij.patterns.PlatformPatterns;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.ProcessingContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A utility class to put cheap checks in front of the element patterns of the reference contributors.
+ * <p/>
+ * The reference contributors are asked for references on every literal, attribute value and scalar of every file,
+ * so the project, the file and the characters of the element are checked first, the element patterns that may
+ * resolve methods or walk up the tree being evaluated only on the plausible candidates.
+ */
+public final class CamelReferencePrefilter {
+
+    private static final Key<CachedValue<Boolean>> CAMEL_MENTIONED = Key.create("CAMEL_MENTIONED");
+
+    private CamelReferencePrefilter() {
+    }
+
+    /**
+     * @param tokens the tokens of which one is expected.
+     * @return a filter accepting the texts containing at least one of the given tokens.
+     */
+    public static Predicate<CharSequence> containing(String... tokens) {
+        return text -> {
+            for (String token : tokens) {
+                if (StringUtil.contains(text, token)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * @param pattern    the pattern to evaluate on the plausible candidates.
+     * @param textFilter the filter that the text of the element must match.
+     * @return a pattern that evaluates the given pattern only on the elements of a Camel project whose text matches
+     * the given filter, outside of dumb mode.
+     */
+    public static ElementPattern<PsiElement> candidate(@NotNull ElementPattern<? extends PsiElement> pattern,
+                                                       @NotNull Predicate<CharSequence> textFilter) {
+        return withPrefilter(pattern, textFilter, false);
+    }
+
+    /**
+     * @param pattern    the pattern to evaluate on the plausible candidates.
+     * @param textFilter the filter that the text of the element must match.
+     * @return a pattern that evaluates the given pattern only on the elements of a Camel relevant file whose text
+     * matches the given filter, outside of dumb mode.
+     * @see #isCamelRelevant(PsiFile)
+     */
+    public static ElementPattern<PsiElement> camelCandidate(@NotNull ElementPattern<? extends PsiElement> pattern,
+                                                            @NotNull Predicate<CharSequence> textFilter) {
+        return withPrefilter(pattern, textFilter, true);
+    }
+
+    /**
+     * Indicates whether the given file may contain Camel code, that is to say whether it is a Camel file or whether
+     * it mentions Camel like the imports of a Java file or the namespaces of an XML file do.
+     *
+     * @param file the file to check.
+     * @return {@code true} if the file may contain Camel code, {@code false} otherwise.
+     */
+    public static boolean isCamelRelevant(@Nullable PsiFile file) {
+        if (file == null) {
+            return false;
+        }
+        final PsiFile originalFile = file.getOriginalFile();
+        return CamelIdeaUtils.getService().isCamelFile(originalFile)
+            || CachedValuesManager.getCachedValue(originalFile, CAMEL_MENTIONED, () -> CachedValueProvider.Result.create(
+                StringUtil.containsIgnoreCase(originalFile.getViewProvider().getContents(), "camel"), originalFile
+            ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ElementPattern<PsiElement> withPrefilter(ElementPattern<? extends PsiElement> pattern,
+                                                            Predicate<CharSequence> textFilter, boolean camelFileOnly) {
+        // Keep the class accepted by the given pattern so that the registrar still indexes the provider by class
+        final Class<?> acceptedClass = pattern.getCondition().getInitialCondition().getAcceptedClass();
+        return PlatformPatterns.psiElement(
+                PsiElement.class.isAssignableFrom(acceptedClass) ? (Class<PsiElement>) acceptedClass : PsiElement.class
+            )
+            .with(new PatternCondition<>("camelPrefilter") {
+                @Override
+                public boolean accepts(@NotNull PsiElement element, ProcessingContext context) {
+                    final Project project = element.getProject();
+                    return !DumbService.isDumb(project)
+                        && project.getService(CamelService.class).isCamelProject()
+                        && textFilter.test(getChars(element))
+                        && (!camelFileOnly || isCamelRelevant(element.getContainingFile()));
+                }
+            })
+            .and(pattern);
+    }
+
+    private static CharSequence getChars(PsiElement element) {
+        final ASTNode node = element.getNode();
+        return node == null ? element.getText() : node.getChars();
+    }
+}
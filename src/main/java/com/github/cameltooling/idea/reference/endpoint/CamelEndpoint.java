@@ -16,40 +16,151 @@
  */
 package com.github.cameltooling.idea.reference.endpoint;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import com.github.cameltooling.idea.util.StringUtils;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiLiteralValue;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.containers.CollectionFactory;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.yaml.psi.YAMLScalar;
 
 /**
  * Represents a camel endpoint and provides support methods for working with the parts of its uri.
+ * <p/>
+ * An endpoint is immutable and parsed once per uri, the instances being shared as long as they are reachable, and
+ * cached per literal element, so that the uri is not tokenized again by each feature needing its parts.
  */
-public class CamelEndpoint {
+public final class CamelEndpoint {
+
+    private static final Key<CachedValue<CamelEndpoint>> CAMEL_ENDPOINT = Key.create("CAMEL_ENDPOINT");
+    /**
+     * The endpoints already parsed indexed by uri.
+     */
+    private static final Map<String, CamelEndpoint> ENDPOINTS = CollectionFactory.createConcurrentSoftValueMap();
+    private static final String RAW_PARENTHESES_START_TOKEN = "RAW(";
+    private static final String RAW_BRACES_START_TOKEN = "RAW{";
+    private static final String XML_AMPERSAND = "&amp;";
 
     private final String uri;
-    private String baseUri;
-    private String prefix;
-    private String name;
-    private String query;
-
-    public CamelEndpoint(String uri) {
-        this.uri = StringUtil.unquoteString(uri);
-        processUri();
-    }
+    private final String baseUri;
+    private final String prefix;
+    private final String name;
+    private final String query;
+    private final List<Option> options;
 
-    private void processUri() {
+    private CamelEndpoint(String uri) {
+        this.uri = uri;
         int questionMarkIndex = uri.indexOf('?');
         if (questionMarkIndex >= 0) {
-            baseUri = uri.substring(0, questionMarkIndex);
-            query = (uri.length() > questionMarkIndex + 1) ? uri.substring(questionMarkIndex + 1) : "";
+            this.baseUri = uri.substring(0, questionMarkIndex);
+            this.query = uri.substring(questionMarkIndex + 1);
+            this.options = parseOptions(uri, questionMarkIndex + 1);
         } else {
-            baseUri = uri;
-            query = null;
+            this.baseUri = uri;
+            this.query = null;
+            this.options = List.of();
+        }
+        this.prefix = StringUtils.asComponentName(baseUri);
+        this.name = prefix == null ? baseUri : baseUri.substring(prefix.length() + 1);
+    }
+
+    /**
+     * @param uri the uri of the endpoint, possibly surrounded by quotes.
+     * @return the endpoint corresponding to the given uri.
+     */
+    @NotNull
+    public static CamelEndpoint parse(@NotNull String uri) {
+        return ENDPOINTS.computeIfAbsent(StringUtil.unquoteString(uri), CamelEndpoint::new);
+    }
+
+    /**
+     * @param element the literal element containing the uri of the endpoint.
+     * @return the endpoint corresponding to the value of the given element, {@code null} if the element is neither
+     * a literal nor a YAML scalar.
+     */
+    @Nullable
+    public static CamelEndpoint of(@NotNull PsiElement element) {
+        return CachedValuesManager.getCachedValue(element, CAMEL_ENDPOINT, () -> {
+            String endpointUri = getEndpointUri(element);
+            return CachedValueProvider.Result.create(endpointUri == null ? null : parse(endpointUri), element);
+        });
+    }
+
+    @Nullable
+    private static String getEndpointUri(PsiElement element) {
+        if (element instanceof PsiLiteralValue valueElement) {
+            Object value = valueElement.getValue();
+            if (value instanceof String) {
+                return (String) value;
+            }
+        } else if (element instanceof YAMLScalar scalar) {
+            String text = scalar.getText();
+            if (text != null && !text.isEmpty()) {
+                return StringUtil.unquoteString(text);
+            }
         }
+        return null;
+    }
 
-        prefix = StringUtils.asComponentName(baseUri);
+    /**
+     * Splits the query of the given uri into options, {@code &} and its XML escaped form being both supported as
+     * separator and the raw values being kept as is.
+     */
+    private static List<Option> parseOptions(String uri, int start) {
+        List<Option> result = new ArrayList<>();
+        int index = start;
+        while (index < uri.length()) {
+            int equalIndex = -1;
+            int end = index;
+            while (end < uri.length() && uri.charAt(end) != '&') {
+                if (equalIndex < 0 && uri.charAt(end) == '=') {
+                    equalIndex = end;
+                    end = skipRawValue(uri, end + 1);
+                } else {
+                    end++;
+                }
+            }
+            if (end > index) {
+                if (equalIndex < 0) {
+                    result.add(new Option(uri.substring(index, end), null, new TextRange(index, end), null));
+                } else {
+                    result.add(
+                        new Option(
+                            uri.substring(index, equalIndex), uri.substring(equalIndex + 1, end),
+                            new TextRange(index, equalIndex), new TextRange(equalIndex + 1, end)
+                        )
+                    );
+                }
+            }
+            index = uri.startsWith(XML_AMPERSAND, end) ? end + XML_AMPERSAND.length() : end + 1;
+        }
+        return List.copyOf(result);
+    }
 
-        name = prefix == null ? baseUri : baseUri.substring(prefix.length() + 1);
+    /**
+     * @return the index following the raw value starting at the given index if any, the given index otherwise.
+     */
+    private static int skipRawValue(String uri, int index) {
+        char endToken;
+        if (uri.startsWith(RAW_PARENTHESES_START_TOKEN, index)) {
+            endToken = ')';
+        } else if (uri.startsWith(RAW_BRACES_START_TOKEN, index)) {
+            endToken = '}';
+        } else {
+            return index;
+        }
+        int endIndex = uri.indexOf(endToken, index + RAW_PARENTHESES_START_TOKEN.length());
+        return endIndex < 0 ? uri.length() : endIndex + 1;
     }
 
     public String getUri() {
@@ -72,9 +183,17 @@ public class CamelEndpoint {
         return query;
     }
 
+    /**
+     * @return the options of the query in order of appearance.
+     */
+    @NotNull
+    public List<Option> getOptions() {
+        return options;
+    }
+
     public boolean baseUriMatches(@Nullable String endpointUri) {
         if (endpointUri != null) {
-            CamelEndpoint other = new CamelEndpoint(endpointUri);
+            CamelEndpoint other = parse(endpointUri);
             return baseUri.equals(other.baseUri);
         }
         return false;
@@ -84,4 +203,15 @@ public class CamelEndpoint {
         return TextRange.from(prefix.length() + 1, name.length());
     }
 
+    /**
+     * An option of the query of the uri.
+     *
+     * @param name       the name of the option.
+     * @param value      the value of the option as written in the uri, {@code null} if it has no value.
+     * @param nameRange  the range of the name in the uri.
+     * @param valueRange the range of the value in the uri, {@code null} if it has no value.
+     */
+    public record Option(@NotNull String name, @Nullable String value, @NotNull TextRange nameRange,
+                         @Nullable TextRange valueRange) {
+    }
 }
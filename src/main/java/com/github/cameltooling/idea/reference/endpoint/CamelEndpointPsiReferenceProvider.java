@@ -18,14 +18,10 @@ package com.github.cameltooling.idea.reference.endpoint;
 
 import com.github.cameltooling.idea.reference.CamelPsiReferenceProvider;
 import com.intellij.openapi.diagnostic.Logger;
-import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiLiteralValue;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceProvider;
 import com.intellij.util.ProcessingContext;
-import org.jetbrains.yaml.psi.YAMLQuotedText;
-import org.jetbrains.yaml.psi.YAMLScalar;
 
 /**
  * A parent class for {@link PsiReferenceProvider}s which should provide references from usages of camel endpoints to
@@ -38,34 +34,19 @@ public abstract class CamelEndpointPsiReferenceProvider extends CamelPsiReferenc
     @Override
     protected PsiReference[] getCamelReferencesByElement(PsiElement element, ProcessingContext context) {
         LOG.debug("Processing element " + element.getClass().getSimpleName() + " with text " + element.getText());
-        String endpointUri = getEndpointUri(element);
-        if (endpointUri == null) {
+        CamelEndpoint endpoint = CamelEndpoint.of(element);
+        if (endpoint == null) {
             return PsiReference.EMPTY_ARRAY;
         }
-        if (!isEndpoint(endpointUri)) {
+        if (!isEndpoint(endpoint)) {
             return PsiReference.EMPTY_ARRAY;
         }
-        return getEndpointReferencesByElement(endpointUri, element, context);
+        return getEndpointReferencesByElement(endpoint, element, context);
     }
 
-    protected abstract PsiReference[] getEndpointReferencesByElement(String endpointUri, PsiElement element,
+    protected abstract PsiReference[] getEndpointReferencesByElement(CamelEndpoint endpoint, PsiElement element,
                                                                      ProcessingContext context);
 
-    protected abstract boolean isEndpoint(String endpointUri);
-
-    private String getEndpointUri(PsiElement element) {
-        if (element instanceof PsiLiteralValue valueElement) {
-            Object value = valueElement.getValue();
-            if (value instanceof String) {
-                return (String) value;
-            }
-        } else if (element instanceof YAMLScalar scalar) {
-            String text = scalar.getText();
-            if (text != null && !text.isEmpty()) {
-                return StringUtil.unquoteString(text);
-            }
-        }
-        return null;
-    }
+    protected abstract boolean isEndpoint(CamelEndpoint endpoint);
 
 }
@@ -16,10 +16,10 @@
  */
 package com.github.cameltooling.idea.reference.endpoint.direct;
 
+import com.github.cameltooling.idea.reference.CamelReferencePrefilter;
 import com.github.cameltooling.idea.reference.endpoint.CamelEndpoint;
 import com.github.cameltooling.idea.reference.endpoint.CamelEndpointPsiReferenceProvider;
 import com.github.cameltooling.idea.util.CamelIdeaUtils;
-import com.github.cameltooling.idea.util.StringUtils;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.patterns.ElementPattern;
 import com.intellij.psi.PsiElement;
@@ -31,6 +31,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Create a reference from the usage of a 'referencable' endpoint (e.g. <to uri="direct:abc"/>)
@@ -48,6 +49,10 @@ public class DirectEndpointReferenceContributor extends PsiReferenceContributor
     private static final Set<String> REFERENCABLE_COMPONENTS = Set.of(
             "direct", "direct-vm", "seda", "file"
     );
+    /**
+     * The referencable endpoints are always prefixed with their component name.
+     */
+    private static final Predicate<CharSequence> COMPONENT_SEPARATOR = CamelReferencePrefilter.containing(":");
 
     @Override
     public void registerReferenceProviders(@NotNull PsiReferenceRegistrar registrar) {
@@ -55,7 +60,7 @@ public class DirectEndpointReferenceContributor extends PsiReferenceContributor
         if (!patterns.isEmpty()) {
             CamelEndpointPsiReferenceProvider provider = createProvider();
             patterns.forEach(pattern -> {
-                registrar.registerReferenceProvider(pattern, provider);
+                registrar.registerReferenceProvider(CamelReferencePrefilter.camelCandidate(pattern, COMPONENT_SEPARATOR), provider);
             });
         }
     }
@@ -64,8 +69,7 @@ public class DirectEndpointReferenceContributor extends PsiReferenceContributor
     private CamelEndpointPsiReferenceProvider createProvider() {
         return new CamelEndpointPsiReferenceProvider() {
                 @Override
-                protected PsiReference[] getEndpointReferencesByElement(String endpointUri, PsiElement element, ProcessingContext context) {
-                    CamelEndpoint endpoint = new CamelEndpoint(endpointUri);
+                protected PsiReference[] getEndpointReferencesByElement(CamelEndpoint endpoint, PsiElement element, ProcessingContext context) {
                     if (endpoint.getBaseUri().contains(CamelIdeaUtils.PROPERTY_PLACEHOLDER_START_TOKEN)) {
                         return PsiReference.EMPTY_ARRAY;
                     }
@@ -82,8 +86,8 @@ public class DirectEndpointReferenceContributor extends PsiReferenceContributor
                 }
 
                 @Override
-                protected boolean isEndpoint(String endpointUri) {
-                    String component = StringUtils.asComponentName(endpointUri);
+                protected boolean isEndpoint(CamelEndpoint endpoint) {
+                    String component = endpoint.getPrefix();
                     return component != null && REFERENCABLE_COMPONENTS.contains(component);
                 }
             };
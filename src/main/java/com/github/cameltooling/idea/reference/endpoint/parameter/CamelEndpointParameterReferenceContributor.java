@@ -16,13 +16,12 @@
  */
 package com.github.cameltooling.idea.reference.endpoint.parameter;
 
+import com.github.cameltooling.idea.reference.CamelReferencePrefilter;
+import com.github.cameltooling.idea.reference.endpoint.CamelEndpoint;
 import com.github.cameltooling.idea.reference.endpoint.CamelEndpointPsiReferenceProvider;
 import com.github.cameltooling.idea.service.CamelCatalogService;
 import com.github.cameltooling.idea.util.CamelIdeaUtils;
-import com.github.cameltooling.idea.util.IdeaUtils;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.util.TextRange;
-import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.patterns.ElementPattern;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReference;
@@ -33,8 +32,7 @@ import org.apache.camel.catalog.CamelCatalog;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * Contributor for {@link EndpointParameterReference}, which is a reference from endpoint uri query parameter to its setter method in the corresponding camel class
@@ -42,13 +40,19 @@ import java.util.Objects;
  */
 public class CamelEndpointParameterReferenceContributor extends PsiReferenceContributor {
 
+    /**
+     * The endpoints with parameters have both a component name and at least one parameter with a value.
+     */
+    private static final Predicate<CharSequence> PARAMETER = CamelReferencePrefilter.containing(":")
+        .and(CamelReferencePrefilter.containing("="));
+
     @Override
     public void registerReferenceProviders(@NotNull PsiReferenceRegistrar registrar) {
         List<ElementPattern<? extends PsiElement>> patterns = CamelIdeaUtils.getService().getAllowedEndpointUriLocations();
         if (!patterns.isEmpty()) {
             CamelEndpointPsiReferenceProvider provider = createProvider();
             patterns.forEach(pattern -> {
-                registrar.registerReferenceProvider(pattern, provider);
+                registrar.registerReferenceProvider(CamelReferencePrefilter.camelCandidate(pattern, PARAMETER), provider);
             });
         }
     }
@@ -57,45 +61,29 @@ public class CamelEndpointParameterReferenceContributor extends PsiReferenceCont
     private CamelEndpointPsiReferenceProvider createProvider() {
         return new CamelEndpointPsiReferenceProvider() {
             @Override
-            protected PsiReference[] getEndpointReferencesByElement(String endpointUri, PsiElement element, ProcessingContext context) {
+            protected PsiReference[] getEndpointReferencesByElement(CamelEndpoint endpoint, PsiElement element, ProcessingContext context) {
                 Project project = element.getProject();
 
                 CamelCatalogService catalogService = project.getService(CamelCatalogService.class);
                 CamelCatalog catalog = catalogService.get();
-                String component = catalog.endpointComponentName(endpointUri);
+                String component = catalog.endpointComponentName(endpoint.getUri());
                 if (component == null) {
                     return PsiReference.EMPTY_ARRAY;
                 }
 
-                Map<String, String> params;
-                try {
-                    String unescapedUri = IdeaUtils.getService().isXmlLanguage(element) ? StringUtil.unescapeXmlEntities(endpointUri) : endpointUri;
-                    params = catalog.endpointProperties(unescapedUri);
-                } catch (Exception e) {
-                    return PsiReference.EMPTY_ARRAY;
-                }
-
-                return createParameterReferences(endpointUri, element, component, params);
+                return createParameterReferences(endpoint, element, component);
             }
 
-            private PsiReference[] createParameterReferences(String endpointUri, PsiElement endpointElement, String component, Map<String, String> params) {
-                return params.keySet().stream()
-                        .map(param -> {
-                            int paramStartIndex = endpointUri.indexOf(param + "=");
-                            if (paramStartIndex < 0) {
-                                return null;
-                            }
-                            if (endpointElement.getText().startsWith("\"")) {
-                                paramStartIndex++;
-                            }
-                            return new EndpointParameterReference(endpointElement, component, param, new TextRange(paramStartIndex, paramStartIndex + param.length()));
-                        })
-                        .filter(Objects::nonNull)
+            private PsiReference[] createParameterReferences(CamelEndpoint endpoint, PsiElement endpointElement, String component) {
+                int offset = endpointElement.getText().startsWith("\"") ? 1 : 0;
+                return endpoint.getOptions().stream()
+                        .filter(option -> option.valueRange() != null)
+                        .map(option -> new EndpointParameterReference(endpointElement, component, option.name(), option.nameRange().shiftRight(offset)))
                         .toArray(PsiReference[]::new);
             }
 
             @Override
-            protected boolean isEndpoint(String endpointUri) {
+            protected boolean isEndpoint(CamelEndpoint endpoint) {
                 return true;
             }
         };
@@ -16,9 +16,11 @@
  */
 package com.github.cameltooling.idea.reference.propertyplaceholder;
 
+import com.github.cameltooling.idea.reference.CamelReferencePrefilter;
 import com.github.cameltooling.idea.reference.CamelPsiReferenceProvider;
 import com.intellij.lang.properties.references.PropertyReference;
 import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.patterns.ElementPattern;
 import com.intellij.psi.*;
 import com.intellij.util.ProcessingContext;
@@ -41,13 +43,30 @@ public abstract class AbstractPropertyPlaceholderReferenceContributor<T extends
         return true;
     }
 
+    /**
+     * @param pattern the allowed location to which the prefilter is added.
+     * @return the given location evaluated only on the elements that contain the start token of a placeholder.
+     */
+    protected ElementPattern<PsiElement> withPrefilter(ElementPattern<? extends PsiElement> pattern) {
+        return CamelReferencePrefilter.candidate(pattern, this::containsStartToken);
+    }
+
+    private boolean containsStartToken(CharSequence text) {
+        for (T def : getPlaceholderDefinitions()) {
+            if (StringUtil.contains(text, def.getStartToken())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void registerReferenceProviders(@NotNull PsiReferenceRegistrar registrar) {
         List<ElementPattern<? extends PsiElement>> patterns = getAllowedPropertyPlaceholderLocations();
         if (!patterns.isEmpty()) {
             PsiReferenceProvider propertyReferenceProvider = createProvider();
             patterns.forEach(pattern -> {
-                registrar.registerReferenceProvider(pattern, propertyReferenceProvider);
+                registrar.registerReferenceProvider(withPrefilter(pattern), propertyReferenceProvider);
             });
         }
     }
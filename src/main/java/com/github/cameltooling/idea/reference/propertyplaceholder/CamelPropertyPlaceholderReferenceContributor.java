@@ -16,6 +16,7 @@
  */
 package com.github.cameltooling.idea.reference.propertyplaceholder;
 
+import com.github.cameltooling.idea.reference.CamelReferencePrefilter;
 import com.intellij.lang.properties.references.PropertyReference;
 import com.intellij.patterns.ElementPattern;
 import com.intellij.psi.PsiElement;
@@ -47,4 +48,11 @@ public class CamelPropertyPlaceholderReferenceContributor extends AbstractProper
         return List.of(DEF);
     }
 
+    @Override
+    protected ElementPattern<PsiElement> withPrefilter(ElementPattern<? extends PsiElement> pattern) {
+        return CamelReferencePrefilter.candidate(
+            pattern, CamelReferencePrefilter.containing(PROPERTY_PLACEHOLDER_START_TOKEN)
+        );
+    }
+
 }
\ No newline at end of file
@@ -16,11 +16,11 @@
  */
 package com.github.cameltooling.idea.runner;
 
-import java.io.BufferedReader;
-import java.io.IOException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import com.github.cameltooling.idea.service.CamelJBangLauncherService;
 import com.github.cameltooling.idea.service.CamelJBangService;
 import com.github.cameltooling.idea.service.CamelProjectPreferenceService;
 import com.github.cameltooling.idea.service.CamelRuntime;
@@ -33,6 +33,8 @@ import com.intellij.execution.configurations.RemoteConnection;
 import com.intellij.execution.executors.DefaultDebugExecutor;
 import com.intellij.execution.process.KillableColoredProcessHandler;
 import com.intellij.execution.process.OSProcessHandler;
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.execution.process.ProcessListener;
 import com.intellij.execution.process.ProcessTerminatedListener;
 import com.intellij.execution.runners.ExecutionEnvironment;
 import com.intellij.execution.target.RunTargetsEnabled;
@@ -46,11 +48,16 @@ import com.intellij.execution.target.local.LocalTargetEnvironmentRequest;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.progress.EmptyProgressIndicator;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
 import org.jetbrains.annotations.NotNull;
 
 public class CamelJBangRunProfileState extends CommandLineState implements TargetEnvironmentAwareRunProfileState {
 
     private static final Logger LOG = Logger.getInstance(CamelJBangRunProfileState.class);
+    /**
+     * The banner printed by the JDWP agent once the debug port is ready to accept connections.
+     */
+    private static final String PORT_READINESS_BANNER = "Listening for transport dt_socket at address";
     private TargetedCommandLineBuilder commandLine;
     private final Executor executor;
     private final CamelJBangRunConfiguration configuration;
@@ -92,30 +99,23 @@ public class CamelJBangRunProfileState extends CommandLineState implements Targe
             targetedCommandLine.getCharset(),
             targetedCommandLineBuilder.getFilesToDeleteOnTermination());
         ProcessTerminatedListener.attach(handler);
-        awaitForPortToBeReady(process);
+        if (connection != null) {
+            handler.addProcessListener(new DebugPortListener());
+        }
         return handler;
     }
 
     /**
-     * Ensures that the debug port is ready to accept connections
+     * Indicates whether the debugger should keep trying to attach to the debug port until it accepts connections.
+     * <p>
+     * Camel JBang may need to resolve its dependencies before launching the application, so the debug port is
+     * only opened after an unknown amount of time. The attachment is retried by the debugger itself, in the background,
+     * until the JDWP agent listens or the process ends, which avoids blocking the launch or bounding it with a timeout.
+     *
+     * @return {@code true} if the state is launched in debug mode, {@code false} otherwise.
      */
-    private void awaitForPortToBeReady(Process process) {
-        if (connection != null) {
-            try {
-                // Don't close the reader since the process is still running
-                String line = process.inputReader().readLine();
-                if (line == null) {
-                    LOG.warn("Could not debug the Camel JBang application");
-                    try (BufferedReader reader = process.errorReader()) {
-                        reader.lines().forEach(LOG::warn);
-                    }
-                } else {
-                    LOG.debug("The line contains the expected pattern: " + line.contains("Listening for transport"));
-                }
-            } catch (IOException e) {
-                LOG.debug("Could not ensure that the debug port is ready to accept connection");
-            }
-        }
+    public boolean isPollConnection() {
+        return connection != null;
     }
 
     @NotNull
@@ -152,23 +152,49 @@ public class CamelJBangRunProfileState extends CommandLineState implements Targe
         // Nothing to do
     }
 
+    /**
+     * {@code DebugPortListener} is the listener watching the output of the process until the banner of the JDWP
+     * agent is printed, to report whether the debug port could be opened. It is added as soon as the process is
+     * created so that it sees the output from the beginning, once the process handler is started by the platform.
+     */
+    private static final class DebugPortListener implements ProcessListener {
+
+        /**
+         * Whether the banner of the JDWP agent has been printed.
+         */
+        private volatile boolean ready;
+
+        @Override
+        public void onTextAvailable(@NotNull ProcessEvent event, @NotNull Key outputType) {
+            if (!ready && event.getText().contains(PORT_READINESS_BANNER)) {
+                LOG.debug("The debug port is ready to accept connections");
+                ready = true;
+            }
+        }
+
+        @Override
+        public void processTerminated(@NotNull ProcessEvent event) {
+            if (!ready) {
+                LOG.warn("Could not debug the Camel JBang application, the process ended with the exit code " + event.getExitCode());
+            }
+        }
+    }
+
     @NotNull
     protected TargetedCommandLineBuilder createTargetedCommandLine(@NotNull TargetEnvironmentRequest request) {
         TargetedCommandLineBuilder builder = new TargetedCommandLineBuilder(request);
-        builder.setExePath("jbang");
         CamelJBangRunConfigurationOptions options = configuration.getOptions();
         boolean debug = executor.getId().equals(DefaultDebugExecutor.EXECUTOR_ID);
+        Project project = configuration.getProject();
+        String debugAddress = null;
+        List<String> systemProperties = List.of();
         if (debug) {
-            builder.addParameter(String.format("--debug=%s:%s", connection.getDebuggerHostName(), connection.getDebuggerAddress()));
-            builder.addParameter("-Dorg.apache.camel.debugger.suspend=true");
-            builder.addParameter("-Dorg.apache.camel.jmx.disabled=false");
+            debugAddress = String.format("%s:%s", connection.getDebuggerHostName(), connection.getDebuggerAddress());
+            systemProperties = List.of("-Dorg.apache.camel.debugger.suspend=true", "-Dorg.apache.camel.jmx.disabled=false");
         }
-        Project project = configuration.getProject();
+        project.getService(CamelJBangLauncherService.class)
+            .configure(builder, request instanceof LocalTargetEnvironmentRequest, debugAddress, systemProperties);
         String version = project.getService(CamelJBangService.class).getCamelJBangVersion();
-        if (version != null) {
-            builder.addParameter(String.format("-Dcamel.jbang.version=%s", version));
-        }
-        builder.addParameter("camel@apache/camel");
         builder.addParameter("run");
         options.getCmdOptions().forEach(builder::addParameter);
         Set<String> dependencies = new HashSet<>(options.getDependencies());
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.runner.debugger;
+
+import com.github.cameltooling.idea.runner.debugger.breakpoint.CamelBreakpoint;
+import org.apache.camel.api.management.mbean.ManagedBacklogDebuggerMBean;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The Camel Debugger state of one of the Camel contexts of the debugged application.
+ * <p/>
+ * An application may run several Camel contexts (typically in Karaf or multi-tenant deployments), each of them
+ * exposing its own {@code BacklogDebugger} MBean and its own routes. Since node ids are only unique within a given
+ * Camel context, the breakpoints and the routes are tracked per context.
+ */
+final class CamelContextDebugger {
+
+    /**
+     * The name of the key property identifying the Camel context in the Camel MBean names.
+     */
+    static final String CONTEXT_KEY_PROPERTY = "context";
+    /**
+     * The name of the key property identifying the type of Camel MBean.
+     */
+    static final String TYPE_KEY_PROPERTY = "type";
+    /**
+     * The type of the Camel MBeans corresponding to routes.
+     */
+    static final String ROUTES_TYPE = "routes";
+    private static final String ROUTE_TAG = "route";
+
+    private final String name;
+    private final ObjectName debuggerMBeanObjectName;
+    private final ManagedBacklogDebuggerMBean backlogDebugger;
+    private final Map<String, CamelBreakpoint> breakpoints = new ConcurrentHashMap<>();
+    private final List<String> explicitBreakpointIDs = new CopyOnWriteArrayList<>();
+    /**
+     * The MBean names of the routes that have been added, removed or reloaded since the last refresh of the routes,
+     * indexed by route id.
+     */
+    private final Map<String, ObjectName> changedRoutes = new ConcurrentHashMap<>();
+    private volatile CamelRoutesIndex routesIndex = CamelRoutesIndex.EMPTY;
+    private volatile ObjectName contextMBeanObjectName;
+    /**
+     * The source locations of the routes indexed by path of the corresponding file.
+     */
+    private volatile Map<String, List<String>> sourceLocationsByPath = Map.of();
+
+    CamelContextDebugger(@NotNull ObjectName debuggerMBeanObjectName, @NotNull ManagedBacklogDebuggerMBean backlogDebugger) {
+        this.name = debuggerMBeanObjectName.getKeyProperty(CONTEXT_KEY_PROPERTY);
+        this.debuggerMBeanObjectName = debuggerMBeanObjectName;
+        this.backlogDebugger = backlogDebugger;
+    }
+
+    /**
+     * @return the name of the Camel context as it appears in the key property {@code context} of its MBeans.
+     */
+    String getName() {
+        return name;
+    }
+
+    ObjectName getDebuggerMBeanObjectName() {
+        return debuggerMBeanObjectName;
+    }
+
+    ManagedBacklogDebuggerMBean getBacklogDebugger() {
+        return backlogDebugger;
+    }
+
+    /**
+     * @return the breakpoints of the Camel context indexed by node id.
+     */
+    Map<String, CamelBreakpoint> getBreakpoints() {
+        return breakpoints;
+    }
+
+    /**
+     * @return the ids of the nodes on which a breakpoint has been explicitly set by the user in the Camel context.
+     */
+    List<String> getExplicitBreakpointIDs() {
+        return explicitBreakpointIDs;
+    }
+
+    /**
+     * @return the routes of the Camel context as dumped by the Camel context MBean, {@code null} if the Camel
+     * context MBean could not be found.
+     */
+    @Nullable
+    Document getRoutesDOMDocument() {
+        return routesIndex.getDocument();
+    }
+
+    void setRoutesDOMDocument(@Nullable Document routesDOMDocument) {
+        this.routesIndex = CamelRoutesIndex.of(routesDOMDocument);
+    }
+
+    /**
+     * @return the index of the nodes of the routes of the Camel context.
+     */
+    CamelRoutesIndex getRoutesIndex() {
+        return routesIndex;
+    }
+
+    /**
+     * @param path the path of the file for which the source locations are expected.
+     * @return the source locations of the routes corresponding to the given file, an empty list if there is none.
+     */
+    List<String> getSourceLocations(String path) {
+        return sourceLocationsByPath.getOrDefault(path, List.of());
+    }
+
+    void setSourceLocationsByPath(@NotNull Map<String, List<String>> sourceLocationsByPath) {
+        this.sourceLocationsByPath = sourceLocationsByPath;
+    }
+
+    /**
+     * @return the ids of all the routes currently known in the Camel context.
+     */
+    Set<String> getRouteIds() {
+        Set<String> result = new LinkedHashSet<>();
+        Document document = routesIndex.getDocument();
+        if (document != null) {
+            for (Element route : getRouteElements(document.getDocumentElement()).values()) {
+                result.add(route.getAttribute("id"));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Marks the given route as added, removed or reloaded such that it is refreshed by the next call to
+     * {@link #pollChangedRoutes()}.
+     *
+     * @param routeMBeanObjectName the name of the MBean of the route that has changed.
+     */
+    void markRouteChanged(@NotNull ObjectName routeMBeanObjectName) {
+        changedRoutes.put(routeIdOf(routeMBeanObjectName), routeMBeanObjectName);
+    }
+
+    /**
+     * @return the MBean names of the routes that changed since the last call, indexed by route id.
+     */
+    Map<String, ObjectName> pollChangedRoutes() {
+        Map<String, ObjectName> result = new HashMap<>();
+        for (String routeId : Set.copyOf(changedRoutes.keySet())) {
+            ObjectName name = changedRoutes.remove(routeId);
+            if (name != null) {
+                result.put(routeId, name);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Incrementally updates the routes of the Camel context. The routes are updated in a copy of the current routes
+     * which then replaces them, so that concurrent readers always see a consistent state.
+     *
+     * @param routes the new definition of the routes indexed by route id, a {@code null} value meaning that the route
+     *               has been removed.
+     */
+    void updateRoutes(@NotNull Map<String, Element> routes) {
+        Document current = routesIndex.getDocument();
+        if (current == null || routes.isEmpty()) {
+            return;
+        }
+        Document document = (Document) current.cloneNode(true);
+        Element root = document.getDocumentElement();
+        Map<String, Element> existingRoutes = getRouteElements(root);
+        routes.forEach((routeId, route) -> {
+            Element existing = existingRoutes.get(routeId);
+            if (route == null) {
+                if (existing != null) {
+                    root.removeChild(existing);
+                }
+            } else {
+                Node imported = document.importNode(route, true);
+                if (existing == null) {
+                    root.appendChild(imported);
+                } else {
+                    root.replaceChild(imported, existing);
+                }
+            }
+        });
+        this.routesIndex = CamelRoutesIndex.of(document);
+        // The ids may now point to other nodes
+        breakpoints.clear();
+    }
+
+    /**
+     * @return the name of the MBean of the Camel context, {@code null} if it could not be found.
+     */
+    @Nullable
+    ObjectName getContextMBeanObjectName() {
+        return contextMBeanObjectName;
+    }
+
+    void setContextMBeanObjectName(@Nullable ObjectName contextMBeanObjectName) {
+        this.contextMBeanObjectName = contextMBeanObjectName;
+    }
+
+    /**
+     * @param routeId the id of the route for which the name of the MBean is expected.
+     * @return the name of the MBean of the given route in the Camel context.
+     */
+    ObjectName getRouteMBeanObjectName(String routeId) throws MalformedObjectNameException {
+        return new ObjectName(
+            String.format("%s:%s=%s,%s=%s,name=%s", debuggerMBeanObjectName.getDomain(), CONTEXT_KEY_PROPERTY, name,
+                TYPE_KEY_PROPERTY, ROUTES_TYPE, ObjectName.quote(routeId))
+        );
+    }
+
+    /**
+     * @param objectName the name of the MBean to test.
+     * @return {@code true} if the given name is the one of a route MBean, {@code false} otherwise.
+     */
+    static boolean isRouteMBean(@NotNull ObjectName objectName) {
+        return ROUTES_TYPE.equals(objectName.getKeyProperty(TYPE_KEY_PROPERTY))
+            && objectName.getKeyProperty(CONTEXT_KEY_PROPERTY) != null
+            && objectName.getKeyProperty("name") != null;
+    }
+
+    /**
+     * @param routeMBeanObjectName the name of the MBean of a route.
+     * @return the id of the route extracted from the name of its MBean.
+     */
+    static String routeIdOf(@NotNull ObjectName routeMBeanObjectName) {
+        String name = routeMBeanObjectName.getKeyProperty("name");
+        return name.startsWith("\"") ? ObjectName.unquote(name) : name;
+    }
+
+    /**
+     * @param node the node from which the routes are searched, the node itself included.
+     * @return the route elements found in the given node and its children indexed by route id.
+     */
+    static Map<String, Element> getRouteElements(@Nullable Node node) {
+        Map<String, Element> result = new HashMap<>();
+        if (node instanceof Element element && isRoute(element)) {
+            result.put(element.getAttribute("id"), element);
+        } else if (node != null) {
+            for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child instanceof Element element && isRoute(element)) {
+                    result.put(element.getAttribute("id"), element);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param element the element to test.
+     * @return {@code true} if the given element of a routes dump is a route, {@code false} otherwise.
+     */
+    static boolean isRoute(Element element) {
+        return ROUTE_TAG.equals(element.getLocalName() == null ? element.getNodeName() : element.getLocalName());
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -41,6 +41,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class CamelDebugProcess extends XDebugProcess {
 
@@ -127,15 +128,21 @@ public class CamelDebugProcess extends XDebugProcess {
         camelDebuggerSession.runToPosition(context.getActiveExecutionStack().getTopFrame().getSourcePosition(), xSourcePosition);
     }
 
-    public void setValue(CamelDebuggerTarget target,
-                         @Nullable String targetName,
-                         String expression,
-                         String language,
-                         String resultType,
-                         @Nullable String bodyMediaType,
-                         @Nullable String outputMediaType) {
-        camelDebuggerSession.setValue(target, targetName, expression, language, resultType, bodyMediaType, outputMediaType);
-        forceRefresh = true;
+    /**
+     * Sets asynchronously the result of the given expression as new value of the given target.
+     *
+     * @return a future completed once the value has been set.
+     * @see CamelDebuggerSession#setValue(CamelDebuggerTarget, String, String, String, String, String, String)
+     */
+    public CompletableFuture<Void> setValue(CamelDebuggerTarget target,
+                                            @Nullable String targetName,
+                                            String expression,
+                                            String language,
+                                            String resultType,
+                                            @Nullable String bodyMediaType,
+                                            @Nullable String outputMediaType) {
+        return camelDebuggerSession.setValue(target, targetName, expression, language, resultType, bodyMediaType, outputMediaType)
+            .whenComplete((result, error) -> forceRefresh = true);
     }
 
     @NotNull
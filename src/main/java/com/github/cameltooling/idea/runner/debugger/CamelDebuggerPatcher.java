@@ -17,16 +17,19 @@
 package com.github.cameltooling.idea.runner.debugger;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -41,6 +44,7 @@ import com.github.cameltooling.idea.runner.CamelRunConfiguration;
 import com.github.cameltooling.idea.runner.CamelSpringBootRunConfigurationType;
 import com.github.cameltooling.idea.runner.debugger.breakpoint.CamelBreakpointHandler;
 import com.github.cameltooling.idea.service.CamelCatalogService;
+import com.github.cameltooling.idea.service.CamelDebuggerCacheService;
 import com.github.cameltooling.idea.service.CamelProjectPreferenceService;
 import com.github.cameltooling.idea.service.CamelRuntime;
 import com.github.cameltooling.idea.service.CamelService;
@@ -83,7 +87,7 @@ import org.jetbrains.plugins.gradle.settings.GradleSettings;
  * <p>
  * If the auto setup of the Camel Debugger has been enabled in the preferences and at least one Camel breakpoint has been detected,
  * it detects the version of Camel used and if the version is recent enough, when possible it adds the artifacts {@code camel-debug} and {@code camel-management}
- * that match the best with the detected Camel runtime either to a temporary pom/gradle build file or to the classpath in case of respectively
+ * that match the best with the detected Camel runtime either to a generated pom/gradle build file or to the classpath in case of respectively
  * a {@link CamelRunConfiguration}/{@link ExecuteRunConfigurationTask} or a {@link JavaRunConfigurationBase}. Finally, it automatically configures the Camel
  * Debugger by adding System properties, environment variables and/or program parameters to the original command.
  * <p>
@@ -307,19 +311,19 @@ public class CamelDebuggerPatcher extends JavaProgramPatcher {
     }
 
     /**
-     * Automatically adds the Camel Debugger and its dependencies to a temporary pom file and ensures that the temporary
-     * pom file is deleted on exit.
+     * Automatically adds the Camel Debugger and its dependencies to a generated pom file which is kept to be reused by
+     * the next debug sessions and deleted once the project is closed.
      *
-     * @param mode       the execution mode to use to add the Camel Debugger and its dependencies to a temporary pom file.
+     * @param mode       the execution mode to use to add the Camel Debugger and its dependencies to a generated pom file.
      * @param project    the project for which the Camel debugger is added.
-     * @param parameters the parameters to patch to take into account the temporary pom file.
+     * @param parameters the parameters to patch to take into account the generated pom file.
      * @param version    the default version of the artifacts to add.
-     * @throws IOException            if the temporary pom file could not be generated due to an IO error.
+     * @throws IOException            if the generated pom file could not be generated due to an IO error.
      * @throws XmlPullParserException if the current pom file could not be read.
      */
     private static void autoAddCamelDebuggerToCustomPom(ExecutionMode mode, Project project, JavaParameters parameters,
                                                         String version) throws IOException, XmlPullParserException {
-        autoDelete(project, List.of(generatePomFileWithCamelDebugger(mode, project, parameters, version)));
+        generatePomFileWithCamelDebugger(mode, project, parameters, version);
     }
 
     /**
@@ -341,8 +345,9 @@ public class CamelDebuggerPatcher extends JavaProgramPatcher {
         final ParametersList parametersList = parameters.getProgramParametersList();
         final int index = Math.max(parametersList.getParameters().indexOf("-f"), parametersList.getParameters().indexOf("--file"));
         String targetFileName = index == -1 ? "pom.xml" : parametersList.get(index + 1);
-        try (FileReader fileReader = new FileReader(new File(parameters.getWorkingDirectory(), targetFileName))) {
-            model = new MavenXpp3Reader().read(fileReader);
+        final String source = Files.readString(new File(parameters.getWorkingDirectory(), targetFileName).toPath());
+        try (StringReader reader = new StringReader(source)) {
+            model = new MavenXpp3Reader().read(reader);
         }
         // Remove camel-management from the dependencies to prevent conflicts
         model.getDependencies().removeIf(CamelDebuggerPatcher::isCamelManagement);
@@ -358,9 +363,9 @@ public class CamelDebuggerPatcher extends JavaProgramPatcher {
         }
         final String fileName = String.format("%s%s", GENERATED_FILE_NAME_PREFIX, targetFileName);
         final File generatedPom = new File(parameters.getWorkingDirectory(), fileName);
-        try (FileWriter writer = new FileWriter(generatedPom)) {
-            new MavenXpp3Writer().write(writer, model);
-        }
+        StringWriter writer = new StringWriter();
+        new MavenXpp3Writer().write(writer, model);
+        writeGeneratedFile(mode, project, version, generatedPom.toPath(), source, writer.toString());
         if (index == -1) {
             parametersList.add("-f");
             parametersList.add(fileName);
@@ -371,18 +376,18 @@ public class CamelDebuggerPatcher extends JavaProgramPatcher {
     }
 
     /**
-     * Automatically adds the Camel Debugger and its dependencies to a temporary gradle build file and ensures that the temporary
-     * gradle build file is deleted on exit.
+     * Automatically adds the Camel Debugger and its dependencies to a generated gradle build file which is kept to be reused
+     * by the next debug sessions and deleted once the project is closed.
      *
      * @param mode       the execution mode to use to add the Camel Debugger and its dependencies to the generated gradle build file.
      * @param project    the project for which the Camel debugger is added.
-     * @param parameters the parameters to patch to take into account the temporary gradle build file.
+     * @param parameters the parameters to patch to take into account the generated gradle build file.
      * @param version    the default version of the artifacts to add.
-     * @throws IOException            if the temporary gradle build file could not be generated due to an IO error.
+     * @throws IOException            if the generated gradle build file could not be generated due to an IO error.
      */
     private static void autoAddCamelDebuggerToCustomGradleBuild(ExecutionMode mode, Project project, JavaParameters parameters,
                                                                 String version) throws IOException {
-        autoDelete(project, generateBuildFilesWithCamelDebugger(mode, project, parameters, version));
+        generateBuildFilesWithCamelDebugger(mode, project, parameters, version);
     }
 
     /**
@@ -424,9 +429,11 @@ public class CamelDebuggerPatcher extends JavaProgramPatcher {
             }
         }
 
-        Path buildFile = createGeneratedFile(parent, targetBuildFileName);
+        Path buildFile = getGeneratedFile(parent, targetBuildFileName);
         boolean added = false;
-        try (FileWriter fileWriter = new FileWriter(buildFile.toFile(), true)) {
+        try (StringWriter fileWriter = new StringWriter()) {
+            String source = readSourceFile(parent, targetBuildFileName);
+            fileWriter.write(source);
             List<Dependency> dependencies = List.of(
                 mode.createCamelDebugDependency(project, version), mode.createCamelManagementDependency(project, version)
             );
@@ -451,6 +458,7 @@ public class CamelDebuggerPatcher extends JavaProgramPatcher {
                     writer.writeDependency(fileWriter, dependency);
                 }
             }
+            writeGeneratedFile(mode, project, version, buildFile, source, fileWriter.toString());
         }
         if (indexBuildFile == -1) {
             parametersList.add("-b");
@@ -466,9 +474,12 @@ public class CamelDebuggerPatcher extends JavaProgramPatcher {
             } else {
                 targetSettingsFileName = parametersList.get(indexSettingsFile + 1);
             }
-            Path settingsFile =  createGeneratedFile(parent, targetSettingsFileName);
-            try (FileWriter fileWriter = new FileWriter(settingsFile.toFile(), true)) {
+            Path settingsFile = getGeneratedFile(parent, targetSettingsFileName);
+            try (StringWriter fileWriter = new StringWriter()) {
+                String source = readSourceFile(parent, targetSettingsFileName);
+                fileWriter.write(source);
                 writer.writeBuildFileLocation(fileWriter, buildFile);
+                writeGeneratedFile(mode, project, version, settingsFile, source, fileWriter.toString());
             }
             if (indexSettingsFile == -1) {
                 parametersList.add("-c");
@@ -483,25 +494,83 @@ public class CamelDebuggerPatcher extends JavaProgramPatcher {
     }
 
     /**
-     * Creates a new generated file initialized with the content of the given source file if it
-     * exists. The file is created directly under the given parent path.
+     * Gives the path of the file generated from the given source file. The file is located directly under the given
+     * parent path.
      *
      * @param parent the parent folder of the generated file.
      * @param sourceFileName the name of the source file
-     * @return the created file.
-     * @throws IOException if the file could not be created.
+     * @return the path of the generated file.
+     */
+    private static Path getGeneratedFile(Path parent, String sourceFileName) {
+        return parent.resolve(String.format("%s%s", GENERATED_FILE_NAME_PREFIX, toSourceFileName(sourceFileName)));
+    }
+
+    /**
+     * Reads the content of the given source file.
+     *
+     * @param parent the parent folder of the source file.
+     * @param sourceFileName the name of the source file
+     * @return the content of the source file, an empty string if it doesn't exist.
+     * @throws IOException if the source file could not be read.
+     */
+    private static String readSourceFile(Path parent, String sourceFileName) throws IOException {
+        Path source = parent.resolve(toSourceFileName(sourceFileName));
+        return Files.exists(source) ? Files.readString(source) : "";
+    }
+
+    /**
+     * @param fileName the name of a source file or of a generated file.
+     * @return the name of the source file without the prefix of the generated files.
+     */
+    private static String toSourceFileName(String fileName) {
+        if (fileName.startsWith(GENERATED_FILE_NAME_PREFIX)) {
+            return fileName.substring(GENERATED_FILE_NAME_PREFIX.length());
+        }
+        return fileName;
+    }
+
+    /**
+     * Writes the given content into the given generated file unless it already has this content, and registers the
+     * generated file so that it is kept for the next debug sessions and deleted once the project is closed.
+     * <p/>
+     * The generated file is registered with a key made of the hash of its source file, the runtime and the version of
+     * Camel, such that a stale generated file is deleted as soon as one of them changes. As long as none of them
+     * changes, the generated file is left untouched from one debug session to another, which allows Maven and Gradle
+     * to reuse what they have already evaluated and resolved.
+     *
+     * @param mode    the execution mode used to add the Camel Debugger.
+     * @param project the project for which the file is generated.
+     * @param version the default version of the artifacts added.
+     * @param file    the generated file to write.
+     * @param source  the content of the source file from which the file is generated.
+     * @param content the expected content of the generated file.
+     * @throws IOException if the generated file could not be read or written.
      */
-    private static Path createGeneratedFile(Path parent, String sourceFileName) throws IOException {
-        if (sourceFileName.startsWith(GENERATED_FILE_NAME_PREFIX)) {
-            sourceFileName = sourceFileName.substring(GENERATED_FILE_NAME_PREFIX.length());
+    private static void writeGeneratedFile(ExecutionMode mode, Project project, String version, Path file,
+                                           String source, String content) throws IOException {
+        CamelRuntime runtime = mode.runtime == null ? CamelRuntime.getCamelRuntime(project) : mode.runtime;
+        String key = String.format("%s:%s:%s", hash(source), runtime.name(), version);
+        CamelDebuggerCacheService.getService(project).registerGeneratedFile(file.toFile(), key);
+        if (Files.exists(file) && Files.readString(file).equals(content)) {
+            LOG.debug("The generated file %s is up to date".formatted(file));
+            return;
         }
-        final String generatedFileName = String.format("%s%s", GENERATED_FILE_NAME_PREFIX, sourceFileName);
-        Path target = parent.resolve(generatedFileName);
-        Path source = parent.resolve(sourceFileName);
-        if (Files.exists(source)) {
-            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        Files.writeString(file, content);
+    }
+
+    /**
+     * @param content the content to hash.
+     * @return the SHA-256 hash of the given content encoded in Base64.
+     * @throws IOException if the hash algorithm is not available.
+     */
+    private static String hash(String content) throws IOException {
+        try {
+            return Base64.getEncoder().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
         }
-        return target;
     }
 
     /**
@@ -519,27 +588,6 @@ public class CamelDebuggerPatcher extends JavaProgramPatcher {
         return false;
     }
 
-    /**
-     * Deletes automatically the given temporary files when the debug process is stopped.
-     *
-     * @param project          the project for which the topic {@link XDebuggerManager#TOPIC} is observed to trigger the
-     *                         deletion.
-     * @param temporaryFiles the temporary files to automatically delete.
-     */
-    private static void autoDelete(Project project, List<File> temporaryFiles) {
-        if (temporaryFiles.isEmpty()) {
-            return;
-        }
-        registerCleanUpTask(project, () -> {
-            for (File temporaryFile : temporaryFiles) {
-                if (!temporaryFile.delete()) {
-                    LOG.debug("The temporary file %s could not be deleted".formatted(temporaryFile));
-                    temporaryFile.deleteOnExit();
-                }
-            }
-        });
-    }
-
     /**
      * Registers a cleanup task to be executed once the debugger is stopped.
      *
@@ -602,6 +650,14 @@ public class CamelDebuggerPatcher extends JavaProgramPatcher {
      */
     @NotNull
     private static List<URL> downloadCamelDebugger(Project project, @NotNull CamelRuntime runtime, @NotNull String version) throws IOException {
+        CamelDebuggerCacheService service = CamelDebuggerCacheService.getService(project);
+        List<URL> classpath = service.getCamelDebuggerClasspath(runtime, version);
+        if (classpath != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Reusing the classpath of %s %s resolved previously", runtime.getDebugArtifact(version), version));
+            }
+            return classpath;
+        }
         try (MavenArtifactRetrieverContext context = new MavenArtifactRetrieverContext(project)) {
             ArtifactCoordinates debugArtifact = runtime.getDebugArtifact(version);
             if (LOG.isDebugEnabled()) {
@@ -618,7 +674,9 @@ public class CamelDebuggerPatcher extends JavaProgramPatcher {
             if (LOG.isDebugEnabled()) {
                 LOG.debug(String.format("The %s %s has been downloaded with all its dependencies", debugArtifact, version));
             }
-            return Arrays.asList(context.getClassLoader().getURLs());
+            classpath = Arrays.asList(context.getClassLoader().getURLs());
+            service.setCamelDebuggerClasspath(runtime, version, classpath);
+            return classpath;
         }
     }
 
@@ -109,7 +109,7 @@ public class CamelDebuggerRunner extends GenericDebuggerRunner {
     protected RunContentDescriptor createContentDescriptor(@NotNull RunProfileState state,
                                                            @NotNull ExecutionEnvironment environment) throws ExecutionException {
         if (state instanceof CamelJBangRunProfileState connection) {
-            return attachVirtualMachine(state, environment, connection.createRemoteConnection(), false);
+            return attachVirtualMachine(state, environment, connection.createRemoteConnection(), connection.isPollConnection());
         } else if (state instanceof CamelRemoteRunProfileState connection) {
             AtomicReference<ExecutionException> ex = new AtomicReference<>();
             AtomicReference<RunContentDescriptor> result = new AtomicReference<>();
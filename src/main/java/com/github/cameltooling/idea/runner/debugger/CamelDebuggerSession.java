@@ -21,6 +21,7 @@ import com.github.cameltooling.idea.runner.debugger.breakpoint.CamelBreakpoint;
 import com.github.cameltooling.idea.runner.debugger.stack.CamelMessageInfo;
 import com.github.cameltooling.idea.runner.debugger.util.ClasspathUtils;
 import com.github.cameltooling.idea.runner.debugger.util.DebuggerUtils;
+import com.github.cameltooling.idea.service.CamelClassLoaderService;
 import com.github.cameltooling.idea.service.CamelRuntime;
 import com.github.cameltooling.idea.util.IdeaUtils;
 import com.github.cameltooling.idea.util.StringUtils;
@@ -31,13 +32,13 @@ import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.xml.XmlTag;
 import com.intellij.xdebugger.AbstractDebuggerSession;
 import com.intellij.xdebugger.XDebugSession;
@@ -48,6 +49,7 @@ import com.intellij.xdebugger.breakpoints.XBreakpointProperties;
 import com.intellij.xdebugger.breakpoints.XLineBreakpoint;
 import org.apache.camel.api.management.mbean.ManagedBacklogDebuggerMBean;
 import org.apache.camel.api.management.mbean.ManagedCamelContextMBean;
+import org.apache.camel.api.management.mbean.ManagedRouteMBean;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.yaml.psi.YAMLKeyValue;
@@ -59,14 +61,16 @@ import org.w3c.dom.NodeList;
 import javax.management.JMX;
 import javax.management.MBeanException;
 import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
+import javax.management.Notification;
+import javax.management.NotificationListener;
 import javax.management.ObjectName;
+import javax.management.Query;
+import javax.management.QueryExp;
 import javax.management.ReflectionException;
 import javax.management.remote.JMXConnector;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -76,12 +80,23 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import static com.github.cameltooling.idea.runner.debugger.CamelDebuggerContext.CAMEL;
@@ -97,6 +112,24 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
     private static final long FALLBACK_TIMEOUT = Long.MAX_VALUE - 1;
     private static final String MAIN_RESOURCES_RELATIVE_PATH = "src/main/resources/";
     private static final String SOURCE_PREFIX = "source:";
+    /**
+     * The maximum number of sequences of remote calls executed in parallel to synchronize the breakpoints.
+     */
+    private static final int BREAKPOINT_SYNC_PIPELINES = 4;
+    /**
+     * The maximum amount of seconds an asynchronous expression evaluation can take.
+     */
+    private static final long EVALUATION_TIMEOUT_SECONDS = 30;
+    /**
+     * The initial and maximum delays in milliseconds between two checks of the state of the Camel contexts.
+     */
+    private static final long CONTEXT_STATE_MIN_POLL_DELAY = 50;
+    private static final long CONTEXT_STATE_MAX_POLL_DELAY = 1000;
+    /**
+     * The minimum amount of nanoseconds between two checks of the reloaded routes when the route changes are detected
+     * by polling, as all the routes need to be dumped.
+     */
+    private static final long RELOADED_ROUTES_CHECK_INTERVAL = TimeUnit.SECONDS.toNanos(5);
     /**
      * All breakpoints to add that are kept in memory to register them on connect or re-connect.
      */
@@ -106,21 +139,46 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
      */
     private final List<XLineBreakpoint<XBreakpointProperties<?>>> breakpointsRemove = new CopyOnWriteArrayList<>();
 
-    private final Map<String, CamelBreakpoint> breakpoints = new ConcurrentHashMap<>();
-    private final List<String> explicitBreakpointIDs = new CopyOnWriteArrayList<>();
-
     private final List<MessageReceivedListener> messageReceivedListeners = new CopyOnWriteArrayList<>();
 
     private final Project project;
 
-    private volatile ManagedBacklogDebuggerMBean backlogDebugger;
     private volatile JMXConnector connector;
     private volatile MBeanServerConnection serverConnection;
-    private volatile ObjectName debuggerMBeanObjectName;
 
-    private volatile org.w3c.dom.Document routesDOMDocument;
+    /**
+     * The debugger state of each Camel context of the debugged application, all sharing the same connection.
+     */
+    private volatile List<CamelContextDebugger> contextDebuggers = List.of();
+
+    private volatile TemporaryBreakpoint temporaryBreakpoint;
+
+    /**
+     * The files corresponding to the source locations of the routes dumps, indexed by source location.
+     */
+    private final Map<String, Optional<VirtualFile>> sourceLocationFiles = new ConcurrentHashMap<>();
 
-    private volatile String temporaryBreakpointId;
+    /**
+     * The asynchronous expression evaluations in progress, the watches, the variables and the evaluation dialog
+     * being possibly evaluated concurrently.
+     */
+    private final Set<CompletableFuture<Object>> pendingEvaluations = ConcurrentHashMap.newKeySet();
+    /**
+     * The locks serializing the DataSonnet evaluations per breakpoint, their media types being provided through
+     * headers of the suspended message.
+     */
+    private final Map<String, Lock> datasonnetEvaluationLocks = new ConcurrentHashMap<>();
+
+    /**
+     * Indicates whether the connection supports the notifications of route MBean (un)registrations, otherwise the
+     * route changes are detected by polling.
+     */
+    private volatile boolean routeNotificationsSupported;
+    /**
+     * The time in nanoseconds of the last check of the reloaded routes when the route changes are detected by polling.
+     */
+    private long lastReloadedRoutesCheck = System.nanoTime();
+    private final NotificationListener routesListener = this::onMBeanRegistrationChanged;
 
     private final XDebugSession xDebugSession;
     private final String jmxServiceUrl;
@@ -162,7 +220,12 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
     public boolean isConnected() {
         boolean isConnected = false;
         try {
-            isConnected = backlogDebugger != null && backlogDebugger.isEnabled();
+            for (CamelContextDebugger contextDebugger : contextDebuggers) {
+                if (contextDebugger.getBacklogDebugger().isEnabled()) {
+                    isConnected = true;
+                    break;
+                }
+            }
         } catch (Exception e) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Could not know if the BacklogDebugger is enabled: {}", e.getMessage());
@@ -173,12 +236,12 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
 
     @Override
     public boolean isStopped() {
-        return !backlogDebugger.isEnabled();
+        return contextDebuggers.stream().noneMatch(contextDebugger -> contextDebugger.getBacklogDebugger().isEnabled());
     }
 
     @Override
     public boolean isPaused() {
-        return backlogDebugger.isSingleStepMode();
+        return contextDebuggers.stream().anyMatch(contextDebugger -> contextDebugger.getBacklogDebugger().isSingleStepMode());
     }
 
     public void dispose() {
@@ -190,20 +253,22 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
     }
 
     public void disconnect() {
-        if (backlogDebugger != null) {
+        cancelPendingEvaluations();
+        List<CamelContextDebugger> debuggers = contextDebuggers;
+        contextDebuggers = List.of();
+        for (CamelContextDebugger contextDebugger : debuggers) {
+            ManagedBacklogDebuggerMBean backlogDebugger = contextDebugger.getBacklogDebugger();
             try {
                 backlogDebugger.detach();
             } catch (Exception e) {
-                LOG.warn("Could not detach the debugger: " + e.getMessage());
+                LOG.warn("Could not detach the debugger of the context " + contextDebugger + ": " + e.getMessage());
             }
             try {
                 backlogDebugger.disableDebugger();
             } catch (Exception e) {
                 if (LOG.isDebugEnabled()) {
-                    LOG.debug("Could not disable the BacklogDebugger: " + e.getMessage());
+                    LOG.debug("Could not disable the BacklogDebugger of the context " + contextDebugger + ": " + e.getMessage());
                 }
-            } finally {
-                backlogDebugger = null;
             }
         }
         closeConnector();
@@ -215,8 +280,7 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
      * {@link #disconnect()}, which first tries to gracefully detach and disable the debugger).
      */
     private void resetConnection() {
-        backlogDebugger = null;
-        debuggerMBeanObjectName = null;
+        contextDebuggers = List.of();
         closeConnector();
     }
 
@@ -262,23 +326,35 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
     }
 
     public void resume() {
+        cancelPendingEvaluations();
         if (isConnected()) {
             //Remove temporary breakpoint
-            if (temporaryBreakpointId != null && !explicitBreakpointIDs.contains(temporaryBreakpointId)) {
-                backlogDebugger.removeBreakpoint(temporaryBreakpointId);
+            TemporaryBreakpoint temporary = temporaryBreakpoint;
+            if (temporary != null && !temporary.isExplicit()) {
+                temporary.context().getBacklogDebugger().removeBreakpoint(temporary.id());
+            }
+            for (CamelContextDebugger contextDebugger : contextDebuggers) {
+                contextDebugger.getBacklogDebugger().resumeAll();
             }
-            backlogDebugger.resumeAll();
         }
-        temporaryBreakpointId = null;
+        temporaryBreakpoint = null;
     }
 
-    public void setValue(CamelDebuggerTarget target,
-                         @Nullable String targetName,
-                         String expression,
-                         String language,
-                         String resultType,
-                         @Nullable String bodyMediaType,
-                         @Nullable String outputMediaType) {
+    /**
+     * Sets asynchronously the result of the given expression, evaluated at the current position, as new value of the
+     * given target. The expression is evaluated by {@link #evaluateExpressionAsync(String, String, Map)} so it is
+     * subject to the same timeout and cancellation.
+     *
+     * @return a future completed once the value has been set, completed exceptionally if the evaluation has been
+     * cancelled, has timed out or if the value could not be set.
+     */
+    public CompletableFuture<Void> setValue(CamelDebuggerTarget target,
+                                            @Nullable String targetName,
+                                            String expression,
+                                            String language,
+                                            String resultType,
+                                            @Nullable String bodyMediaType,
+                                            @Nullable String outputMediaType) {
 
         XSourcePosition position = xDebugSession.getCurrentPosition();
         BreakpointElement breakpointElement = createBreakpointElementFromPosition(position);
@@ -287,9 +363,10 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
             if (LOG.isDebugEnabled()) {
                 LOG.debug(String.format("The breakpoint element could not be created from the position %s", position));
             }
-            return;
+            return CompletableFuture.completedFuture(null);
         }
         String breakpointId = breakpointElement.id();
+        ObjectName debuggerMBeanObjectName = breakpointElement.context().getDebuggerMBeanObjectName();
 
         //First evaluate expression
         Map<String, String> params = new HashMap<>();
@@ -301,86 +378,172 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
             params.put("outputMediaType", outputMediaType);
         }
 
-        try {
-            Object value = evaluateExpression(expression, language, params);
-            if (value != null) {
+        return evaluateExpressionAsync(expression, language, params).thenAccept(value -> {
+            if (value == null) {
+                return;
+            }
+            try {
                 if (target == MESSAGE_HEADER) {
-                    serverConnection.invoke(this.debuggerMBeanObjectName, "setMessageHeaderOnBreakpoint",
+                    serverConnection.invoke(debuggerMBeanObjectName, "setMessageHeaderOnBreakpoint",
                             new Object[]{breakpointId, targetName, value},
                             new String[]{"java.lang.String", "java.lang.String", "java.lang.Object"});
                 } else if (target == EXCHANGE_PROPERTY) {
-                    serverConnection.invoke(this.debuggerMBeanObjectName, "setExchangePropertyOnBreakpoint",
+                    serverConnection.invoke(debuggerMBeanObjectName, "setExchangePropertyOnBreakpoint",
                             new Object[]{breakpointId, targetName, value},
                             new String[]{"java.lang.String", "java.lang.String", "java.lang.Object"});
                 } else if (target == EXCHANGE_VARIABLE) {
-                    serverConnection.invoke(this.debuggerMBeanObjectName, "setExchangeVariableOnBreakpoint",
+                    serverConnection.invoke(debuggerMBeanObjectName, "setExchangeVariableOnBreakpoint",
                             new Object[]{breakpointId, targetName, value},
                             new String[]{"java.lang.String", "java.lang.String", "java.lang.Object"});
                 } else if (target == BODY) {
-                    serverConnection.invoke(this.debuggerMBeanObjectName, "setMessageBodyOnBreakpoint",
+                    serverConnection.invoke(debuggerMBeanObjectName, "setMessageBodyOnBreakpoint",
                             new Object[]{breakpointId, value},
                             new String[]{"java.lang.String", "java.lang.Object"});
                 }
+            } catch (Exception e) {
+                LOG.warn(String.format("Could not set the value of the expression %s", expression), e);
+                throw new CompletionException(e);
             }
-        } catch (Exception e) {
-            LOG.warn(String.format("Could not evaluate the expression %s", expression), e);
-        }
+        });
     }
 
-    public Object evaluateExpression(String script, String language, @Nullable Map<String, String> params) {
-        if (isConnected()) {
-            XSourcePosition position = xDebugSession.getCurrentPosition();
-            BreakpointElement breakpointElement = createBreakpointElementFromPosition(position);
-
-            if (breakpointElement == null) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("The breakpoint element could not be created from the position " + position);
-                }
-                return null;
+    /**
+     * Evaluates asynchronously the given expression at the current position. The evaluation is cancelled if it takes
+     * more than {@link #EVALUATION_TIMEOUT_SECONDS} seconds, if the debugged application is resumed or if the session
+     * is stopped. Several evaluations may be in progress at the same time, except the DataSonnet evaluations at the
+     * same breakpoint which are executed one after the other.
+     *
+     * @param script   the expression to evaluate.
+     * @param language the language of the expression.
+     * @param params   the evaluation parameters such as the result type and the media types.
+     * @return a future completed with the result of the evaluation, a {@link Throwable} if it failed remotely or
+     * {@code null} if not connected. The future is completed exceptionally with a {@link TimeoutException} in case of
+     * timeout.
+     */
+    public CompletableFuture<Object> evaluateExpressionAsync(String script, String language, @Nullable Map<String, String> params) {
+        XSourcePosition position = xDebugSession.getCurrentPosition();
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Future<?> task = ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            try {
+                result.complete(isConnected() ? evaluateExpression(position, script, language, params) : null);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
             }
-            String breakpointId = breakpointElement.id();
+        });
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                // Cancelled or timed out
+                task.cancel(true);
+            }
+            pendingEvaluations.remove(result);
+        });
+        pendingEvaluations.add(result);
+        return result.orTimeout(EVALUATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
 
-            String stringClassName = String.class.getName();
-            try {
-                Object result;
-                ClassLoader current = Thread.currentThread().getContextClassLoader();
-                try {
-                    Thread.currentThread().setContextClassLoader(ClasspathUtils.getProjectClassLoader(project, this.getClass().getClassLoader()));
+    /**
+     * Cancels all the pending asynchronous evaluations, their results being meaningless once the application is
+     * resumed or the session is stopped.
+     */
+    private void cancelPendingEvaluations() {
+        for (CompletableFuture<Object> pending : List.copyOf(pendingEvaluations)) {
+            pending.cancel(true);
+        }
+    }
 
-                    String bodyMediaType = params != null && params.containsKey("bodyMediaType") ? params.get("bodyMediaType") : "application/json";
-                    String outputMediaType = params != null && params.containsKey("outputMediaType") ? params.get("outputMediaType") : "application/json";
-                    String resultType = params != null && params.containsKey("resultType") ? params.get("resultType") : String.class.getName();
+    @Nullable
+    private Object evaluateExpression(XSourcePosition position, String script, String language, @Nullable Map<String, String> params) {
+        BreakpointElement breakpointElement = ApplicationManager.getApplication().runReadAction(
+            (Computable<BreakpointElement>) () -> createBreakpointElementFromPosition(position)
+        );
 
-                    if (CamelLanguages.DatasonnetLanguage.LANGUAGE_ID.equalsIgnoreCase(language)) {
-                        serverConnection.invoke(this.debuggerMBeanObjectName, "setMessageHeaderOnBreakpoint", new Object[]{breakpointId, "CamelDatasonnetBodyMediaType", bodyMediaType},
-                                new String[]{"java.lang.String", "java.lang.String", "java.lang.Object"});
+        if (breakpointElement == null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("The breakpoint element could not be created from the position " + position);
+            }
+            return null;
+        }
+        String breakpointId = breakpointElement.id();
+        ObjectName debuggerMBeanObjectName = breakpointElement.context().getDebuggerMBeanObjectName();
 
-                        serverConnection.invoke(this.debuggerMBeanObjectName, "setMessageHeaderOnBreakpoint", new Object[]{breakpointId, "CamelDatasonnetOutputMediaType", outputMediaType},
-                                new String[]{"java.lang.String", "java.lang.String", "java.lang.Object"});
+        String stringClassName = String.class.getName();
+        try {
+            Object result;
+            ClassLoader current = Thread.currentThread().getContextClassLoader();
+            try (CamelClassLoaderService.ClassLoaderLease projectClassLoader = ClasspathUtils.acquireProjectClassLoader(project, this.getClass().getClassLoader())) {
+                Thread.currentThread().setContextClassLoader(projectClassLoader.getClassLoader());
+
+                String bodyMediaType = params != null && params.containsKey("bodyMediaType") ? params.get("bodyMediaType") : "application/json";
+                String outputMediaType = params != null && params.containsKey("outputMediaType") ? params.get("outputMediaType") : "application/json";
+                String resultType = params != null && params.containsKey("resultType") ? params.get("resultType") : String.class.getName();
+                boolean isDatasonnet = CamelLanguages.DatasonnetLanguage.LANGUAGE_ID.equalsIgnoreCase(language);
+
+                // The BacklogDebugger cannot receive the media types along with the expression, so they are set as
+                // headers in parallel calls to pay the network latency only once. The headers are shared by all the
+                // evaluations at the same breakpoint, so the DataSonnet evaluations of a breakpoint are serialized
+                Lock lock = isDatasonnet
+                    ? datasonnetEvaluationLocks.computeIfAbsent(debuggerMBeanObjectName + "/" + breakpointId, k -> new ReentrantLock())
+                    : null;
+                if (lock != null) {
+                    lock.lockInterruptibly();
+                }
+                try {
+                    if (isDatasonnet) {
+                        invokeAll(List.of(
+                            () -> serverConnection.invoke(debuggerMBeanObjectName, "setMessageHeaderOnBreakpoint", new Object[]{breakpointId, "CamelDatasonnetBodyMediaType", bodyMediaType},
+                                new String[]{"java.lang.String", "java.lang.String", "java.lang.Object"}),
+                            () -> serverConnection.invoke(debuggerMBeanObjectName, "setMessageHeaderOnBreakpoint", new Object[]{breakpointId, "CamelDatasonnetOutputMediaType", outputMediaType},
+                                new String[]{"java.lang.String", "java.lang.String", "java.lang.Object"})
+                        ));
                     }
-
-                    result = serverConnection.invoke(this.debuggerMBeanObjectName, "evaluateExpressionAtBreakpoint",
-                            new Object[]{breakpointId, language, script, resultType},
-                            new String[]{stringClassName, stringClassName, stringClassName, stringClassName});
-
-                    if (CamelLanguages.DatasonnetLanguage.LANGUAGE_ID.equalsIgnoreCase(language)) {
-                        serverConnection.invoke(this.debuggerMBeanObjectName, "removeMessageHeaderOnBreakpoint", new Object[]{breakpointId, "CamelDatasonnetBodyMediaType"},
-                                new String[]{"java.lang.String", "java.lang.String"});
-
-                        serverConnection.invoke(this.debuggerMBeanObjectName, "removeMessageHeaderOnBreakpoint", new Object[]{breakpointId, "CamelDatasonnetOutputMediaType"},
-                                new String[]{"java.lang.String", "java.lang.String"});
+                    try {
+                        result = serverConnection.invoke(debuggerMBeanObjectName, "evaluateExpressionAtBreakpoint",
+                                new Object[]{breakpointId, language, script, resultType},
+                                new String[]{stringClassName, stringClassName, stringClassName, stringClassName});
+                    } finally {
+                        if (isDatasonnet) {
+                            invokeAll(List.of(
+                                () -> serverConnection.invoke(debuggerMBeanObjectName, "removeMessageHeaderOnBreakpoint", new Object[]{breakpointId, "CamelDatasonnetBodyMediaType"},
+                                    new String[]{"java.lang.String", "java.lang.String"}),
+                                () -> serverConnection.invoke(debuggerMBeanObjectName, "removeMessageHeaderOnBreakpoint", new Object[]{breakpointId, "CamelDatasonnetOutputMediaType"},
+                                    new String[]{"java.lang.String", "java.lang.String"})
+                            ));
+                        }
                     }
                 } finally {
-                    Thread.currentThread().setContextClassLoader(current);
+                    if (lock != null) {
+                        lock.unlock();
+                    }
                 }
-                return result;
-            } catch (MBeanException | ReflectionException mbe) {
-                return new Exception("Expression Evaluator is only available for Camel version 3.15 and later", mbe);
-            } catch (Exception e) {
-                return new Exception(e);
+            } finally {
+                Thread.currentThread().setContextClassLoader(current);
+            }
+            return result;
+        } catch (MBeanException | ReflectionException mbe) {
+            return new Exception("Expression Evaluator is only available for Camel version 3.15 and later", mbe);
+        } catch (Exception e) {
+            return new Exception(e);
+        }
+    }
+
+    /**
+     * Invokes the given remote calls in parallel and waits for all of them to complete.
+     *
+     * @param calls the remote calls to invoke.
+     * @throws Exception the first failure of a remote call if any.
+     */
+    private void invokeAll(List<Callable<Object>> calls) throws Exception {
+        List<Future<Object>> futures = new ArrayList<>(calls.size());
+        for (Callable<Object> call : calls) {
+            futures.add(ApplicationManager.getApplication().executeOnPooledThread(call));
+        }
+        for (Future<Object> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
             }
         }
-        return null;
     }
 
     public void stepInto(XSourcePosition position) {
@@ -392,6 +555,7 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
     }
 
     public void stepOut(XSourcePosition position) {
+        cancelPendingEvaluations();
         try {
             BreakpointElement breakpointElement = createBreakpointElementFromPosition(position);
 
@@ -402,12 +566,14 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
                 return;
             }
             String breakpointId = breakpointElement.id();
+            CamelContextDebugger contextDebugger = breakpointElement.context();
+            ManagedBacklogDebuggerMBean backlogDebugger = contextDebugger.getBacklogDebugger();
 
             //Get the route of the current tag
-            Element routeElement = getParentRouteId(breakpointId);
-            String routeId = routeElement.getAttribute("id");
+            Element routeElement = getParentRouteId(contextDebugger, breakpointId);
+            String routeId = routeElement == null ? null : routeElement.getAttribute("id");
             //Get current stack and find the caller in the stack
-            List<CamelMessageInfo> stack = getStack(breakpointId, dumpTracedMessagesAsXml(breakpointId));
+            List<CamelMessageInfo> stack = getStack(contextDebugger, breakpointId, dumpTracedMessagesAsXml(contextDebugger, breakpointId));
             CamelMessageInfo callerStackFrame = stack.stream()
                     .filter(info -> !info.getRouteId().equals(routeId) && info.getProcessorId().startsWith("to"))
                     .findFirst()
@@ -415,18 +581,13 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
             if (callerStackFrame == null) { //This is the top route
                 resume();
             } else {
-                String newTemporaryBreakpointId = getSiblingId(callerStackFrame.getProcessorId());
+                String newTemporaryBreakpointId = getSiblingId(contextDebugger, callerStackFrame.getProcessorId());
                 if (newTemporaryBreakpointId != null) {
                     //Add temporary breakpoint
                     backlogDebugger.addBreakpoint(newTemporaryBreakpointId);
                     //Run to that breakpoint
                     backlogDebugger.resumeBreakpoint(breakpointId);
-                    if (temporaryBreakpointId != null
-                            && !explicitBreakpointIDs.contains(temporaryBreakpointId)
-                            && !temporaryBreakpointId.equals(newTemporaryBreakpointId)) { //Remove previous temporary breakpoint
-                        backlogDebugger.removeBreakpoint(temporaryBreakpointId);
-                    }
-                    temporaryBreakpointId = newTemporaryBreakpointId;
+                    replaceTemporaryBreakpoint(new TemporaryBreakpoint(contextDebugger, newTemporaryBreakpointId));
                 } else { //This was the last one
                     resume();
                 }
@@ -438,10 +599,11 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
     }
 
     public void runToPosition(XSourcePosition fromPosition, XSourcePosition toPosition) {
-        BreakpointElement fromBreakpoint = createBreakpointElementFromPosition(fromPosition);
+        cancelPendingEvaluations();
+        List<BreakpointElement> fromBreakpoints = createBreakpointElementsFromPosition(fromPosition);
         BreakpointElement toBreakpoint = createBreakpointElementFromPosition(toPosition);
 
-        if (toBreakpoint == null || fromBreakpoint == null) { //this is not a tag
+        if (toBreakpoint == null || fromBreakpoints.isEmpty()) { //this is not a tag
             if (LOG.isDebugEnabled()) {
                 LOG.debug("The breakpoint element could not be created for the from/to positions " + fromPosition + "/" + toPosition);
             }
@@ -449,19 +611,20 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
         }
 
         String toBreakpointId = toBreakpoint.id();
+        CamelContextDebugger toContextDebugger = toBreakpoint.context();
 
-        breakpoints.put(toBreakpointId, new CamelBreakpoint(toBreakpointId, toBreakpoint.element(), toPosition));
+        toContextDebugger.getBreakpoints().put(toBreakpointId, new CamelBreakpoint(toBreakpointId, toBreakpoint.element(), toPosition));
 
-        backlogDebugger.addBreakpoint(toBreakpointId);
+        toContextDebugger.getBacklogDebugger().addBreakpoint(toBreakpointId);
         //Run to that breakpoint
-        backlogDebugger.resumeBreakpoint(fromBreakpoint.id());
-        if (temporaryBreakpointId != null && !explicitBreakpointIDs.contains(temporaryBreakpointId) && !toBreakpointId.equals(temporaryBreakpointId)) { //Remove previous temporary breakpoint
-            backlogDebugger.removeBreakpoint(temporaryBreakpointId);
+        for (BreakpointElement fromBreakpoint : fromBreakpoints) {
+            fromBreakpoint.context().getBacklogDebugger().resumeBreakpoint(fromBreakpoint.id());
         }
-        temporaryBreakpointId = toBreakpointId;
+        replaceTemporaryBreakpoint(new TemporaryBreakpoint(toContextDebugger, toBreakpointId));
     }
 
     private void nextStep(XSourcePosition position, boolean isOver) {
+        cancelPendingEvaluations();
         BreakpointElement breakpointElement = createBreakpointElementFromPosition(position);
 
         if (breakpointElement == null) {
@@ -472,23 +635,20 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
         }
         String breakpointId = breakpointElement.id();
         PsiElement breakpointTag = breakpointElement.element();
-        breakpoints.put(breakpointId, new CamelBreakpoint(breakpointId, breakpointTag, position));
+        CamelContextDebugger contextDebugger = breakpointElement.context();
+        ManagedBacklogDebuggerMBean backlogDebugger = contextDebugger.getBacklogDebugger();
+        contextDebugger.getBreakpoints().put(breakpointId, new CamelBreakpoint(breakpointId, breakpointTag, position));
 
         String name = breakpointTag instanceof XmlTag ? ((XmlTag) breakpointTag).getLocalName() : breakpointTag.getText();
 
         if (isOver && ("to".equals(name) || "toD".equals(name))) {
-            String newTemporaryBreakpointId = getSiblingId(breakpointId);
+            String newTemporaryBreakpointId = getSiblingId(contextDebugger, breakpointId);
             if (newTemporaryBreakpointId != null) {
                 //Add temporary breakpoint
                 backlogDebugger.addBreakpoint(newTemporaryBreakpointId);
                 //Run to that breakpoint
                 backlogDebugger.resumeBreakpoint(breakpointId);
-                if (temporaryBreakpointId != null
-                        && !explicitBreakpointIDs.contains(temporaryBreakpointId)
-                        && !newTemporaryBreakpointId.equals(temporaryBreakpointId)) { //Remove previous temporary breakpoint
-                    backlogDebugger.removeBreakpoint(temporaryBreakpointId);
-                }
-                temporaryBreakpointId = newTemporaryBreakpointId;
+                replaceTemporaryBreakpoint(new TemporaryBreakpoint(contextDebugger, newTemporaryBreakpointId));
             } else { //This was the last one
                 resume();
             }
@@ -497,6 +657,20 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
         }
     }
 
+    /**
+     * Replaces the current temporary breakpoint with the given one, removing the previous one from its Camel context
+     * unless the user explicitly set a breakpoint on the same node.
+     *
+     * @param newTemporaryBreakpoint the new temporary breakpoint that has already been added to its Camel context.
+     */
+    private void replaceTemporaryBreakpoint(TemporaryBreakpoint newTemporaryBreakpoint) {
+        TemporaryBreakpoint previous = temporaryBreakpoint;
+        if (previous != null && !previous.isExplicit() && !previous.equals(newTemporaryBreakpoint)) { //Remove previous temporary breakpoint
+            previous.context().getBacklogDebugger().removeBreakpoint(previous.id());
+        }
+        temporaryBreakpoint = newTemporaryBreakpoint;
+    }
+
     public CamelDebugProcess getCamelDebugProcess() {
         ContextAwareDebugProcess debugProcess = (ContextAwareDebugProcess) xDebugSession.getDebugProcess();
         return debugProcess.getDebugProcess(CAMEL, CamelDebugProcess.class);
@@ -563,12 +737,13 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
      */
     private void doConnect() throws CamelDebuggerConnectionException {
         final ClassLoader current = Thread.currentThread().getContextClassLoader();
-        try {
-            Thread.currentThread().setContextClassLoader(ClasspathUtils.getProjectClassLoader(project, this.getClass().getClassLoader()));
+        // Only the JMX types of Camel are exchanged while connecting, the whole project classpath is not needed
+        try (CamelClassLoaderService.ClassLoaderLease jmxClassLoader = ClasspathUtils.acquireJmxClassLoader(project, this.getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(jmxClassLoader.getClassLoader());
 
             this.connector = jmxConnectorProvider.getJMXConnector();
             this.serverConnection = connector.getMBeanServerConnection();
-            //init debugger
+            //init debuggers, one per camel context
             // org.apache.camel:context=camel-1,type=tracer,name=BacklogDebugger
             ObjectName objectName = new ObjectName("org.apache.camel:context=*,type=tracer,name=BacklogDebugger");
 
@@ -579,62 +754,57 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
                 // so this is treated as transient and left to the retry policy to eventually give up on.
                 throw CamelDebuggerConnectionException.Transient.noBacklogDebuggerMBeanFound(objectName.toString());
             }
-            this.debuggerMBeanObjectName = names.iterator().next();
-            backlogDebugger = JMX.newMBeanProxy(serverConnection, debuggerMBeanObjectName, ManagedBacklogDebuggerMBean.class);
-            backlogDebugger.enableDebugger();
-            backlogDebugger.setLoggingLevel(BACKLOG_DEBUGGER_LOGGING_LEVEL); //By default it's INFO and a bit too noisy
-            backlogDebugger.setFallbackTimeout(FALLBACK_TIMEOUT);
-            //Lookup camel context
-            objectName = new ObjectName("org.apache.camel:context=*,type=context,name=*");
-            names = serverConnection.queryNames(objectName, null);
-            if (names != null && !names.isEmpty()) {
-                ObjectName mbeanName = names.iterator().next();
-                ManagedCamelContextMBean camelContext = JMX.newMBeanProxy(serverConnection, mbeanName, ManagedCamelContextMBean.class);
-
-                while (!"Started".equals(camelContext.getState())) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Waiting for the context to start");
-                    }
-                    Thread.onSpinWait();
+            //Lookup all camel contexts at once and match them with their debugger by name
+            // org.apache.camel:context=camel-1,type=context,name="camel-1"
+            Map<String, ObjectName> contextMBeanNames = new HashMap<>();
+            Set<ObjectName> contextNames = serverConnection.queryNames(new ObjectName("org.apache.camel:context=*,type=context,name=*"), null);
+            if (contextNames != null) {
+                for (ObjectName contextName : contextNames) {
+                    contextMBeanNames.putIfAbsent(contextName.getKeyProperty(CamelContextDebugger.CONTEXT_KEY_PROPERTY), contextName);
                 }
+            }
+            List<CamelContextDebugger> debuggers = new ArrayList<>(names.size());
+            for (ObjectName debuggerMBeanObjectName : names.stream().sorted().toList()) {
+                ManagedBacklogDebuggerMBean backlogDebugger = JMX.newMBeanProxy(serverConnection, debuggerMBeanObjectName, ManagedBacklogDebuggerMBean.class);
+                backlogDebugger.enableDebugger();
+                backlogDebugger.setLoggingLevel(BACKLOG_DEBUGGER_LOGGING_LEVEL); //By default it's INFO and a bit too noisy
+                backlogDebugger.setFallbackTimeout(FALLBACK_TIMEOUT);
+                debuggers.add(new CamelContextDebugger(debuggerMBeanObjectName, backlogDebugger));
+            }
+            awaitContextsStarted(debuggers, contextMBeanNames);
+            // Subscribe before dumping the routes so that the routes changed meanwhile are refreshed afterwards
+            this.contextDebuggers = List.copyOf(debuggers);
+            subscribeToRouteChanges();
+            for (CamelContextDebugger contextDebugger : debuggers) {
+                ObjectName mbeanName = contextMBeanNames.get(contextDebugger.getName());
+                if (mbeanName == null) {
+                    LOG.warn("No MBean could be found for the camel context " + contextDebugger);
+                    continue;
+                }
+                contextDebugger.setContextMBeanObjectName(mbeanName);
+                ManagedCamelContextMBean camelContext = JMX.newMBeanProxy(serverConnection, mbeanName, ManagedCamelContextMBean.class);
 
                 //Init DOM Documents
                 String routes = camelContext.dumpRoutesAsXml(false);
                 DocumentBuilder documentBuilder = DebuggerUtils.createDocumentBuilder();
                 InputStream targetStream = new ByteArrayInputStream(routes.getBytes());
-                this.routesDOMDocument = documentBuilder.parse(targetStream);
+                contextDebugger.setRoutesDOMDocument(documentBuilder.parse(targetStream));
+                indexSourceLocations(contextDebugger);
 
                 //TODO get list of loaded expression languages
-
             }
 
-            //Toggle all pending breakpoints
-            for (XLineBreakpoint<XBreakpointProperties<?>> breakpoint : breakpointsRemove) {
-                ApplicationManager.getApplication().runReadAction(() -> {
-                    try {
-                        toggleBreakpoint(breakpoint, false);
-                    } catch (Exception e) {
-                        LOG.error(e);
-                    }
-                });
-            }
-            for (XLineBreakpoint<XBreakpointProperties<?>> breakpoint : breakpointsAdd) {
-                ApplicationManager.getApplication().runReadAction(() -> {
-                    try {
-                        toggleBreakpoint(breakpoint, true);
-                    } catch (Exception e) {
-                        LOG.error(e);
-                    }
-                });
-            }
+            toggleAllPendingBreakpoints();
             // Best-effort: attach() is a no-op unless the target runs in suspend mode, and the debugger itself is
             // already enabled above, so a failure here must not tear down an otherwise working connection.
             // Caveat: if the target IS in suspend mode, a failed attach() leaves the application holding all
             // messages until a debugger attaches, which this swallow does not recover from.
-            try {
-                backlogDebugger.attach();
-            } catch (Exception e) {
-                LOG.warn("Could not attach the debugger: " + e.getMessage());
+            for (CamelContextDebugger contextDebugger : debuggers) {
+                try {
+                    contextDebugger.getBacklogDebugger().attach();
+                } catch (Exception e) {
+                    LOG.warn("Could not attach the debugger of the context " + contextDebugger + ": " + e.getMessage());
+                }
             }
         } catch (CamelDebuggerConnectionException e) {
             throw e; // Already classified (from the connector provider or the missing MBean): do not re-wrap it.
@@ -647,6 +817,243 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
         }
     }
 
+    /**
+     * Toggles all the pending breakpoints. All the breakpoints are first resolved within a single read action, then
+     * applied to the Camel contexts through parallel pipelines of remote calls, the removals before the additions,
+     * and finally all the breakpoint markers are refreshed at once.
+     */
+    private void toggleAllPendingBreakpoints() {
+        List<PendingBreakpoint> pending = ApplicationManager.getApplication().runReadAction(
+            (Computable<List<PendingBreakpoint>>) () -> {
+                List<PendingBreakpoint> result = new ArrayList<>(breakpointsRemove.size() + breakpointsAdd.size());
+                for (XLineBreakpoint<XBreakpointProperties<?>> breakpoint : breakpointsRemove) {
+                    result.add(resolveBreakpoint(breakpoint, false));
+                }
+                for (XLineBreakpoint<XBreakpointProperties<?>> breakpoint : breakpointsAdd) {
+                    result.add(resolveBreakpoint(breakpoint, true));
+                }
+                return result;
+            }
+        );
+        try {
+            applyBreakpoints(pending.stream().filter(breakpoint -> !breakpoint.elements().isEmpty() && !breakpoint.toggleOn()).toList());
+            applyBreakpoints(pending.stream().filter(breakpoint -> !breakpoint.elements().isEmpty() && breakpoint.toggleOn()).toList());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        for (PendingBreakpoint breakpoint : pending) {
+            refreshBreakpointMarker(breakpoint);
+        }
+    }
+
+    /**
+     * Applies the given breakpoints by splitting them into at most {@link #BREAKPOINT_SYNC_PIPELINES} sequences of
+     * remote calls executed in parallel, to limit the impact of the network latency with a remote application.
+     *
+     * @param breakpoints the resolved breakpoints to apply.
+     * @throws InterruptedException if the current thread was interrupted while waiting for the remote calls.
+     */
+    private void applyBreakpoints(List<PendingBreakpoint> breakpoints) throws InterruptedException {
+        if (breakpoints.isEmpty()) {
+            return;
+        }
+        int batchSize = (breakpoints.size() + BREAKPOINT_SYNC_PIPELINES - 1) / BREAKPOINT_SYNC_PIPELINES;
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < breakpoints.size(); i += batchSize) {
+            List<PendingBreakpoint> batch = breakpoints.subList(i, Math.min(i + batchSize, breakpoints.size()));
+            futures.add(ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                for (PendingBreakpoint breakpoint : batch) {
+                    try {
+                        applyBreakpoint(breakpoint);
+                    } catch (Exception e) {
+                        LOG.error(e);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                LOG.error(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Subscribes to the registration and unregistration of the route MBeans to be notified when routes are added,
+     * removed or reloaded at runtime (route templates, Kamelets, reload on change). If the connection does not support
+     * notifications, the routes are polled instead by {@link #detectChangedRoutes()}.
+     */
+    private void subscribeToRouteChanges() {
+        try {
+            serverConnection.addNotificationListener(MBeanServerDelegate.DELEGATE_NAME, routesListener, null, null);
+            routeNotificationsSupported = true;
+        } catch (Exception e) {
+            LOG.debug("Could not subscribe to the route changes, falling back to polling", e);
+            routeNotificationsSupported = false;
+        }
+    }
+
+    /**
+     * Called on every MBean (un)registration, it marks the route of the corresponding Camel context as changed if the
+     * MBean is a route MBean.
+     */
+    private void onMBeanRegistrationChanged(Notification notification, Object handback) {
+        if (notification instanceof MBeanServerNotification mBeanServerNotification) {
+            ObjectName name = mBeanServerNotification.getMBeanName();
+            if (CamelContextDebugger.isRouteMBean(name)) {
+                String contextName = name.getKeyProperty(CamelContextDebugger.CONTEXT_KEY_PROPERTY);
+                for (CamelContextDebugger contextDebugger : contextDebuggers) {
+                    if (contextDebugger.getName().equals(contextName)) {
+                        contextDebugger.markRouteChanged(name);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Detects the routes that have been added or removed by comparing the route MBeans of all the Camel contexts with
+     * the known routes, and periodically the routes that have been reloaded by comparing their content. Only used when
+     * the notifications are not supported by the connection.
+     */
+    private void detectChangedRoutes() throws Exception {
+        Set<ObjectName> names = serverConnection.queryNames(new ObjectName("org.apache.camel:context=*,type=routes,name=*"), null);
+        Map<String, Map<String, ObjectName>> routesByContext = new HashMap<>();
+        if (names != null) {
+            for (ObjectName name : names) {
+                routesByContext.computeIfAbsent(name.getKeyProperty(CamelContextDebugger.CONTEXT_KEY_PROPERTY), k -> new HashMap<>())
+                    .put(CamelContextDebugger.routeIdOf(name), name);
+            }
+        }
+        for (CamelContextDebugger contextDebugger : contextDebuggers) {
+            if (contextDebugger.getRoutesDOMDocument() == null) {
+                continue;
+            }
+            Map<String, ObjectName> routes = routesByContext.getOrDefault(contextDebugger.getName(), Map.of());
+            Set<String> knownRouteIds = contextDebugger.getRouteIds();
+            for (Map.Entry<String, ObjectName> route : routes.entrySet()) {
+                if (!knownRouteIds.contains(route.getKey())) {
+                    contextDebugger.markRouteChanged(route.getValue());
+                }
+            }
+            for (String routeId : knownRouteIds) {
+                if (!routes.containsKey(routeId)) {
+                    contextDebugger.markRouteChanged(contextDebugger.getRouteMBeanObjectName(routeId));
+                }
+            }
+        }
+        long now = System.nanoTime();
+        if (now - lastReloadedRoutesCheck >= RELOADED_ROUTES_CHECK_INTERVAL) {
+            lastReloadedRoutesCheck = now;
+            detectReloadedRoutes();
+        }
+    }
+
+    /**
+     * Detects the routes that have been reloaded by comparing the content of the routes dumped from each Camel context
+     * with the content of the known routes having the same id.
+     */
+    private void detectReloadedRoutes() throws Exception {
+        for (CamelContextDebugger contextDebugger : contextDebuggers) {
+            Document current = contextDebugger.getRoutesDOMDocument();
+            ObjectName contextMBeanName = contextDebugger.getContextMBeanObjectName();
+            if (current == null || contextMBeanName == null || !serverConnection.isRegistered(contextMBeanName)) {
+                continue;
+            }
+            String routes = JMX.newMBeanProxy(serverConnection, contextMBeanName, ManagedCamelContextMBean.class)
+                .dumpRoutesAsXml(false);
+            Document document = DebuggerUtils.createDocumentBuilder().parse(new ByteArrayInputStream(routes.getBytes()));
+            Map<String, Element> knownRoutes = CamelContextDebugger.getRouteElements(current.getDocumentElement());
+            for (Map.Entry<String, Element> route : CamelContextDebugger.getRouteElements(document.getDocumentElement()).entrySet()) {
+                Element knownRoute = knownRoutes.get(route.getKey());
+                if (knownRoute != null && !knownRoute.isEqualNode(route.getValue())) {
+                    contextDebugger.markRouteChanged(contextDebugger.getRouteMBeanObjectName(route.getKey()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Refreshes the routes that have been added, removed or reloaded since the last refresh, then re-applies the
+     * pending breakpoints since they may now be resolved to other nodes.
+     */
+    private void refreshChangedRoutes() throws Exception {
+        if (!routeNotificationsSupported) {
+            detectChangedRoutes();
+        }
+        boolean refreshed = false;
+        for (CamelContextDebugger contextDebugger : contextDebuggers) {
+            Map<String, ObjectName> changedRoutes = contextDebugger.pollChangedRoutes();
+            if (changedRoutes.isEmpty() || contextDebugger.getRoutesDOMDocument() == null) {
+                continue;
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Refreshing the routes " + changedRoutes.keySet() + " of the context " + contextDebugger);
+            }
+            Map<String, Element> routes = new HashMap<>();
+            for (Map.Entry<String, ObjectName> changedRoute : changedRoutes.entrySet()) {
+                routes.put(changedRoute.getKey(), dumpRoute(changedRoute.getValue()));
+            }
+            contextDebugger.updateRoutes(routes);
+            indexSourceLocations(contextDebugger);
+            contextDebugger.getExplicitBreakpointIDs().clear();
+            refreshed = true;
+        }
+        if (refreshed) {
+            toggleAllPendingBreakpoints();
+        }
+    }
+
+    /**
+     * @param routeMBeanObjectName the name of the MBean of the route to dump.
+     * @return the element corresponding to the route, {@code null} if the route has been removed.
+     */
+    @Nullable
+    private Element dumpRoute(ObjectName routeMBeanObjectName) throws Exception {
+        if (!serverConnection.isRegistered(routeMBeanObjectName)) {
+            return null;
+        }
+        String route = JMX.newMBeanProxy(serverConnection, routeMBeanObjectName, ManagedRouteMBean.class).dumpRouteAsXml(false);
+        InputStream targetStream = new ByteArrayInputStream(route.getBytes());
+        Document document = DebuggerUtils.createDocumentBuilder().parse(targetStream);
+        return CamelContextDebugger.getRouteElements(document.getDocumentElement())
+            .get(CamelContextDebugger.routeIdOf(routeMBeanObjectName));
+    }
+
+    /**
+     * Waits until all the given Camel contexts are started. The started Camel contexts are all queried at once on
+     * the server side, with a delay doubling between two queries up to {@link #CONTEXT_STATE_MAX_POLL_DELAY}.
+     *
+     * @param debuggers         the debuggers of the Camel contexts to wait for.
+     * @param contextMBeanNames the names of the Camel context MBeans indexed by Camel context name.
+     */
+    private void awaitContextsStarted(List<CamelContextDebugger> debuggers, Map<String, ObjectName> contextMBeanNames) throws Exception {
+        Set<ObjectName> starting = debuggers.stream()
+            .map(contextDebugger -> contextMBeanNames.get(contextDebugger.getName()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(HashSet::new));
+        ObjectName contexts = new ObjectName("org.apache.camel:context=*,type=context,name=*");
+        QueryExp started = Query.eq(Query.attr("State"), Query.value("Started"));
+        long delay = CONTEXT_STATE_MIN_POLL_DELAY;
+        while (true) {
+            Set<ObjectName> startedNames = serverConnection.queryNames(contexts, started);
+            if (startedNames != null) {
+                starting.removeAll(startedNames);
+            }
+            if (starting.isEmpty()) {
+                return;
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Waiting for the contexts to start: " + starting);
+            }
+            Thread.sleep(delay);
+            delay = Math.min(delay * 2, CONTEXT_STATE_MAX_POLL_DELAY);
+        }
+    }
+
     /**
      * Indicates whether the {@link JMXConnector} must be built from a JMX Service URL rather than from a local
      * process id attach.
@@ -661,52 +1068,88 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
     }
 
     private boolean toggleBreakpoint(@NotNull XLineBreakpoint<XBreakpointProperties<?>> xBreakpoint, boolean toggleOn) {
+        PendingBreakpoint breakpoint = resolveBreakpoint(xBreakpoint, toggleOn);
+        if (!breakpoint.elements().isEmpty()) {
+            applyBreakpoint(breakpoint);
+        }
+        return refreshBreakpointMarker(breakpoint);
+    }
+
+    /**
+     * Resolves the node corresponding to the given breakpoint, without any remote call. Must be called within a read
+     * action.
+     *
+     * @param xBreakpoint the breakpoint to resolve.
+     * @param toggleOn    indicates whether the breakpoint is added or removed.
+     * @return the resolved breakpoint, whose elements are empty if no corresponding node could be found.
+     */
+    private PendingBreakpoint resolveBreakpoint(@NotNull XLineBreakpoint<XBreakpointProperties<?>> xBreakpoint, boolean toggleOn) {
         XSourcePosition position = xBreakpoint.getSourcePosition();
-        BreakpointElement breakpointElement = createBreakpointElementFromPosition(position);
+        List<BreakpointElement> breakpointElements = createBreakpointElementsFromPosition(position);
+        if (breakpointElements.isEmpty() && LOG.isDebugEnabled()) {
+            LOG.debug(String.format("The breakpoint element could not be created from the position %s", position));
+        }
+        return new PendingBreakpoint(
+            xBreakpoint, position, breakpointElements, toggleOn, toggleOn ? xBreakpoint.getConditionExpression() : null
+        );
+    }
 
-        if (breakpointElement != null) {
+    /**
+     * Adds or removes the given resolved breakpoint to or from all the Camel contexts in which its node could be
+     * found.
+     *
+     * @param breakpoint the breakpoint to apply.
+     */
+    private void applyBreakpoint(PendingBreakpoint breakpoint) {
+        for (BreakpointElement breakpointElement : breakpoint.elements()) {
             String breakpointId = breakpointElement.id();
-            PsiElement psiElement = breakpointElement.element();
-            if (toggleOn) {
-                XExpression condition = xBreakpoint.getConditionExpression();
+            CamelContextDebugger contextDebugger = breakpointElement.context();
+            ManagedBacklogDebuggerMBean backlogDebugger = contextDebugger.getBacklogDebugger();
+            if (breakpoint.toggleOn()) {
+                XExpression condition = breakpoint.condition();
                 if (condition == null || condition.getLanguage() == null) {
                     backlogDebugger.addBreakpoint(breakpointId);
                 } else {
                     backlogDebugger.addConditionalBreakpoint(breakpointId, condition.getLanguage().getID(), condition.getExpression());
                 }
-                explicitBreakpointIDs.add(breakpointId);
+                contextDebugger.getExplicitBreakpointIDs().add(breakpointId);
             } else {
                 backlogDebugger.removeBreakpoint(breakpointId);
-                explicitBreakpointIDs.remove(breakpointId);
+                contextDebugger.getExplicitBreakpointIDs().remove(breakpointId);
             }
 
-            breakpoints.put(breakpointId, new CamelBreakpoint(breakpointId, psiElement, position));
-            xDebugSession.setBreakpointVerified(xBreakpoint);
-
-            return true;
+            contextDebugger.getBreakpoints().put(breakpointId, new CamelBreakpoint(breakpointId, breakpointElement.element(), breakpoint.position()));
         }
-        if (LOG.isDebugEnabled()) {
-            LOG.debug(String.format("The breakpoint element could not be created from the position %s", position));
+    }
+
+    /**
+     * Marks the given breakpoint as verified or invalid according to whether it could be resolved.
+     *
+     * @param breakpoint the breakpoint whose marker should be refreshed.
+     * @return {@code true} if the breakpoint is valid, {@code false} otherwise.
+     */
+    private boolean refreshBreakpointMarker(PendingBreakpoint breakpoint) {
+        if (breakpoint.elements().isEmpty()) {
+            //Breakpoint is invalid
+            xDebugSession.setBreakpointInvalid(breakpoint.xBreakpoint(), "Camel EIP ID not found");
+            return false;
         }
-        //Breakpoint is invalid
-        xDebugSession.setBreakpointInvalid(xBreakpoint, "Camel EIP ID not found");
-        return false;
+        xDebugSession.setBreakpointVerified(breakpoint.xBreakpoint());
+        return true;
     }
 
     private void checkSuspendedBreakpoints() {
         while (isConnected() || tryToConnect()) {
             try {
+                refreshChangedRoutes();
                 LOG.debug("Collecting suspended breakpoint nodes ids");
-                @SuppressWarnings("unchecked")
-                Collection<String> suspendedBreakpointIDs = (Collection<String>) serverConnection.invoke(
-                    this.debuggerMBeanObjectName, "suspendedBreakpointNodeIds", new Object[]{}, new String[]{}
-                );
-                if (suspendedBreakpointIDs != null && !suspendedBreakpointIDs.isEmpty()) {
-                    LOG.debug("Found suspended breakpoint nodes ids: ", suspendedBreakpointIDs.size());
+                Map<CamelContextDebugger, Collection<String>> suspendedBreakpointIDs = collectSuspendedBreakpointIDs();
+                if (!suspendedBreakpointIDs.isEmpty()) {
+                    LOG.debug("Found suspended breakpoint nodes ids in contexts: ", suspendedBreakpointIDs.keySet());
                     //Fire notifications here, we need to display the exchange, stack etc
                     ApplicationManager.getApplication().runReadAction(() -> {
-                        final List<CamelMessageInfo> messages = suspendedBreakpointIDs.stream()
-                            .map(this::getCamelMessageInfo)
+                        final List<CamelMessageInfo> messages = suspendedBreakpointIDs.entrySet().stream()
+                            .flatMap(entry -> entry.getValue().stream().map(id -> getCamelMessageInfo(entry.getKey(), id)))
                             .filter(Objects::nonNull)
                             .sorted(Comparator.comparing(CamelMessageInfo::getTimestamp))
                             .collect(Collectors.toList());
@@ -727,6 +1170,26 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
         LOG.debug("Stop collecting suspended breakpoint nodes ids");
     }
 
+    /**
+     * Collects the ids of the suspended breakpoint nodes of all the Camel contexts on the shared connection.
+     *
+     * @return the ids of the suspended breakpoint nodes indexed by Camel context, only the Camel contexts with at
+     * least one suspended breakpoint node are included.
+     */
+    private Map<CamelContextDebugger, Collection<String>> collectSuspendedBreakpointIDs() throws Exception {
+        Map<CamelContextDebugger, Collection<String>> result = new LinkedHashMap<>();
+        for (CamelContextDebugger contextDebugger : contextDebuggers) {
+            @SuppressWarnings("unchecked")
+            Collection<String> ids = (Collection<String>) serverConnection.invoke(
+                contextDebugger.getDebuggerMBeanObjectName(), "suspendedBreakpointNodeIds", new Object[]{}, new String[]{}
+            );
+            if (ids != null && !ids.isEmpty()) {
+                result.put(contextDebugger, ids);
+            }
+        }
+        return result;
+    }
+
     /**
      * Notifies all the {@link MessageReceivedListener} that new messages have been received.
      * @param camelMessages the info of the messages to provide to the listeners.
@@ -744,22 +1207,26 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
 
     /**
      * Retrieves the {@link CamelMessageInfo} corresponding to the given id of breakpoint.
+     * @param contextDebugger the debugger of the Camel context in which the breakpoint is suspended
      * @param id the id of the breakpoint
      * @return the {@link CamelMessageInfo} corresponding to the given id of breakpoint if it could be found, {@code null}
      * otherwise.
      */
     @Nullable
-    private CamelMessageInfo getCamelMessageInfo(String id) {
+    private CamelMessageInfo getCamelMessageInfo(CamelContextDebugger contextDebugger, String id) {
         String xml = null;
         try {
+            Map<String, CamelBreakpoint> breakpoints = contextDebugger.getBreakpoints();
             CamelBreakpoint breakpoint = breakpoints.get(id);
             if (breakpoint == null) {
                 //find tag and source position based on ID
-                breakpoint = getCamelBreakpointById(id);
-                breakpoints.put(id, breakpoint);
+                breakpoint = getCamelBreakpointById(contextDebugger, id);
+                if (breakpoint != null) {
+                    breakpoints.put(id, breakpoint);
+                }
             }
-            xml = dumpTracedMessagesAsXml(id);
-            final List<CamelMessageInfo> stack = getStack(id, xml);
+            xml = dumpTracedMessagesAsXml(contextDebugger, id);
+            final List<CamelMessageInfo> stack = getStack(contextDebugger, id, xml);
             final CamelMessageInfo info = stack.get(0); // We only need stack for the top frame
             info.setStack(stack);
             return info;
@@ -783,11 +1250,13 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
      * Invokes through JMX {@code dumpTracedMessagesAsXml} using the new method signature, if it fails, it retries using
      * the old signature.
      *
+     * @param contextDebugger the debugger of the Camel context in which the method should be invoked.
      * @param id The node id for which the method {@code dumpTracedMessagesAsXml} should be invoked.
      * @return the result of the method {@code dumpTracedMessagesAsXml} that could be called through JMX.
      */
-    private String dumpTracedMessagesAsXml(String id) {
+    private String dumpTracedMessagesAsXml(CamelContextDebugger contextDebugger, String id) {
         String xml;
+        ManagedBacklogDebuggerMBean backlogDebugger = contextDebugger.getBacklogDebugger();
         try {
             // If the Camel version is 3.15 or later, the exchange properties are included
             xml = backlogDebugger.dumpTracedMessagesAsXml(id, true);
@@ -795,7 +1264,7 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
             LOG.warn("Could not invoke dumpTracedMessagesAsXml(" + id + ", true)", e);
             // Could not invoke the dumpTracedMessagesAsXml with the new signature let's try the old one
             try {
-                xml = (String) serverConnection.invoke(this.debuggerMBeanObjectName, "dumpTracedMessagesAsXml", new Object[]{id},
+                xml = (String) serverConnection.invoke(contextDebugger.getDebuggerMBeanObjectName(), "dumpTracedMessagesAsXml", new Object[]{id},
                     new String[]{"java.lang.String"});
             } catch (Exception ex) {
                 LOG.warn("Could not invoke dumpTracedMessagesAsXml(" + id + ")", e);
@@ -805,16 +1274,22 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
         return xml;
     }
 
-    private Element getParentRouteId(String id) throws Exception {
-        String path = "//route[*[attribute::id = '" + id + "']]";
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        return (Element) xPath.compile(path).evaluate(routesDOMDocument, XPathConstants.NODE);
+    @Nullable
+    private Element getParentRouteId(CamelContextDebugger contextDebugger, String id) {
+        Element tag = contextDebugger.getRoutesIndex().getNode(id);
+        for (Node parent = tag == null ? null : tag.getParentNode(); parent != null; parent = parent.getParentNode()) {
+            if (parent instanceof Element element && CamelContextDebugger.isRoute(element)) {
+                return element;
+            }
+        }
+        return null;
     }
 
-    private List<CamelMessageInfo> getStack(String breakpointId, String messageInfoAsXML) throws Exception {
+    private List<CamelMessageInfo> getStack(CamelContextDebugger contextDebugger, String breakpointId, String messageInfoAsXML) throws Exception {
         List<CamelMessageInfo> stack = new ArrayList<>();
+        Map<String, CamelBreakpoint> breakpoints = contextDebugger.getBreakpoints();
         //Use new operation to retrieve message history
-        String messageHistory = (String) serverConnection.invoke(this.debuggerMBeanObjectName, "messageHistoryOnBreakpointAsXml",
+        String messageHistory = (String) serverConnection.invoke(contextDebugger.getDebuggerMBeanObjectName(), "messageHistoryOnBreakpointAsXml",
                 new Object[]{breakpointId},
                 new String[]{"java.lang.String"});
 
@@ -830,7 +1305,7 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
             CamelBreakpoint breakpoint = breakpoints.get(processorId);
             if (breakpoint == null) {
                 //find tag and source position based on ID
-                breakpoint = getCamelBreakpointById(processorId);
+                breakpoint = getCamelBreakpointById(contextDebugger, processorId);
             }
             if (breakpoint != null) {
                 breakpoints.put(processorId, breakpoint);
@@ -843,114 +1318,115 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
         return stack;
     }
 
-    private String getBreakpointId(@NotNull PsiElement breakpointTag) {
-        String breakpointId = null;
-        final List<String> sourceLocations;
+    /**
+     * Looks for the node corresponding to the given tag in the routes of all the Camel contexts.
+     *
+     * @param breakpointTag the tag for which the corresponding node is expected.
+     * @return the breakpoint element corresponding to the first node found, {@code null} if no node could be found.
+     */
+    @Nullable
+    private BreakpointElement getBreakpointElement(@NotNull PsiElement breakpointTag) {
+        List<BreakpointElement> breakpointElements = getBreakpointElements(breakpointTag);
+        return breakpointElements.isEmpty() ? null : breakpointElements.get(0);
+    }
 
+    /**
+     * Looks for the nodes corresponding to the given tag in the routes of all the Camel contexts, the same route
+     * being possibly loaded by several Camel contexts.
+     *
+     * @param breakpointTag the tag for which the corresponding nodes are expected.
+     * @return the breakpoint elements corresponding to the node found in each Camel context, an empty list if no node
+     * could be found.
+     */
+    @NotNull
+    private List<BreakpointElement> getBreakpointElements(@NotNull PsiElement breakpointTag) {
         //Obtain file name and line number
         XSourcePosition position = XDebuggerUtil.getInstance().createPositionByElement(breakpointTag);
         int lineNumber = position.getLine() + 1; //Lines in XSourcePosition are 0-based
-
-        final VirtualFile virtualFile = position.getFile();
-
-        switch (virtualFile.getFileType().getName()) {
-        case "XML":
-        case "YAML":
-            final String url = virtualFile.getPresentableUrl();
-            if (virtualFile.isInLocalFileSystem()) { //TODO - we need a better way to match source to target
-                /*
-                In Camel Quarkus, the response form camelContext.dumpRoutesAsXml() has sourceLocation attribute values
-                in form of classpath:myroutesfile.xml or file:src/main/resources/myroutesfile.xml as opposed to
-                file:/com/foo/bar/target/classes/myroutesfile.xml.
-                So we need to add both to the list of source locations. See issue #820.
-                 */
-                sourceLocations = new ArrayList<>();
-                String sourcesPath = "src/main/resources";
-                if (url.contains(sourcesPath)) {
-                    // file:/absolute/path/to/file.xml
-                    sourceLocations.add(String.format("file:%s", url.replace(sourcesPath, "target/classes"))); // maven
-                    sourceLocations.add(String.format("file:%s", url.replace(sourcesPath, "build/resources/main"))); // gradle
+        String path = position.getFile().getPath();
+
+        List<BreakpointElement> result = new ArrayList<>();
+        for (CamelContextDebugger contextDebugger : contextDebuggers) {
+            CamelRoutesIndex routesIndex = contextDebugger.getRoutesIndex();
+            for (String sourceLocation : contextDebugger.getSourceLocations(path)) {
+                String breakpointId = routesIndex.getNodeId(sourceLocation, lineNumber);
+                if (breakpointId != null) {
+                    result.add(new BreakpointElement(contextDebugger, breakpointId, breakpointTag));
+                    break;
                 }
-                int index = url.lastIndexOf(MAIN_RESOURCES_RELATIVE_PATH);
-                if (index != -1) {
-                    sourceLocations.add(String.format("file:%s", url.substring(index))); // file:/relative/path/to/file.xml
-                    sourceLocations.add(String.format("classpath:%s", url.substring(index + MAIN_RESOURCES_RELATIVE_PATH.length())));
-                }
-                String basePath = getProject().getBasePath();
-                if (basePath != null && url.startsWith(basePath)) {
-                    sourceLocations.add(String.format("file:%s", url.substring(basePath.length() + 1))); // file:file.xml
-                }
-                sourceLocations.add(virtualFile.getName()); // file.xml
-            } else { //Then it must be a Jar
-                sourceLocations = List.of(String.format("classpath:%s", url.substring(url.lastIndexOf("!") + 2)));
-            }
-            break;
-        case "JAVA":
-            PsiClass psiClass = PsiTreeUtil.getParentOfType(breakpointTag, PsiClass.class);
-            if (psiClass == null || psiClass.getQualifiedName() == null) {
-                sourceLocations = List.of();
-            } else {
-                sourceLocations = new ArrayList<>();
-                sourceLocations.add(psiClass.getQualifiedName());
-                sourceLocations.add(SOURCE_PREFIX + psiClass.getQualifiedName());
-                String basePath = getProject().getBasePath();
-                String path = virtualFile.getPath();
-                String relativePath;
-                if (basePath != null && path.startsWith(basePath)) {
-                    relativePath = path.substring(basePath.length() + 1);
-                } else {
-                    relativePath = virtualFile.getName();
-                }
-                sourceLocations.add(relativePath); // file.java
-                sourceLocations.add(String.format("file:%s", relativePath)); // file:file.java
-                sourceLocations.add(virtualFile.getName()); // file.java
-            }
-            break;
-        default: // noop
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(String.format("File type not supported: %s", virtualFile.getFileType().getName()));
             }
-            return null;
         }
-
-        String path = sourceLocations
-            .stream()
-            .map(sourceLocation -> String.format("//*[@sourceLocation='%s' and @sourceLineNumber='%d']", sourceLocation, lineNumber))
-            .collect(Collectors.joining("|"));
-
-        try {
-            XPath xPath = XPathFactory.newInstance().newXPath();
-            Node breakpointTagFromContext = (Node) xPath.evaluate(path, routesDOMDocument, XPathConstants.NODE);
-            if (breakpointTagFromContext != null) {
-                breakpointId = breakpointTagFromContext.getAttributes().getNamedItem("id").getTextContent();
-            }
-        } catch (Exception e) {
-            LOG.warn("Could not retrieve the breakpoint id from the path " + path, e);
+        if (result.isEmpty() && LOG.isDebugEnabled()) {
+            LOG.debug(String.format("No node could be found at the line %d of the file %s", lineNumber, path));
         }
+        return result;
+    }
 
-        return breakpointId;
+    /**
+     * Indexes the source locations of the routes of the given Camel context by path of the corresponding file, so
+     * that the nodes of a file are directly found when a breakpoint is toggled. The files corresponding to the
+     * source locations are searched again each time the routes of the Camel context change.
+     *
+     * @param contextDebugger the debugger of the Camel context whose routes have changed.
+     */
+    private void indexSourceLocations(CamelContextDebugger contextDebugger) {
+        Set<String> sourceLocations = contextDebugger.getRoutesIndex().getSourceLocations();
+        Map<String, List<String>> sourceLocationsByPath = DumbService.getInstance(project).runReadActionInSmartMode(
+            () -> {
+                Map<String, List<String>> result = new HashMap<>();
+                for (String sourceLocation : sourceLocations) {
+                    VirtualFile virtualFile = findSourceLocationFile(sourceLocation);
+                    sourceLocationFiles.put(sourceLocation, Optional.ofNullable(virtualFile));
+                    if (virtualFile != null) {
+                        result.computeIfAbsent(virtualFile.getPath(), k -> new ArrayList<>()).add(sourceLocation);
+                    }
+                }
+                return result;
+            }
+        );
+        contextDebugger.setSourceLocationsByPath(sourceLocationsByPath);
     }
 
     @Nullable
-    private CamelBreakpoint getCamelBreakpointById(String id) throws Exception {
-        String path = "//*[@id='" + id + "']";
-        //Find node with this ID in the document
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        Node tagNode = (Node) xPath.evaluate(path, routesDOMDocument, XPathConstants.NODE);
-        if (tagNode == null) {
+    private CamelBreakpoint getCamelBreakpointById(CamelContextDebugger contextDebugger, String id) {
+        //Find the source line of the node with this ID
+        CamelRoutesIndex.SourceLine sourceLine = contextDebugger.getRoutesIndex().getSourceLine(id);
+        if (sourceLine == null) {
             return null;
         }
-        Element tag = (Element) tagNode;
-        String filePath = tag.getAttribute("sourceLocation");
-        String lineNumber = tag.getAttribute("sourceLineNumber");
-
-        if (StringUtils.isEmpty(filePath)) {
+        VirtualFile virtualFile = getSourceLocationFile(sourceLine.sourceLocation());
+        if (virtualFile == null) {
             return null;
         }
-        if (StringUtils.isEmpty(lineNumber) || "-1".equals(lineNumber.trim())) {
+        XSourcePosition position = XDebuggerUtil.getInstance().createPosition(virtualFile, sourceLine.lineNumber() - 1);
+        BreakpointElement breakpointElement = createBreakpointElementFromPosition(position);
+        if (breakpointElement == null) {
             return null;
         }
+        return new CamelBreakpoint(id, breakpointElement.element(), position);
+    }
 
+    /**
+     * Gives the file corresponding to the given source location. The files of the known source locations are searched
+     * each time the routes are indexed, the other source locations are only searched the first time they are
+     * requested.
+     *
+     * @param sourceLocation the source location as provided by the routes dump.
+     * @return the file corresponding to the given source location, {@code null} if it could not be found.
+     */
+    @Nullable
+    private VirtualFile getSourceLocationFile(String sourceLocation) {
+        Optional<VirtualFile> cached = sourceLocationFiles.get(sourceLocation);
+        if (cached != null && cached.map(VirtualFile::isValid).orElse(true)) {
+            return cached.orElse(null);
+        }
+        VirtualFile virtualFile = findSourceLocationFile(sourceLocation);
+        sourceLocationFiles.put(sourceLocation, Optional.ofNullable(virtualFile));
+        return virtualFile;
+    }
+
+    @Nullable
+    private VirtualFile findSourceLocationFile(String filePath) {
         String fileName = filePath.substring(filePath.lastIndexOf("/") + 1);
 
         if (fileName.startsWith(SOURCE_PREFIX)) {
@@ -958,7 +1434,6 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
         }
 
         if (!filePath.startsWith("file:") && !filePath.startsWith("classpath:")) { //This is Java class
-            final VirtualFile virtualFile;
             if (fileName.endsWith(".java")) {
                 Collection<VirtualFile> virtualFiles = FilenameIndex.getVirtualFilesByName(
                     fileName, GlobalSearchScope.everythingScope(project)
@@ -969,87 +1444,82 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
                     }
                     return null;
                 }
-                virtualFile = virtualFiles.iterator().next();
-            } else {
-                PsiClass psiClass = JavaPsiFacade.getInstance(project).findClass(fileName, GlobalSearchScope.everythingScope(project));
-                if (psiClass != null) {
-                    virtualFile = psiClass.getContainingFile().getVirtualFile();
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug(String.format("The clas %s could not be found in the project", fileName));
-                    }
-                    return null;
-                }
-            }
-            XSourcePosition position = XDebuggerUtil.getInstance().createPosition(virtualFile, Integer.parseInt(lineNumber) - 1);
-            BreakpointElement breakpointElement = createBreakpointElementFromPosition(position);
-            if (breakpointElement == null) {
-                return null;
+                return virtualFiles.iterator().next();
             }
-            return new CamelBreakpoint(id, breakpointElement.element(), position);
-        } else {
-            Collection<VirtualFile> virtualFiles = FilenameIndex.getVirtualFilesByName(
-                fileName, GlobalSearchScope.everythingScope(project)
-            );
-            if (virtualFiles.isEmpty()) {
+            PsiClass psiClass = JavaPsiFacade.getInstance(project).findClass(fileName, GlobalSearchScope.everythingScope(project));
+            if (psiClass == null) {
                 if (LOG.isDebugEnabled()) {
-                    LOG.debug(String.format("The file %s could not be found in the project", fileName));
+                    LOG.debug(String.format("The clas %s could not be found in the project", fileName));
                 }
                 return null;
             }
-            for (VirtualFile virtualFile : virtualFiles) {
-                Set<String> potentialURLs;
-                String url = virtualFile.getPresentableUrl();
-                if (virtualFile.isInLocalFileSystem()) { //TODO - we need a better way to match source to target
-                    if (filePath.startsWith("classpath:")) {
-                        int index = url.lastIndexOf(MAIN_RESOURCES_RELATIVE_PATH);
-                        if (index != -1) {
-                            //classpath:relative/path/from/resources/file.xml
-                            potentialURLs = Set.of(String.format("classpath:%s", url.substring(index + MAIN_RESOURCES_RELATIVE_PATH.length())));
-                        } else {
-                            potentialURLs = Set.of();
-                        }
+            return psiClass.getContainingFile().getVirtualFile();
+        }
+        Collection<VirtualFile> virtualFiles = FilenameIndex.getVirtualFilesByName(
+            fileName, GlobalSearchScope.everythingScope(project)
+        );
+        if (virtualFiles.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("The file %s could not be found in the project", fileName));
+            }
+            return null;
+        }
+        for (VirtualFile virtualFile : virtualFiles) {
+            Set<String> potentialURLs;
+            String url = virtualFile.getPresentableUrl();
+            if (virtualFile.isInLocalFileSystem()) { //TODO - we need a better way to match source to target
+                if (filePath.startsWith("classpath:")) {
+                    int index = url.lastIndexOf(MAIN_RESOURCES_RELATIVE_PATH);
+                    if (index != -1) {
+                        //classpath:relative/path/from/resources/file.xml
+                        potentialURLs = Set.of(String.format("classpath:%s", url.substring(index + MAIN_RESOURCES_RELATIVE_PATH.length())));
                     } else {
-                        potentialURLs = new HashSet<>();
-                        String sourcesPath = "src/main/resources";
-                        if (url.contains(sourcesPath)) {
-                            // file:/absolute/path/to/file.xml
-                            potentialURLs.add(String.format("file:%s", url.replace(sourcesPath, "target/classes"))); // maven
-                            potentialURLs.add(String.format("file:%s", url.replace(sourcesPath, "build/resources/main"))); // gradle
-                        }
-                        int index = url.lastIndexOf(MAIN_RESOURCES_RELATIVE_PATH);
-                        if (index != -1) {
-                            potentialURLs.add(String.format("file:%s", url.substring(index))); // file:/relative/path/to/file.xml
-                        }
-                        String basePath = getProject().getBasePath();
-                        if (basePath != null && url.startsWith(basePath)) {
-                            potentialURLs.add(String.format("file:%s", url.substring(basePath.length() + 1))); // file:file.xml
-                        }
+                        potentialURLs = Set.of();
                     }
-                } else { //Then it must be a Jar
-                    potentialURLs = Set.of(String.format("classpath:%s", url.substring(url.lastIndexOf("!") + 2)));
-                }
-                if (potentialURLs.contains(filePath)) {
-                    //We found our file, let's get a source position
-                    XSourcePosition position = XDebuggerUtil.getInstance().createPosition(virtualFile, Integer.parseInt(lineNumber) - 1);
-                    BreakpointElement breakpointElement = createBreakpointElementFromPosition(position);
-                    if (breakpointElement == null) {
-                        return null;
+                } else {
+                    potentialURLs = new HashSet<>();
+                    String sourcesPath = "src/main/resources";
+                    if (url.contains(sourcesPath)) {
+                        // file:/absolute/path/to/file.xml
+                        potentialURLs.add(String.format("file:%s", url.replace(sourcesPath, "target/classes"))); // maven
+                        potentialURLs.add(String.format("file:%s", url.replace(sourcesPath, "build/resources/main"))); // gradle
+                    }
+                    int index = url.lastIndexOf(MAIN_RESOURCES_RELATIVE_PATH);
+                    if (index != -1) {
+                        potentialURLs.add(String.format("file:%s", url.substring(index))); // file:/relative/path/to/file.xml
+                    }
+                    String basePath = getProject().getBasePath();
+                    if (basePath != null && url.startsWith(basePath)) {
+                        potentialURLs.add(String.format("file:%s", url.substring(basePath.length() + 1))); // file:file.xml
                     }
-                    return new CamelBreakpoint(id, breakpointElement.element(), position);
                 }
+            } else { //Then it must be a Jar
+                potentialURLs = Set.of(String.format("classpath:%s", url.substring(url.lastIndexOf("!") + 2)));
+            }
+            if (potentialURLs.contains(filePath)) {
+                //We found our file
+                return virtualFile;
             }
         }
-
         return null;
     }
 
     @Nullable
     private BreakpointElement createBreakpointElementFromPosition(XSourcePosition position) {
-        String breakpointId;
+        List<BreakpointElement> breakpointElements = createBreakpointElementsFromPosition(position);
+        return breakpointElements.isEmpty() ? null : breakpointElements.get(0);
+    }
+
+    /**
+     * @param position the position for which the corresponding nodes are expected.
+     * @return the breakpoint elements corresponding to the node found at the given position in each Camel context,
+     * an empty list if no node could be found.
+     */
+    @NotNull
+    private List<BreakpointElement> createBreakpointElementsFromPosition(XSourcePosition position) {
         PsiElement psiElement = null;
         if (position == null) {
-            return null;
+            return List.of();
         }
         VirtualFile file = position.getFile();
         switch (file.getFileType().getName()) {
@@ -1069,33 +1539,19 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
         }
 
         if (psiElement != null) {
-            breakpointId = getBreakpointId(psiElement);
-            if (breakpointId != null) {
-                return new BreakpointElement(breakpointId, psiElement);
-            }
+            return getBreakpointElements(psiElement);
         }
 
-        return null;
+        return List.of();
     }
 
     @Nullable
-    private String getSiblingId(String id) {
+    private String getSiblingId(CamelContextDebugger contextDebugger, String id) {
         //locate node in XML routes dump and get the next sibling
-        String path = "//*[@id='" + id + "']";
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        Node tagNode;
-        try {
-            tagNode = (Node) xPath.evaluate(path, routesDOMDocument, XPathConstants.NODE);
-        } catch (XPathExpressionException e) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Could not retrieve the node from the path " + path, e);
-            }
-            tagNode = null;
-        }
-        if (tagNode == null) {
+        Element tag = contextDebugger.getRoutesIndex().getNode(id);
+        if (tag == null) {
             return null;
         }
-        Element tag = (Element) tagNode;
         Node sibling = tag.getNextSibling();
         while (null != sibling && sibling.getNodeType() != Node.ELEMENT_NODE) {
             sibling = sibling.getNextSibling();
@@ -1109,12 +1565,35 @@ public class CamelDebuggerSession implements AbstractDebuggerSession {
             }
             if (parent != null && !parent.getNodeName().equals("route")) {
                 Element parentElement = (Element) parent;
-                return getSiblingId(parentElement.getAttribute("id"));
+                return getSiblingId(contextDebugger, parentElement.getAttribute("id"));
             }
         }
         return null;
     }
 
-    private record BreakpointElement(String id, PsiElement element) {}
+    private record BreakpointElement(CamelContextDebugger context, String id, PsiElement element) {}
+
+    /**
+     * A breakpoint to add or remove, resolved ahead of any remote call.
+     */
+    private record PendingBreakpoint(XLineBreakpoint<XBreakpointProperties<?>> xBreakpoint,
+                                     XSourcePosition position,
+                                     List<BreakpointElement> elements,
+                                     boolean toggleOn,
+                                     @Nullable XExpression condition) {}
+
+    /**
+     * A breakpoint temporarily added to a Camel context to step over or out, or to run to a given position.
+     */
+    private record TemporaryBreakpoint(CamelContextDebugger context, String id) {
+
+        /**
+         * @return {@code true} if the user explicitly set a breakpoint on the same node, in which case it must not be
+         * removed once the temporary breakpoint is no longer needed, {@code false} otherwise.
+         */
+        boolean isExplicit() {
+            return context.getExplicitBreakpointIDs().contains(id);
+        }
+    }
 
 }
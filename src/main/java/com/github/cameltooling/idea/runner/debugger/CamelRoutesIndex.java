@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.runner.debugger;
+
+import com.github.cameltooling.idea.util.StringUtils;
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable index of the nodes of the routes of a Camel context, built in a single pass over the routes dump.
+ * <p/>
+ * It allows to go from a node id to its source location and line number, and back, with simple map lookups instead
+ * of evaluating XPath expressions against the routes dump.
+ */
+final class CamelRoutesIndex {
+
+    /**
+     * The index to use when the routes of a Camel context are unknown.
+     */
+    static final CamelRoutesIndex EMPTY = new CamelRoutesIndex(null, Map.of(), Map.of(), Map.of(), Set.of());
+
+    @Nullable
+    private final Document document;
+    private final Map<String, Element> nodesById;
+    private final Map<String, SourceLine> sourceLinesById;
+    private final Map<SourceLine, String> idsBySourceLine;
+    private final Set<String> sourceLocations;
+
+    private CamelRoutesIndex(@Nullable Document document, Map<String, Element> nodesById,
+                             Map<String, SourceLine> sourceLinesById, Map<SourceLine, String> idsBySourceLine,
+                             Set<String> sourceLocations) {
+        this.document = document;
+        this.nodesById = nodesById;
+        this.sourceLinesById = sourceLinesById;
+        this.idsBySourceLine = idsBySourceLine;
+        this.sourceLocations = sourceLocations;
+    }
+
+    /**
+     * @param document the routes dump to index.
+     * @return the index of the given routes dump, {@link #EMPTY} if it is {@code null}.
+     */
+    static CamelRoutesIndex of(@Nullable Document document) {
+        if (document == null) {
+            return EMPTY;
+        }
+        Map<String, Element> nodesById = new HashMap<>();
+        Map<String, SourceLine> sourceLinesById = new HashMap<>();
+        Map<SourceLine, String> idsBySourceLine = new HashMap<>();
+        Set<String> sourceLocations = new LinkedHashSet<>();
+        NodeList elements = document.getElementsByTagName("*");
+        for (int i = 0; i < elements.getLength(); i++) {
+            Element element = (Element) elements.item(i);
+            String id = element.getAttribute("id");
+            if (StringUtils.isEmpty(id)) {
+                continue;
+            }
+            nodesById.putIfAbsent(id, element);
+            SourceLine sourceLine = SourceLine.of(element);
+            if (sourceLine != null) {
+                sourceLinesById.putIfAbsent(id, sourceLine);
+                // Keep the first node in document order like the former XPath based lookup
+                idsBySourceLine.putIfAbsent(sourceLine, id);
+                sourceLocations.add(sourceLine.sourceLocation());
+            }
+        }
+        return new CamelRoutesIndex(
+            document, Collections.unmodifiableMap(nodesById), Collections.unmodifiableMap(sourceLinesById),
+            Collections.unmodifiableMap(idsBySourceLine), Collections.unmodifiableSet(sourceLocations)
+        );
+    }
+
+    /**
+     * @return the indexed routes dump, {@code null} if the routes are unknown.
+     */
+    @Nullable
+    Document getDocument() {
+        return document;
+    }
+
+    /**
+     * @param id the id of the node to find.
+     * @return the node with the given id, {@code null} if it could not be found.
+     */
+    @Nullable
+    Element getNode(String id) {
+        return nodesById.get(id);
+    }
+
+    /**
+     * @param id the id of the node for which the source line is expected.
+     * @return the source location and line number of the given node, {@code null} if the node could not be found
+     * or has no known source line.
+     */
+    @Nullable
+    SourceLine getSourceLine(String id) {
+        return sourceLinesById.get(id);
+    }
+
+    /**
+     * @return all the distinct source locations of the nodes in document order.
+     */
+    Set<String> getSourceLocations() {
+        return sourceLocations;
+    }
+
+    /**
+     * @param sourceLocation the source location of the expected node.
+     * @param lineNumber     the 1-based line number of the expected node.
+     * @return the id of the first node defined at the given source location and line number, {@code null} if there is
+     * none.
+     */
+    @Nullable
+    String getNodeId(String sourceLocation, int lineNumber) {
+        return idsBySourceLine.get(new SourceLine(sourceLocation, lineNumber));
+    }
+
+    /**
+     * The location in the sources where a node is defined, as provided by the attributes {@code sourceLocation} and
+     * {@code sourceLineNumber} of the routes dump.
+     *
+     * @param sourceLocation the source location of the node.
+     * @param lineNumber     the 1-based line number of the node.
+     */
+    record SourceLine(String sourceLocation, int lineNumber) {
+
+        @Nullable
+        static SourceLine of(Element element) {
+            String sourceLocation = element.getAttribute("sourceLocation");
+            String lineNumber = element.getAttribute("sourceLineNumber");
+            if (StringUtils.isEmpty(sourceLocation) || StringUtils.isEmpty(lineNumber)) {
+                return null;
+            }
+            try {
+                int line = Integer.parseInt(lineNumber.trim());
+                return line == -1 ? null : new SourceLine(sourceLocation, line);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
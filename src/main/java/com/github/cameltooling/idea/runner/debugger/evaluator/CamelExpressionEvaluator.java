@@ -29,6 +29,8 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 public class CamelExpressionEvaluator extends XDebuggerEvaluator {
@@ -42,15 +44,7 @@ public class CamelExpressionEvaluator extends XDebuggerEvaluator {
     //This method should never be called because we override another `evaluate` method - but it has to be implemented because it's abstract in the parent class
     @Override
     public void evaluate(@NotNull String expression, @NotNull XEvaluationCallback xEvaluationCallback, @Nullable XSourcePosition expressionPosition) {
-        Object result = session.evaluateExpression(expression, "simple", null);
-        if (result != null) {
-            xEvaluationCallback.evaluated(
-                    new ObjectFieldDefinitionValue(session, new CamelMessageInfo.Value(result.getClass().getName(), result),
-                            result instanceof Throwable ? AllIcons.General.Error : AllIcons.Nodes.Function));
-        } else {
-            xEvaluationCallback.evaluated(
-                    new ObjectFieldDefinitionValue(session, new CamelMessageInfo.Value("null", "null"), AllIcons.General.Error));
-        }
+        evaluate(expression, "simple", null, xEvaluationCallback);
     }
 
     @Override
@@ -69,14 +63,29 @@ public class CamelExpressionEvaluator extends XDebuggerEvaluator {
                     ));
         }
 
-        Object result = session.evaluateExpression(expression.getExpression(), expression.getLanguage().getID(), customInfoMap);
-        if (result != null) {
-            xEvaluationCallback.evaluated(
-                    new ObjectFieldDefinitionValue(session, new CamelMessageInfo.Value(result.getClass().getName(), result),
-                            result instanceof Throwable ? AllIcons.General.Error : AllIcons.Nodes.Function));
-        } else {
-            xEvaluationCallback.evaluated(new ObjectFieldDefinitionValue(session, new CamelMessageInfo.Value("null", "null"), AllIcons.General.Error));
-        }
+        evaluate(expression.getExpression(), expression.getLanguage().getID(), customInfoMap, xEvaluationCallback);
+    }
+
+    /**
+     * Evaluates the given expression asynchronously such that the caller is never blocked by a slow remote JVM, the
+     * callback is notified from a pooled thread once the evaluation is done.
+     */
+    private void evaluate(String expression, String language, @Nullable Map<String, String> params, @NotNull XEvaluationCallback xEvaluationCallback) {
+        session.evaluateExpressionAsync(expression, language, params).whenComplete((result, error) -> {
+            if (error instanceof CancellationException) {
+                xEvaluationCallback.errorOccurred("The evaluation has been cancelled");
+            } else if (error instanceof TimeoutException) {
+                xEvaluationCallback.errorOccurred("The evaluation timed out");
+            } else if (error != null) {
+                xEvaluationCallback.errorOccurred(String.valueOf(error.getMessage()));
+            } else if (result != null) {
+                xEvaluationCallback.evaluated(
+                        new ObjectFieldDefinitionValue(session, new CamelMessageInfo.Value(result.getClass().getName(), result),
+                                result instanceof Throwable ? AllIcons.General.Error : AllIcons.Nodes.Function));
+            } else {
+                xEvaluationCallback.evaluated(new ObjectFieldDefinitionValue(session, new CamelMessageInfo.Value("null", "null"), AllIcons.General.Error));
+            }
+        });
     }
 
 }
@@ -46,6 +46,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.Icon;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 public class ObjectFieldDefinitionValue extends XValue {
     private final CamelDebuggerTarget target;
@@ -175,8 +177,16 @@ public class ObjectFieldDefinitionValue extends XValue {
                 session.getCamelDebugProcess().setValue(
                     target, targetName, StringUtil.unquoteString(expression.getExpression()),
                     CamelLanguages.SIMPLE_LANGUAGE.getID(), type, null, null
-                );
-                callback.valueModified();
+                ).whenComplete((result, error) -> {
+                    if (error == null) {
+                        callback.valueModified();
+                    } else {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        callback.errorOccurred(
+                            cause instanceof TimeoutException ? "The evaluation timed out" : String.valueOf(cause.getMessage())
+                        );
+                    }
+                });
             }
 
             @Override
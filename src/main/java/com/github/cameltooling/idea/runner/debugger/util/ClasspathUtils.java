@@ -16,6 +16,7 @@
  */
 package com.github.cameltooling.idea.runner.debugger.util;
 
+import com.github.cameltooling.idea.service.CamelClassLoaderService;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
@@ -31,9 +32,10 @@ import com.intellij.psi.util.ParameterizedCachedValueProvider;
 import org.jetbrains.annotations.Nullable;
 
 import java.net.URL;
-import java.net.URLClassLoader;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 public final class ClasspathUtils {
     private static final Key<ParameterizedCachedValue<List<URL>, Module>> URLS_KEY = Key.create("MODULE.URLS");
@@ -42,12 +44,36 @@ public final class ClasspathUtils {
     private ClasspathUtils() {
     }
 
-    public static ClassLoader getProjectClassLoader(Project project, ClassLoader parent) {
-        List<URL> loaderUrls = new ArrayList<>();
+    /**
+     * @param project the project for which the classloader is expected.
+     * @param parent the parent classloader of the expected classloader.
+     * @return the lease of the cached classloader over the classpath of all the modules of the project, it must be
+     * released by the caller once the classloader is no longer used.
+     */
+    public static CamelClassLoaderService.ClassLoaderLease acquireProjectClassLoader(Project project, ClassLoader parent) {
+        return project.getService(CamelClassLoaderService.class).acquireProjectClassLoader(parent);
+    }
+
+    /**
+     * @param project the project for which the classloader is expected.
+     * @param parent the parent classloader of the expected classloader.
+     * @return the lease of the cached classloader limited to the JMX types of Camel found in the classpath of the
+     * project, it must be released by the caller once the classloader is no longer used.
+     */
+    public static CamelClassLoaderService.ClassLoaderLease acquireJmxClassLoader(Project project, ClassLoader parent) {
+        return project.getService(CamelClassLoaderService.class).acquireJmxClassLoader(parent);
+    }
+
+    /**
+     * @param project the project for which the URLs are expected.
+     * @return the URLs of the classpath of all the modules of the project without duplicates.
+     */
+    public static Set<URL> getProjectURLs(Project project) {
+        Set<URL> loaderUrls = new LinkedHashSet<>();
         for (Module nextModule : ModuleManager.getInstance(project).getModules()) {
             loaderUrls.addAll(getURLsForModule(nextModule));
         }
-        return new URLClassLoader(loaderUrls.toArray(new URL[0]), parent);
+        return loaderUrls;
     }
 
     private static List<URL> getURLsForModule(Module module) {
@@ -16,6 +16,8 @@
  */
 package com.github.cameltooling.idea.service;
 
+import java.util.function.Supplier;
+
 import com.github.cameltooling.idea.catalog.CamelCatalogProvider;
 import com.github.cameltooling.idea.maven.CamelMavenVersionManager;
 import com.intellij.openapi.Disposable;
@@ -68,6 +70,36 @@ public class CamelCatalogService implements Disposable {
         return result;
     }
 
+    /**
+     * Executes the given action with an exclusive access to the given catalog. Once its cache is enabled, the catalog
+     * is not thread-safe, so the actions that can be executed concurrently against the same catalog, like the
+     * validations executed in the background, must go through this method.
+     *
+     * @param catalog the catalog to which the action needs an exclusive access.
+     * @param action  the action to execute.
+     * @return the result of the action.
+     * @param <T> the type of result of the action.
+     */
+    public static <T> T withExclusiveAccess(@NotNull CamelCatalog catalog, @NotNull Supplier<T> action) {
+        synchronized (catalog) {
+            return action.get();
+        }
+    }
+
+    /**
+     * @param catalog the catalog for which the key is expected.
+     * @return a key identifying the version and the runtime of the given catalog, which can be used to cache
+     * data extracted from the catalog.
+     */
+    public static String toVersionKey(@NotNull CamelCatalog catalog) {
+        final VersionManager versionManager = catalog.getVersionManager();
+        return String.join(
+            ":", String.valueOf(catalog.getLoadedVersion()), catalog.getCatalogVersion(),
+            catalog.getRuntimeProvider() == null ? "" : catalog.getRuntimeProvider().getProviderName(),
+            versionManager == null ? "" : String.valueOf(versionManager.getRuntimeProviderLoadedVersion())
+        );
+    }
+
     boolean isInstantiated() {
         return instance != null;
     }
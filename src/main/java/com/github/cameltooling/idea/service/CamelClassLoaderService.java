@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.service;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.github.cameltooling.idea.runner.debugger.util.ClasspathUtils;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@code CamelClassLoaderService} is the service responsible for providing the classloaders giving access to the
+ * classes of the project.
+ * <p/>
+ * The classloaders are created lazily, shared between all the callers with the same parent classloader and retired
+ * when the roots of the project change. The classloaders are leased to the callers, a retired classloader being
+ * closed as soon as its last lease is released, or when the project is closed.
+ */
+public class CamelClassLoaderService implements Disposable {
+
+    /**
+     * The logger.
+     */
+    private static final Logger LOG = Logger.getInstance(CamelClassLoaderService.class);
+    /**
+     * The prefixes of the names of the jar files to include in the JMX classloader.
+     */
+    private static final List<String> JMX_JAR_PREFIXES = List.of("camel-management-api-", "camel-api-");
+    /**
+     * The project in which the service is registered.
+     */
+    private final Project project;
+    /**
+     * The classloaders over the complete classpath of the project indexed by parent classloader.
+     */
+    private final Map<ClassLoader, URLClassLoader> projectClassLoaders = new HashMap<>();
+    /**
+     * The classloaders limited to the JMX types of Camel indexed by parent classloader.
+     */
+    private final Map<ClassLoader, URLClassLoader> jmxClassLoaders = new HashMap<>();
+    /**
+     * The amount of leases not yet released indexed by classloader.
+     */
+    private final Map<URLClassLoader, Integer> leaseCounts = new IdentityHashMap<>();
+    /**
+     * The classloaders that have been replaced since the roots of the project changed but that are still leased, to
+     * close once their last lease is released.
+     */
+    private final Set<URLClassLoader> retiredClassLoaders = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Construct a {@code CamelClassLoaderService} with the given project.
+     *
+     * @param project the project in which the service is registered.
+     */
+    public CamelClassLoaderService(Project project) {
+        this.project = project;
+        project.getMessageBus()
+            .connect(this)
+            .subscribe(
+                ModuleRootListener.TOPIC,
+                new ModuleRootListener() {
+                    @Override
+                    public void rootsChanged(@NotNull ModuleRootEvent event) {
+                        // The classpath may have changed, the classloaders need to be recreated
+                        invalidate();
+                    }
+                }
+            );
+    }
+
+    /**
+     * Leases the classloader that can load all the classes and resources of the project. The URLs of the modules
+     * are deduplicated and the classloader is reused until the roots of the project change.
+     * <p/>
+     * The lease must be released by the caller once the classloader is no longer used.
+     *
+     * @param parent the parent classloader of the expected classloader.
+     * @return the lease of the classloader of the project with the given parent.
+     */
+    public synchronized ClassLoaderLease acquireProjectClassLoader(@NotNull ClassLoader parent) {
+        return lease(projectClassLoaders.computeIfAbsent(
+            parent, p -> new URLClassLoader(ClasspathUtils.getProjectURLs(project).toArray(new URL[0]), p)
+        ));
+    }
+
+    /**
+     * Leases a minimal classloader only giving access to the JMX types of Camel that are on the classpath of the
+     * project, which is enough to communicate with the Camel MBeans and much faster to create and to use than
+     * the classloader of the whole project.
+     * <p/>
+     * The lease must be released by the caller once the classloader is no longer used.
+     *
+     * @param parent the parent classloader of the expected classloader.
+     * @return the lease of the JMX classloader of the project with the given parent.
+     */
+    public synchronized ClassLoaderLease acquireJmxClassLoader(@NotNull ClassLoader parent) {
+        return lease(jmxClassLoaders.computeIfAbsent(parent, p -> new URLClassLoader(getJmxURLs(), p)));
+    }
+
+    /**
+     * Retires all the classloaders created so far, the next calls will create new classloaders. The retired
+     * classloaders that are not leased are closed right away, the others once their last lease is released.
+     */
+    public synchronized void invalidate() {
+        for (Map<ClassLoader, URLClassLoader> classLoaders : List.of(projectClassLoaders, jmxClassLoaders)) {
+            for (URLClassLoader classLoader : classLoaders.values()) {
+                if (leaseCounts.containsKey(classLoader)) {
+                    retiredClassLoaders.add(classLoader);
+                } else {
+                    close(classLoader);
+                }
+            }
+            classLoaders.clear();
+        }
+    }
+
+    @Override
+    public synchronized void dispose() {
+        invalidate();
+        // The project is closed, the classloaders still leased cannot be used anymore
+        retiredClassLoaders.forEach(CamelClassLoaderService::close);
+        retiredClassLoaders.clear();
+        leaseCounts.clear();
+    }
+
+    private ClassLoaderLease lease(URLClassLoader classLoader) {
+        leaseCounts.merge(classLoader, 1, Integer::sum);
+        return new ClassLoaderLease(classLoader);
+    }
+
+    /**
+     * Releases a lease of the given classloader, closing it if it has been retired and is not leased anymore.
+     *
+     * @param classLoader the classloader whose lease is released.
+     */
+    private synchronized void release(URLClassLoader classLoader) {
+        Integer count = leaseCounts.computeIfPresent(classLoader, (c, current) -> current == 1 ? null : current - 1);
+        if (count == null && retiredClassLoaders.remove(classLoader)) {
+            close(classLoader);
+        }
+    }
+
+    private static void close(URLClassLoader classLoader) {
+        try {
+            classLoader.close();
+        } catch (IOException e) {
+            LOG.warn("Could not close the Project ClassLoader: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return the URLs of the jar files of the project containing the JMX types of Camel.
+     */
+    private URL[] getJmxURLs() {
+        List<URL> result = new ArrayList<>();
+        for (URL url : ClasspathUtils.getProjectURLs(project)) {
+            String path = url.getPath();
+            if (path.endsWith("!/")) {
+                path = path.substring(0, path.length() - 2);
+            }
+            String fileName = path.substring(path.lastIndexOf('/') + 1);
+            if (fileName.endsWith(".jar") && JMX_JAR_PREFIXES.stream().anyMatch(fileName::startsWith)) {
+                result.add(url);
+            }
+        }
+        return result.toArray(new URL[0]);
+    }
+
+    /**
+     * The lease of a classloader provided by the service, to release once the classloader is no longer used.
+     */
+    public final class ClassLoaderLease implements AutoCloseable {
+
+        /**
+         * The leased classloader.
+         */
+        private final URLClassLoader classLoader;
+        /**
+         * Indicates whether the lease has been released.
+         */
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ClassLoaderLease(URLClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        /**
+         * @return the leased classloader, it must not be closed by the caller.
+         */
+        public ClassLoader getClassLoader() {
+            return classLoader;
+        }
+
+        /**
+         * Releases the lease, releasing it more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(classLoader);
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.service;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.components.StoragePathMacros;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@code CamelDebuggerCacheService} is the service keeping what is needed to add the Camel Debugger automatically
+ * across the debug sessions, to avoid resolving it again on each launch.
+ * <p/>
+ * It persists the classpath of the Camel Debugger resolved for a given runtime and version, and keeps track of the
+ * generated build files which are reused across the debug sessions and deleted once the project is closed.
+ */
+@State(
+    name = "CamelDebuggerCache",
+    storages = {@Storage(StoragePathMacros.CACHE_FILE)})
+public class CamelDebuggerCacheService implements PersistentStateComponent<CamelDebuggerCacheService.State>, Disposable {
+
+    private static final Logger LOG = Logger.getInstance(CamelDebuggerCacheService.class);
+
+    public static class State {
+        /**
+         * The URLs of the Camel Debugger and its dependencies indexed by runtime and version.
+         */
+        public Map<String, List<String>> classpaths = new HashMap<>();
+    }
+
+    /**
+     * The key of the content of each generated build file, made of the hash of its source file, the runtime and the
+     * version of Camel.
+     */
+    private final Map<File, String> generatedFiles = new LinkedHashMap<>();
+    private State state = new State();
+
+    public static CamelDebuggerCacheService getService(Project project) {
+        return project.getService(CamelDebuggerCacheService.class);
+    }
+
+    /**
+     * @param runtime the runtime for which the Camel Debugger has been resolved.
+     * @param version the version of the Camel Debugger.
+     * @return the URLs of the Camel Debugger and its dependencies that have been resolved previously, {@code null} if
+     * they are unknown or if some of them do not exist anymore.
+     */
+    @Nullable
+    public synchronized List<URL> getCamelDebuggerClasspath(@NotNull CamelRuntime runtime, @NotNull String version) {
+        List<String> urls = state.classpaths.get(toKey(runtime, version));
+        if (urls == null) {
+            return null;
+        }
+        List<URL> result = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            try {
+                URL value = new URL(url);
+                if (!new File(value.toURI()).exists()) {
+                    LOG.debug("The cached classpath of the Camel Debugger is outdated");
+                    return null;
+                }
+                result.add(value);
+            } catch (MalformedURLException | URISyntaxException | IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param runtime the runtime for which the Camel Debugger has been resolved.
+     * @param version the version of the Camel Debugger.
+     * @param urls    the URLs of the Camel Debugger and its dependencies that have been resolved.
+     */
+    public synchronized void setCamelDebuggerClasspath(@NotNull CamelRuntime runtime, @NotNull String version,
+                                                       @NotNull List<URL> urls) {
+        state.classpaths.put(toKey(runtime, version), urls.stream().map(URL::toString).toList());
+    }
+
+    /**
+     * Registers a build file generated to add the Camel Debugger such that it is reused by the next debug sessions
+     * and deleted once the project is closed. If the file was previously registered with another key, it is stale
+     * and thus deleted so that it is generated again.
+     *
+     * @param file the generated file.
+     * @param key  the key of the content of the generated file.
+     */
+    public synchronized void registerGeneratedFile(@NotNull File file, @NotNull String key) {
+        String previous = generatedFiles.put(file, key);
+        if (previous != null && !previous.equals(key)) {
+            LOG.debug("The generated file %s is outdated".formatted(file));
+            delete(file);
+        }
+    }
+
+    @Override
+    public synchronized void dispose() {
+        generatedFiles.keySet().forEach(CamelDebuggerCacheService::delete);
+        generatedFiles.clear();
+    }
+
+    @Override
+    public synchronized State getState() {
+        return state;
+    }
+
+    @Override
+    public synchronized void loadState(@NotNull State state) {
+        this.state = state;
+    }
+
+    private static void delete(File generatedFile) {
+        if (generatedFile.exists() && !generatedFile.delete()) {
+            LOG.debug("The generated file %s could not be deleted".formatted(generatedFile));
+            generatedFile.deleteOnExit();
+        }
+    }
+
+    private static String toKey(CamelRuntime runtime, String version) {
+        return String.format("%s:%s", runtime.name(), version);
+    }
+}
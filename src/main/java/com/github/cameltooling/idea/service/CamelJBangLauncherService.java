@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intellij.execution.ExecutionException;
+import com.intellij.execution.process.CapturingProcessHandler;
+import com.intellij.execution.process.ProcessOutput;
+import com.intellij.execution.target.TargetedCommandLineBuilder;
+import com.intellij.execution.target.local.LocalTargetEnvironment;
+import com.intellij.execution.target.local.LocalTargetEnvironmentRequest;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@code CamelJBangLauncherService} is the service responsible for building the command lines launching Camel JBang.
+ * <p/>
+ * By default, the commands are launched with {@code jbang camel@apache/camel} which resolves the Camel JBang
+ * application each time in a new JVM. When the launcher is kept warm according to the preferences, the Camel JBang
+ * application is resolved once in the background, and the commands are then launched directly with Java using the
+ * resolved classpath. The launcher is resolved again automatically when the version of Camel JBang changes.
+ */
+public class CamelJBangLauncherService implements Disposable {
+
+    /**
+     * The logger.
+     */
+    private static final Logger LOG = Logger.getInstance(CamelJBangLauncherService.class);
+    /**
+     * The alias of the Camel JBang application in the JBang catalog of Apache Camel.
+     */
+    private static final String CAMEL_JBANG_ALIAS = "camel@apache/camel";
+    /**
+     * The path of the file in which the version of Camel JBang is defined relatively to the base path of the project.
+     */
+    private static final String CAMEL_JBANG_PROPERTIES = ".camel-jbang/camel-jbang-run.properties";
+    /**
+     * The mapper used to deserialize the information provided by JBang.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    /**
+     * The project in which the service is registered.
+     */
+    private final Project project;
+    /**
+     * The flag indicating whether the launcher is being resolved.
+     */
+    private final AtomicBoolean warmingUp = new AtomicBoolean();
+    /**
+     * The launcher resolved for the current version of Camel JBang, {@code null} if not yet resolved.
+     */
+    private volatile Launcher launcher;
+    /**
+     * The last known version of Camel JBang, used to restart the launcher only when the version actually changes.
+     */
+    private volatile String camelJBangVersion;
+
+    /**
+     * Construct a {@code CamelJBangLauncherService} with the given project.
+     *
+     * @param project the project in which the service is registered.
+     */
+    public CamelJBangLauncherService(@NotNull Project project) {
+        this.project = project;
+        project.getMessageBus()
+            .connect(this)
+            .subscribe(
+                CamelProjectPreferenceService.CamelVersionChangeListener.TOPIC, version -> onCamelJBangVersionChange()
+            );
+        project.getMessageBus()
+            .connect(this)
+            .subscribe(
+                VirtualFileManager.VFS_CHANGES,
+                new BulkFileListener() {
+                    @Override
+                    public void after(@NotNull List<? extends VFileEvent> events) {
+                        if (events.stream().anyMatch(event -> event.getPath().endsWith(CAMEL_JBANG_PROPERTIES))) {
+                            onCamelJBangVersionChange();
+                        }
+                    }
+                }
+            );
+    }
+
+    /**
+     * Adds to the given builder the executable and the parameters launching Camel JBang, the command of Camel JBang
+     * and its parameters are then expected to be added by the caller.
+     *
+     * @param builder          the builder of the command line to configure.
+     * @param local            {@code true} if the command is launched locally, {@code false} otherwise. The warm
+     *                         launcher is only used locally.
+     * @param debugAddress     the address on which the Java debugger should listen, {@code null} to launch Camel JBang
+     *                         without the Java debugger.
+     * @param systemProperties the system properties to set in the form {@code -Dkey=value}.
+     */
+    public void configure(@NotNull TargetedCommandLineBuilder builder, boolean local, @Nullable String debugAddress,
+                          @NotNull List<String> systemProperties) {
+        String version = project.getService(CamelJBangService.class).getCamelJBangVersion();
+        camelJBangVersion = version;
+        Launcher current = local ? getLauncher(version) : null;
+        if (current == null) {
+            builder.setExePath("jbang");
+            if (debugAddress != null) {
+                builder.addParameter(String.format("--debug=%s", debugAddress));
+            }
+        } else {
+            builder.setExePath(current.javaPath());
+            if (debugAddress != null) {
+                builder.addParameter(
+                    String.format("-agentlib:jdwp=transport=dt_socket,server=y,suspend=y,address=%s", debugAddress)
+                );
+            }
+            current.runtimeOptions().forEach(builder::addParameter);
+        }
+        systemProperties.forEach(builder::addParameter);
+        if (version != null) {
+            builder.addParameter(String.format("-Dcamel.jbang.version=%s", version));
+        }
+        if (current == null) {
+            builder.addParameter(CAMEL_JBANG_ALIAS);
+        } else {
+            builder.addParameter("-cp");
+            builder.addParameter(current.classpath());
+            builder.addParameter(current.mainClass());
+        }
+    }
+
+    /**
+     * Gives the warm launcher corresponding to the given version of Camel JBang. If it is not yet available, it is
+     * resolved in the background so that the next calls can use it.
+     *
+     * @param version the version of Camel JBang for which the launcher is expected, {@code null} for the default one.
+     * @return the launcher corresponding to the given version if the launcher is kept warm and it is already
+     * resolved, {@code null} otherwise.
+     */
+    @Nullable
+    private Launcher getLauncher(@Nullable String version) {
+        if (!CamelProjectPreferenceService.getService(project).isWarmCamelJBangLauncher()) {
+            return null;
+        }
+        Launcher current = launcher;
+        if (current != null && Objects.equals(current.version(), version)) {
+            return current;
+        }
+        warmUp();
+        return null;
+    }
+
+    /**
+     * Checks in the background whether the version of Camel JBang has changed since the last time it was read, which
+     * can be due to a change of the version of Camel in the preferences or in the properties file of Camel JBang, and
+     * restarts the launcher if so.
+     */
+    private void onCamelJBangVersionChange() {
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            String version = project.getService(CamelJBangService.class).getCamelJBangVersion();
+            String previous = camelJBangVersion;
+            camelJBangVersion = version;
+            if (!Objects.equals(previous, version)) {
+                restart();
+            }
+        });
+    }
+
+    /**
+     * Drops the current launcher and resolves the launcher corresponding to the new version of Camel JBang if it
+     * should be kept warm.
+     */
+    private void restart() {
+        launcher = null;
+        if (CamelProjectPreferenceService.getService(project).isWarmCamelJBangLauncher()) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Resolves the launcher in the background unless it is already in progress.
+     */
+    private void warmUp() {
+        if (warmingUp.compareAndSet(false, true)) {
+            ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                try {
+                    String version = project.getService(CamelJBangService.class).getCamelJBangVersion();
+                    camelJBangVersion = version;
+                    launcher = resolveLauncher(version);
+                } catch (Exception e) {
+                    LOG.warn("Could not resolve the Camel JBang launcher: " + e.getMessage());
+                } finally {
+                    warmingUp.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Resolves the Camel JBang application with the command {@code jbang info tools} to be able to launch it
+     * directly with Java.
+     *
+     * @param version the version of Camel JBang to resolve, {@code null} for the default one.
+     * @return the launcher corresponding to the given version, {@code null} if it could not be resolved.
+     * @throws IOException if the command could not be executed or its output could not be read.
+     */
+    @Nullable
+    private Launcher resolveLauncher(@Nullable String version) throws IOException {
+        var targetEnvRequest = new LocalTargetEnvironmentRequest();
+        var targetEnvironment = new LocalTargetEnvironment(new LocalTargetEnvironmentRequest());
+
+        var builder = new TargetedCommandLineBuilder(targetEnvRequest);
+        builder.setExePath("jbang");
+        getInfoToolsParameters(version).forEach(builder::addParameter);
+        String basePath = project.getBasePath();
+        if (basePath != null) {
+            builder.setWorkingDirectory(basePath);
+        }
+        var targetedCommandLine = builder.build();
+        ProcessOutput output;
+        try {
+            Process process = targetEnvironment.createProcess(targetedCommandLine, new EmptyProgressIndicator());
+            // Both outputs are consumed concurrently to prevent the process from blocking on a full buffer
+            output = new CapturingProcessHandler(
+                process, targetedCommandLine.getCharset(), targetedCommandLine.getCommandPresentation(targetEnvironment)
+            ).runProcess();
+        } catch (ExecutionException e) {
+            throw e.toIOException();
+        }
+        if (output.getExitCode() != 0) {
+            output.getStderrLines().forEach(LOG::warn);
+            return null;
+        }
+        return toLauncher(version, MAPPER.readTree(output.getStdout()));
+    }
+
+    /**
+     * Gives the parameters of the command {@code jbang info tools} resolving the Camel JBang application. The version
+     * of Camel JBang is an option of the {@code info tools} command so it must be provided after it, otherwise it
+     * is ignored.
+     *
+     * @param version the version of Camel JBang to resolve, {@code null} for the default one.
+     * @return the parameters to provide to JBang.
+     */
+    @NotNull
+    static List<String> getInfoToolsParameters(@Nullable String version) {
+        List<String> parameters = new ArrayList<>();
+        parameters.add("info");
+        parameters.add("tools");
+        if (version != null) {
+            parameters.add(String.format("-Dcamel.jbang.version=%s", version));
+        }
+        parameters.add(CAMEL_JBANG_ALIAS);
+        return parameters;
+    }
+
+    /**
+     * @param version the version of Camel JBang that has been resolved.
+     * @param info    the information provided by the command {@code jbang info tools}.
+     * @return the launcher corresponding to the given information, {@code null} if some information is missing.
+     */
+    @Nullable
+    private static Launcher toLauncher(@Nullable String version, @NotNull JsonNode info) {
+        String mainClass = info.path("mainClass").asText(null);
+        String applicationJar = info.path("applicationJar").asText(null);
+        if (mainClass == null || applicationJar == null) {
+            LOG.warn("The Camel JBang launcher could not be resolved, the main class or the application jar is missing");
+            return null;
+        }
+        List<String> classpath = new ArrayList<>();
+        classpath.add(applicationJar);
+        info.path("resolvedDependencies").forEach(dependency -> classpath.add(dependency.asText()));
+        List<String> runtimeOptions = new ArrayList<>();
+        info.path("runtimeOptions").forEach(option -> runtimeOptions.add(option.asText()));
+        String jdkPath = info.path("availableJdkPath").asText(null);
+        String javaPath = jdkPath == null ? "java" : new File(new File(jdkPath, "bin"), "java").getPath();
+        return new Launcher(
+            version, javaPath, List.copyOf(runtimeOptions), String.join(File.pathSeparator, classpath), mainClass
+        );
+    }
+
+    @Override
+    public void dispose() {
+        launcher = null;
+    }
+
+    /**
+     * The information needed to launch Camel JBang directly with Java.
+     *
+     * @param version        the version of Camel JBang that has been resolved, {@code null} for the default one.
+     * @param javaPath       the path of the Java executable to use.
+     * @param runtimeOptions the options of the JVM required by Camel JBang.
+     * @param classpath      the classpath of Camel JBang.
+     * @param mainClass      the main class of Camel JBang.
+     */
+    private record Launcher(String version, String javaPath, List<String> runtimeOptions, String classpath,
+                            String mainClass) {
+    }
+}
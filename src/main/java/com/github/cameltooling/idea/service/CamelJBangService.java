@@ -22,11 +22,19 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -57,6 +65,7 @@ import com.intellij.openapi.roots.libraries.LibraryTable;
 import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.vfs.JarFileSystem;
 import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.vfs.VirtualFileManager;
 import org.jetbrains.annotations.NotNull;
@@ -68,11 +77,25 @@ import static com.github.cameltooling.idea.service.CamelService.CAMEL_NOTIFICATI
  */
 public class CamelJBangService implements Disposable {
     private static final Pattern DEPENDENCY_FORMAT = Pattern.compile("^(.*):(.*):(.*)$");
+    /**
+     * The extensions of the files that are taken into account by Camel JBang to detect the dependencies.
+     */
+    private static final Set<String> SOURCE_EXTENSIONS = Set.of(
+        ".java", ".groovy", ".js", ".kts", ".xml", ".yaml", ".yml", ".properties"
+    );
+    /**
+     * The names of the directories that are ignored when computing the fingerprint of the sources.
+     */
+    private static final Set<String> IGNORED_DIRECTORIES = Set.of("target", "build", "node_modules");
 
     private static final Logger LOG = Logger.getInstance(CamelJBangService.class);
 
     private final Project project;
     private volatile Notification notification;
+    /**
+     * The dependencies resolved during the last call to {@link #addDependencies()}, {@code null} if none.
+     */
+    private volatile ResolvedDependencies resolvedDependencies;
 
     public CamelJBangService(@NotNull Project project) {
         this.project = project;
@@ -136,25 +159,39 @@ public class CamelJBangService implements Disposable {
             if (modules.length == 0) {
                 modules = new Module[]{createNewModule(manager)};
             }
-            // 2. Execute the Camel JBang command to get the list of dependencies
-            Process process = executeCommand();
-            // 3. Extract the dependencies for the output
-            List<ArtifactCoordinates> dependencies = extractDependencies(process);
-            if (dependencies.isEmpty()) {
-                notifyError("No dependency could be found");
-                return;
-            }
-            // 4. Download the dependencies
-            Map<ArtifactCoordinates, URL> libraries = downloadArtifacts(dependencies);
-            if (libraries.isEmpty()) {
-                notifyError("No library could be found");
-                return;
+            // 2. Get the dependencies from the previous call if the sources did not change
+            String fingerprint = computeFingerprint();
+            ResolvedDependencies previous = resolvedDependencies;
+            Map<ArtifactCoordinates, URL> libraries;
+            Set<ArtifactCoordinates> removed = Set.of();
+            if (previous != null && previous.fingerprint().equals(fingerprint)) {
+                libraries = previous.libraries();
+            } else {
+                // 3. Execute the Camel JBang command to get the list of dependencies
+                Process process = executeCommand();
+                // 4. Extract the dependencies for the output
+                List<ArtifactCoordinates> dependencies = extractDependencies(process);
+                if (dependencies.isEmpty()) {
+                    notifyError("No dependency could be found");
+                    return;
+                }
+                // 5. Download the dependencies that were not already downloaded
+                libraries = resolveLibraries(previous, dependencies);
+                if (libraries.isEmpty()) {
+                    notifyError("No library could be found");
+                    return;
+                }
+                if (previous != null) {
+                    removed = new LinkedHashSet<>(previous.libraries().keySet());
+                    removed.removeAll(libraries.keySet());
+                }
+                resolvedDependencies = new ResolvedDependencies(fingerprint, Map.copyOf(libraries));
             }
-            // 5. Add the libraries to the first module available
-            addLibraries(modules[0], libraries);
-            // 6. Add a source folder to the module if it does not exist
+            // 6. Add the libraries to the first module available and remove the ones that are no longer needed
+            addLibraries(modules[0], libraries, removed);
+            // 7. Add a source folder to the module if it does not exist
             addSourceFolderIfMissing(modules[0]);
-            // 7. Notify that the libraries could be added
+            // 8. Notify that the libraries could be added
             notifySuccess();
         } catch (Exception e) {
             notifyError(e.getMessage());
@@ -233,9 +270,18 @@ public class CamelJBangService implements Disposable {
      *
      * @param module    the module to which the dependencies must be added.
      * @param libraries the coordinated and the URL corresponding to the local path of all the dependencies to add.
+     * @param removed   the coordinates of the dependencies that are no longer needed and must be removed.
      */
-    private void addLibraries(@NotNull final Module module, @NotNull Map<ArtifactCoordinates, URL> libraries) {
+    private void addLibraries(@NotNull final Module module, @NotNull Map<ArtifactCoordinates, URL> libraries,
+                              @NotNull Set<ArtifactCoordinates> removed) {
         ModuleRootModificationUtil.updateModel(module, model -> {
+            LibraryTable table = model.getModuleLibraryTable();
+            for (ArtifactCoordinates artifact : removed) {
+                Library library = table.getLibraryByName(artifact.toString());
+                if (library != null) {
+                    table.removeLibrary(library);
+                }
+            }
             for (Map.Entry<ArtifactCoordinates, URL> library : libraries.entrySet()) {
                 try {
                     addLibrary(model, library.getKey(), new File(library.getValue().toURI()));
@@ -268,6 +314,75 @@ public class CamelJBangService implements Disposable {
         }
     }
 
+    /**
+     * Resolves the libraries corresponding to the given dependencies, only the dependencies that were not resolved
+     * during the previous call are downloaded.
+     *
+     * @param previous     the dependencies resolved during the previous call, {@code null} if none.
+     * @param dependencies the dependencies to resolve.
+     * @return the coordinates and the URL corresponding to the local path of all the artifacts that could be resolved.
+     * @throws IOException if an error occurs while downloading the artifacts.
+     */
+    private Map<ArtifactCoordinates, URL> resolveLibraries(ResolvedDependencies previous,
+                                                           @NotNull List<ArtifactCoordinates> dependencies) throws IOException {
+        Map<ArtifactCoordinates, URL> result = new HashMap<>();
+        List<ArtifactCoordinates> added = new ArrayList<>();
+        for (ArtifactCoordinates dependency : dependencies) {
+            URL url = previous == null ? null : previous.libraries().get(dependency);
+            if (url == null) {
+                added.add(dependency);
+            } else {
+                result.put(dependency, url);
+            }
+        }
+        if (!added.isEmpty()) {
+            result.putAll(downloadArtifacts(added));
+        }
+        return result;
+    }
+
+    /**
+     * Computes the fingerprint of the sources from which Camel JBang detects the dependencies, that is the version of
+     * Camel JBang and the path, the timestamp and the length of the route and properties files of the project. The
+     * files are taken from the virtual file system so that the content of the files is never read from the disk.
+     *
+     * @return the fingerprint of the sources of the project.
+     * @throws IOException if the fingerprint could not be computed.
+     */
+    private String computeFingerprint() throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        digest.update(String.valueOf(getCamelJBangVersion()).getBytes(StandardCharsets.UTF_8));
+        String basePath = project.getBasePath();
+        VirtualFile root = basePath == null ? null : LocalFileSystem.getInstance().findFileByPath(basePath);
+        if (root != null) {
+            // Sorted to get the same fingerprint whatever the order in which the files are visited
+            Map<String, VirtualFile> files = new TreeMap<>();
+            ApplicationManager.getApplication().runReadAction(() -> VfsUtilCore.iterateChildrenRecursively(
+                root,
+                file -> !file.isDirectory() || file.equals(root)
+                    || !file.getName().startsWith(".") && !IGNORED_DIRECTORIES.contains(file.getName()),
+                file -> {
+                    if (!file.isDirectory() && SOURCE_EXTENSIONS.stream().anyMatch(file.getName()::endsWith)) {
+                        files.put(VfsUtilCore.getRelativePath(file, root), file);
+                    }
+                    return true;
+                }
+            ));
+            for (Map.Entry<String, VirtualFile> file : files.entrySet()) {
+                digest.update(
+                    String.format("%s:%d:%d;", file.getKey(), file.getValue().getTimeStamp(), file.getValue().getLength())
+                        .getBytes(StandardCharsets.UTF_8)
+                );
+            }
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
     /**
      * Download the given artifacts using the Maven API.
      *
@@ -332,12 +447,7 @@ public class CamelJBangService implements Disposable {
         var targetEnvironment = new LocalTargetEnvironment(new LocalTargetEnvironmentRequest());
 
         var builder = new TargetedCommandLineBuilder(targetEnvRequest);
-        builder.setExePath("jbang");
-        String version = getCamelJBangVersion();
-        if (version != null) {
-            builder.addParameter(String.format("-Dcamel.jbang.version=%s", version));
-        }
-        builder.addParameter("camel@apache/camel");
+        project.getService(CamelJBangLauncherService.class).configure(builder, true, null, List.of());
         builder.addParameter("dependency");
         builder.addParameter("list");
         String basePath = project.getBasePath();
@@ -361,6 +471,15 @@ public class CamelJBangService implements Disposable {
         }
     }
 
+    /**
+     * The libraries resolved from the dependencies detected by Camel JBang.
+     *
+     * @param fingerprint the fingerprint of the sources from which the dependencies have been detected.
+     * @param libraries   the coordinates and the URL corresponding to the local path of the resolved libraries.
+     */
+    private record ResolvedDependencies(String fingerprint, Map<ArtifactCoordinates, URL> libraries) {
+    }
+
     @Override
     public void dispose() {
         if (notification != null) {
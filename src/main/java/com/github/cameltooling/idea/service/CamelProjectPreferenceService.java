@@ -59,6 +59,11 @@ public class CamelProjectPreferenceService implements PersistentStateComponent<C
          * Flag indicating whether only the options of the Kamelet should be proposed.
          */
         public boolean onlyShowKameletOptions = true;
+        /**
+         * Flag indicating whether the launcher of Camel JBang should be resolved once and kept warm to launch the
+         * Camel JBang commands directly with Java.
+         */
+        public boolean warmCamelJBangLauncher;
         /**
          * The {@link CamelCatalogProvider} set in the preferences.
          */
@@ -124,6 +129,14 @@ public class CamelProjectPreferenceService implements PersistentStateComponent<C
         this.state.onlyShowKameletOptions = onlyShowKameletOptions;
     }
 
+    public boolean isWarmCamelJBangLauncher() {
+        return state.warmCamelJBangLauncher;
+    }
+
+    public void setWarmCamelJBangLauncher(boolean warmCamelJBangLauncher) {
+        this.state.warmCamelJBangLauncher = warmCamelJBangLauncher;
+    }
+
     public void setCamelDebuggerAutoSetup(boolean camelDebuggerAutoSetup) {
         this.state.camelDebuggerAutoSetup = camelDebuggerAutoSetup;
     }
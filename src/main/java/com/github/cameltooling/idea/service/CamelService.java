@@ -16,13 +16,16 @@
  */
 package com.github.cameltooling.idea.service;
 
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.StringReader;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -32,8 +35,12 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import javax.swing.Icon;
 
 import com.github.cameltooling.idea.catalog.CamelCatalogProvider;
+import com.github.cameltooling.idea.gradle.GradleUtil;
+import com.github.cameltooling.idea.maven.MavenUtil;
 import com.github.cameltooling.idea.util.ArtifactCoordinates;
 import com.github.cameltooling.idea.util.IdeaUtils;
+import com.github.cameltooling.idea.util.JarMetadataReader;
+import com.intellij.ide.util.PropertiesComponent;
 import com.intellij.notification.Notification;
 import com.intellij.notification.NotificationGroup;
 import com.intellij.notification.NotificationGroupManager;
@@ -44,19 +51,18 @@ import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.Task;
-import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectUtil;
 import com.intellij.openapi.roots.LibraryOrderEntry;
 import com.intellij.openapi.roots.ModuleRootManager;
 import com.intellij.openapi.roots.OrderEntry;
 import com.intellij.openapi.roots.libraries.Library;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.util.messages.Topic;
 import org.apache.camel.catalog.CamelCatalog;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import static org.apache.camel.catalog.impl.CatalogHelper.loadText;
-
 /**
  * Service access for Camel libraries
  */
@@ -68,8 +74,17 @@ public class CamelService implements Disposable {
 
     private static final int MIN_MAJOR_VERSION = 3;
     private static final int MIN_MINOR_VERSION = 1;
+    /**
+     * The key under which the result of the last scan of the project is persisted.
+     */
+    private static final String CAMEL_DETECTED_KEY = "com.github.cameltooling.idea.camelDetected";
 
     private final AtomicBoolean downloadInProgress = new AtomicBoolean();
+    /**
+     * The flag indicating whether the auto-detected version of the catalog should be checked again once the download
+     * in progress is over.
+     */
+    private final AtomicBoolean reloadRequested = new AtomicBoolean();
     private List<Library> camelCoreLibraries = new ArrayList<>();
     private Library slf4jApiLibrary;
     private URLClassLoader camelCoreClassloader;
@@ -85,6 +100,10 @@ public class CamelService implements Disposable {
      */
     private URLClassLoader projectCompleteClassloader;
     private volatile boolean camelPresent;
+    /**
+     * The result of the last complete scan of the project, restored from the workspace on startup.
+     */
+    private volatile boolean camelDetected;
     private volatile Notification camelVersionNotification;
     private volatile Notification camelMissingJSonSchemaNotification;
     private volatile Notification camelMissingLanguageJarNotification;
@@ -100,6 +119,7 @@ public class CamelService implements Disposable {
      */
     public CamelService(Project project) {
         this.project = project;
+        this.camelDetected = PropertiesComponent.getInstance(project).getBoolean(CAMEL_DETECTED_KEY);
         project.getMessageBus()
             .connect(this)
             .subscribe(CamelProjectPreferenceService.CamelVersionChangeListener.TOPIC, new VersionChangeListener());
@@ -159,14 +179,15 @@ public class CamelService implements Disposable {
     }
 
     /**
+     * Indicates whether the current project is a Camel project. The result is also available while the project is
+     * being indexed or scanned, in which case the result of the last scan is used, so the features that only
+     * depend on the catalog keep working. The features that depend on the indexes need to check the dumb mode.
+     *
      * @return true if the current project is a Camel project, {@code false} otherwise.
      */
     public boolean isCamelProject() {
-        if (DumbService.isDumb(project)) { //let's not do anything in dumb mode
-            return false;
-        }
         final Boolean isCamelProject = CamelProjectPreferenceService.getService(project).isCamelProject();
-        return isCamelProject == null ? isCamelPresent() : isCamelProject;
+        return isCamelProject == null ? isCamelPresent() || camelDetected : isCamelProject;
     }
 
     /**
@@ -181,6 +202,7 @@ public class CamelService implements Disposable {
      */
     public void setCamelPresent(boolean camelPresent) {
         this.camelPresent = camelPresent;
+        this.camelDetected = camelPresent;
     }
 
     /**
@@ -381,7 +403,10 @@ public class CamelService implements Disposable {
         for (Module module : modules) {
             scanForCamelProject(module);
         }
-        return isCamelPresent();
+        final boolean present = isCamelPresent();
+        camelDetected = present;
+        PropertiesComponent.getInstance(project).setValue(CAMEL_DETECTED_KEY, present);
+        return present;
     }
 
     /**
@@ -415,6 +440,61 @@ public class CamelService implements Disposable {
         }
     }
 
+    /**
+     * Starts loading the Camel catalog corresponding to the version of Camel found directly in the build files of the
+     * project, without waiting for the project to be imported, so that the right catalog is already loaded when the
+     * libraries of the project are known. Nothing is done if the version of the catalog is set in the preferences.
+     */
+    public void preloadCamelCatalog() {
+        if (CamelProjectPreferenceService.getService(project).getCamelVersion() != null
+            || !CamelPreferenceService.getService().isDownloadCatalog()) {
+            return;
+        }
+        final String version = detectCamelVersionFromBuildFiles();
+        if (version == null) {
+            LOG.debug("No Camel version could be detected from the build files");
+            return;
+        }
+        final CamelCatalogService camelCatalogService = getCamelCatalogService();
+        String currentVersion = camelCatalogService.get().getLoadedVersion();
+        if (currentVersion == null) {
+            currentVersion = camelCatalogService.get().getCatalogVersion();
+        }
+        if (isThereDifferentVersionToBeLoaded(version, currentVersion) && downloadInProgress.compareAndSet(false, true)) {
+            LOG.debug("Preloading the Camel catalog version " + version + " detected from the build files");
+            loadCamelCatalogInBackground(version);
+        }
+    }
+
+    /**
+     * @return {@code true} if a version of the Camel catalog is being downloaded or is about to be, {@code false}
+     * otherwise.
+     */
+    public boolean isCamelCatalogLoading() {
+        return downloadInProgress.get() || reloadRequested.get();
+    }
+
+    /**
+     * @return the version of Camel found in the Maven, Gradle or Camel JBang files of the project, {@code null} if
+     * none could be found.
+     */
+    @Nullable
+    private String detectCamelVersionFromBuildFiles() {
+        final VirtualFile projectDir = ProjectUtil.guessProjectDir(project);
+        if (projectDir == null) {
+            return null;
+        }
+        final VirtualFile pom = projectDir.findChild("pom.xml");
+        if (pom != null) {
+            return MavenUtil.detectCamelVersion(pom);
+        }
+        final String version = GradleUtil.detectCamelVersion(projectDir);
+        if (version != null) {
+            return version;
+        }
+        return project.getService(CamelJBangService.class).getCamelJBangVersion();
+    }
+
     /**
      * Loads the Camel catalog version corresponding to the project settings.
      */
@@ -442,6 +522,9 @@ public class CamelService implements Disposable {
             if (downloadInProgress.compareAndSet(false, true)) {
                 // execute this work in a background thread
                 loadCamelCatalogInBackground(version);
+            } else {
+                // A catalog possibly preloaded with another version is being downloaded, check again once done
+                reloadRequested.set(true);
             }
         } else {
             // The catalog is ready to be used
@@ -483,6 +566,9 @@ public class CamelService implements Disposable {
                 }
                 indicator.setFraction(1.0);
                 downloadInProgress.set(false);
+                if (reloadRequested.getAndSet(false)) {
+                    loadCamelCatalog();
+                }
             }
         }.setCancelText("Stop Downloading the Camel catalog for the " + provider.getName() + " Runtime").queue();
     }
@@ -558,6 +644,7 @@ public class CamelService implements Disposable {
     private List<String> scanForCamelDependencies(@NotNull Module module, @NotNull CamelCatalog camelCatalog) {
         final boolean thirdParty = CamelPreferenceService.getService().isScanThirdPartyComponents();
         final List<String> missingJSonSchemas = new ArrayList<>();
+        final Map<String, Library> thirdPartyLibraries = new LinkedHashMap<>();
         for (OrderEntry entry : ModuleRootManager.getInstance(module).getOrderEntries()) {
             if (entry instanceof LibraryOrderEntry libraryOrderEntry) {
 
@@ -577,11 +664,14 @@ public class CamelService implements Disposable {
                     if ("org.apache.camel".equals(coordinates.getGroupId())) {
                         addLibrary(artifactId);
                     } else if (thirdParty) {
-                        addCustomCamelComponentsFromDependency(camelCatalog, library, artifactId, missingJSonSchemas);
+                        thirdPartyLibraries.putIfAbsent(artifactId, library);
                     }
                 }
             }
         }
+        if (!thirdPartyLibraries.isEmpty()) {
+            addCustomCamelComponentsFromDependencies(camelCatalog, thirdPartyLibraries, missingJSonSchemas);
+        }
         return missingJSonSchemas;
     }
 
@@ -603,50 +693,40 @@ public class CamelService implements Disposable {
     }
 
     /**
-     * Adds any discovered third party Camel components from the dependency.
+     * Adds any discovered third party Camel components from the dependencies. The metadata of the components are read
+     * from all the dependencies at once.
      *
      * @param camelCatalog the Camel catalog to add the found custom components
-     * @param library      the dependency
-     * @param artifactId   the artifact id of the dependency
-     */
-    private void addCustomCamelComponentsFromDependency(CamelCatalog camelCatalog, Library library, String artifactId,
-                                                        List<String> missingJSonSchemas) {
-        boolean added = false;
-
-        try (URLClassLoader classLoader = IdeaUtils.getService().newURLClassLoaderForLibrary(library)) {
-            if (classLoader != null) {
-                // is there any custom Camel components in this library?
-                Properties properties = loadComponentProperties(classLoader);
-                String components = (String) properties.get("components");
-                if (components != null) {
-                    String[] part = components.split("\\s");
-                    for (String scheme : part) {
-                        if (!camelCatalog.findComponentNames().contains(scheme)) {
-                            // mark as added to avoid re-scanning the same component again
-                            added = true;
-                            // find the class name
-                            String javaType = extractComponentJavaType(classLoader, scheme);
-                            if (javaType != null) {
-                                String json = loadComponentJSonSchema(classLoader, scheme);
-                                if (json != null) {
-                                    // okay a new Camel component was added
-                                    camelCatalog.addComponent(scheme, javaType, json);
-                                } else {
-                                    // the component has no json schema, and hence its not supported by the plugin
-                                    missingJSonSchemas.add(artifactId);
-                                }
-                            }
+     * @param libraries    the dependencies indexed by artifact id
+     */
+    private void addCustomCamelComponentsFromDependencies(CamelCatalog camelCatalog, Map<String, Library> libraries,
+                                                          List<String> missingJSonSchemas) {
+        final Map<File, String> artifactIds = new LinkedHashMap<>();
+        libraries.forEach(
+            (artifactId, library) -> JarMetadataReader.getRoots(library).forEach(root -> artifactIds.putIfAbsent(root, artifactId))
+        );
+        final Map<File, List<ComponentMetadata>> components = JarMetadataReader.getService()
+            .process(artifactIds.keySet(), CamelService::readComponents);
+        final Set<String> added = new LinkedHashSet<>();
+        components.forEach((root, metadata) -> {
+            String artifactId = artifactIds.get(root);
+            for (ComponentMetadata component : metadata) {
+                if (!camelCatalog.findComponentNames().contains(component.scheme())) {
+                    // mark as added to avoid re-scanning the same component again
+                    added.add(artifactId);
+                    if (component.javaType() != null) {
+                        if (component.json() != null) {
+                            // okay a new Camel component was added
+                            camelCatalog.addComponent(component.scheme(), component.javaType(), component.json());
+                        } else {
+                            // the component has no json schema, and hence its not supported by the plugin
+                            missingJSonSchemas.add(artifactId);
                         }
                     }
                 }
             }
-        } catch (IOException e) {
-            LOG.warn("Error scanning for custom Camel components", e);
-        }
-
-        if (added) {
-            addLibrary(artifactId);
-        }
+        });
+        added.forEach(this::addLibrary);
     }
 
     /**
@@ -690,56 +770,54 @@ public class CamelService implements Disposable {
         return minor >= MIN_MINOR_VERSION;
     }
 
-    private static Properties loadComponentProperties(URLClassLoader classLoader) {
-        Properties answer = new Properties();
-        try (InputStream is = classLoader.getResourceAsStream("META-INF/services/org/apache/camel/component.properties")) {
-            // load the component files using the recommended way by a component.properties file
-            if (is != null) {
-                answer.load(is);
+    /**
+     * Reads the metadata of the Camel components that can be found in the given entries.
+     *
+     * @param entries the entries of a dependency.
+     * @return the metadata of the Camel components found, {@code null} if there is none.
+     * @throws IOException if the metadata could not be read.
+     */
+    @Nullable
+    private static List<ComponentMetadata> readComponents(JarMetadataReader.Entries entries) throws IOException {
+        // load the component files using the recommended way by a component.properties file
+        Properties properties = loadProperties(entries, "META-INF/services/org/apache/camel/component.properties");
+        String components = properties == null ? null : properties.getProperty("components");
+        if (components == null) {
+            return null;
+        }
+        List<ComponentMetadata> result = new ArrayList<>();
+        for (String scheme : components.split("\\s")) {
+            Properties component = loadProperties(entries, "META-INF/services/org/apache/camel/component/" + scheme);
+            String javaType = component == null ? null : component.getProperty("class");
+            String json = null;
+            if (javaType != null) {
+                int pos = javaType.lastIndexOf(".");
+                json = entries.read(javaType.substring(0, pos).replace('.', '/') + "/" + scheme + ".json");
             }
-        } catch (IOException e) {
-            LOG.warn("Error loading META-INF/services/org/apache/camel/component.properties file", e);
+            result.add(new ComponentMetadata(scheme, javaType, json));
         }
-        return answer;
+        return result;
     }
 
-    private static String loadComponentJSonSchema(URLClassLoader classLoader, String scheme) {
-        String answer = null;
-
-        String path = null;
-        String javaType = extractComponentJavaType(classLoader, scheme);
-        if (javaType != null) {
-            int pos = javaType.lastIndexOf(".");
-            path = javaType.substring(0, pos);
-            path = path.replace('.', '/');
-            path = path + "/" + scheme + ".json";
-        }
-
-        if (path != null) {
-            try (InputStream is = classLoader.getResourceAsStream(path)) {
-                if (is != null) {
-                    answer = loadText(is);
-                }
-            } catch (IOException e) {
-                LOG.warn("Error loading " + path + " file", e);
-            }
+    @Nullable
+    private static Properties loadProperties(JarMetadataReader.Entries entries, String name) throws IOException {
+        String content = entries.read(name);
+        if (content == null) {
+            return null;
         }
-
-        return answer;
+        Properties properties = new Properties();
+        properties.load(new StringReader(content));
+        return properties;
     }
 
-    private static String extractComponentJavaType(URLClassLoader classLoader, String scheme) {
-        try (InputStream is = classLoader.getResourceAsStream("META-INF/services/org/apache/camel/component/" + scheme)) {
-            if (is != null) {
-                Properties props = new Properties();
-                props.load(is);
-                return (String) props.get("class");
-            }
-        } catch (IOException e) {
-            LOG.warn("Error loading META-INF/services/org/apache/camel/component/" + scheme + " file", e);
-        }
-
-        return null;
+    /**
+     * The metadata of a third party Camel component.
+     *
+     * @param scheme   the scheme of the component.
+     * @param javaType the fully qualified name of the component class, {@code null} if unknown.
+     * @param json     the json schema of the component, {@code null} if absent.
+     */
+    private record ComponentMetadata(String scheme, @Nullable String javaType, @Nullable String json) {
     }
 
     private CamelCatalogService getCamelCatalogService() {
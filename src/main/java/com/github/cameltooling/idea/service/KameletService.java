@@ -17,16 +17,19 @@
 package com.github.cameltooling.idea.service;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,17 +42,15 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.github.cameltooling.idea.util.JarMetadataReader;
 import com.intellij.ide.plugins.PluginManagerCore;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.extensions.PluginId;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.OrderEnumerator;
-import com.intellij.openapi.vfs.JarFileSystem;
-import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.vfs.VirtualFileManager;
-import com.intellij.openapi.vfs.VirtualFileVisitor;
 import com.intellij.openapi.vfs.newvfs.BulkFileListener;
 import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
 import com.intellij.ui.scale.ScaleContext;
@@ -270,39 +271,64 @@ public class KameletService implements Disposable {
 
         // Get all library and dependency files
         OrderEnumerator orderEnumerator = OrderEnumerator.orderEntries(project);
-        List<VirtualFile> classRoots = Stream.concat(
-                Arrays.stream(orderEnumerator.getSourceRoots()),
-                Arrays.stream(orderEnumerator.getClassesRoots())
-        ).collect(Collectors.toList());
+        List<File> roots = new ArrayList<>(
+            JarMetadataReader.getRoots(
+                Stream.concat(Arrays.stream(orderEnumerator.getSourceRoots()), Arrays.stream(orderEnumerator.getClassesRoots()))
+                    .toArray(VirtualFile[]::new)
+            )
+        );
 
         final CamelService service = project.getService(CamelService.class);
         // The project does not have a specific version of the Kamelets catalog, let's load the one embedded into the plugin
         if (!service.containsLibrary("camel-kamelets", false)) {
-            findEmbeddedKameletsJar().ifPresent(classRoots::add);
+            findEmbeddedKameletsJar().ifPresent(roots::add);
         }
 
-        for (VirtualFile classRoot : classRoots) {
-            VirtualFile kameletsDir = classRoot.findChild(KAMELETS_DIR);
-            if (kameletsDir != null && kameletsDir.isDirectory()) {
-                VfsUtil.visitChildrenRecursively(kameletsDir, new VirtualFileVisitor<>() {
-                    @Override
-                    public boolean visitFile(@NotNull VirtualFile file) {
-                        if (file.getName().endsWith(KAMELETS_FILE_SUFFIX)) {
-                            try {
-                                loadKameletFromVirtualFile(file, result, icons);
-                            } catch (IOException e) {
-                                LOG.warn("Cannot load Kamelet from " + file.getPath(), e);
-                            }
-                        }
-                        return true;
-                    }
-                });
+        // Parse the definitions of all the roots in parallel
+        Map<File, Map<String, JsonNode>> sources = JarMetadataReader.getService().process(roots, KameletService::readKamelets);
+        sources.forEach((root, definitions) -> definitions.forEach((path, source) -> {
+            final String name = sanitizeFileName(path.substring(path.lastIndexOf('/') + 1));
+            final String resourcePath = root.getPath() + "!/" + path;
+            LOG.debug(String.format("Loading kamelet from: %s, name: %s", resourcePath, name));
+            try {
+                final Kamelet kamelet = toKamelet(icons, resourcePath, source);
+                if (kamelet != null) {
+                    result.put(name, kamelet);
+                }
+            } catch (IOException e) {
+                LOG.warn("Cannot load Kamelet from " + resourcePath, e);
             }
-        }
+        }));
         return Collections.unmodifiableMap(result);
     }
 
-    private Optional<VirtualFile> findEmbeddedKameletsJar() {
+    /**
+     * Reads the definitions of the Kamelets that can be found in the {@code KAMELETS_DIR} of the given entries.
+     *
+     * @param entries the entries of a jar file or a directory.
+     * @return the definitions of the Kamelets indexed by path, {@code null} if there is none.
+     */
+    @Nullable
+    private static Map<String, JsonNode> readKamelets(JarMetadataReader.Entries entries) throws IOException {
+        List<String> paths = entries.list(KAMELETS_DIR + "/", KAMELETS_FILE_SUFFIX);
+        if (paths.isEmpty()) {
+            return null;
+        }
+        Map<String, JsonNode> result = new LinkedHashMap<>();
+        for (String path : paths) {
+            String content = entries.read(path);
+            if (content != null) {
+                try {
+                    result.put(path, MAPPER.readTree(content));
+                } catch (IOException e) {
+                    LOG.warn("Cannot load Kamelet from " + path, e);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Optional<File> findEmbeddedKameletsJar() {
         return Optional.ofNullable(PluginManagerCore.getPlugin(PluginId.getId(PLUGIN_ID)))
                 .flatMap(pd -> {
                     try (var stream = Files.list(pd.getPluginPath().resolve("lib"))) {
@@ -315,21 +341,7 @@ public class KameletService implements Disposable {
                     }
                 })
                 .filter(Files::exists)
-                .map(kameletsJar -> VfsUtil.findFile(kameletsJar, true))
-                .map(vf -> JarFileSystem.getInstance().getJarRootForLocalFile(vf));
-    }
-
-    private void loadKameletFromVirtualFile(VirtualFile file, Map<String, Kamelet> result, Map<String, Icon> icons) throws IOException {
-        try (InputStream is = file.getInputStream()) {
-            final String name = sanitizeFileName(file.getName());
-            final JsonNode source = MAPPER.readTree(is);
-            LOG.debug(String.format("Loading kamelet from VirtualFile: %s, name: %s", file.getPath(), name));
-
-            final Kamelet kamelet = toKamelet(icons, file.getPath(), source);
-            if (kamelet != null) {
-                result.put(name, kamelet);
-            }
-        }
+                .map(Path::toFile);
     }
 
     /**
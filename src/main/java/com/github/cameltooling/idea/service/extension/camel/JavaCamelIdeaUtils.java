@@ -16,6 +16,7 @@
  */
 package com.github.cameltooling.idea.service.extension.camel;
 
+import com.github.cameltooling.idea.extension.CamelFileInfo;
 import com.github.cameltooling.idea.extension.CamelIdeaUtilsExtension;
 import com.github.cameltooling.idea.util.IdeaUtils;
 import com.github.cameltooling.idea.util.JavaClassUtils;
@@ -28,15 +29,14 @@ import com.intellij.openapi.fileEditor.FileDocumentManager;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.patterns.ElementPattern;
 import com.intellij.patterns.PsiJavaPatterns;
 import com.intellij.psi.JavaPsiFacade;
-import com.intellij.psi.JavaResolveResult;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiAnnotationMemberValue;
-import com.intellij.psi.PsiCallExpression;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiDocumentManager;
 import com.intellij.psi.PsiElement;
@@ -69,14 +69,17 @@ import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.util.PsiUtil;
 import com.intellij.testFramework.LightVirtualFile;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -102,29 +105,29 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
     /**
      * Name of the methods indicating that the next method call needs to be indented one more time.
      */
-    private static final Set<String> ADD_INDENT = Set.of("choice", "doTry", "pipeline", "multicast", "split",
+    static final Set<String> ADD_INDENT = Set.of("choice", "doTry", "pipeline", "multicast", "split",
         "circuitBreaker", "intercept", "interceptFrom", "interceptSendToEndpoint", "aggregate", "loadBalance", "loop",
         "kamelet", "step", "transacted", "saga", "route", "resequence", "policy", "onException", "onCompletion",
         "from", "rest", "restConfiguration", "routeTemplate");
     /**
      * Name of the methods corresponding to the root element of sub DSL.
      */
-    private static final Set<String> SUB_DSL_ROOTS = Set.of("expression", "dataFormat");
+    static final Set<String> SUB_DSL_ROOTS = Set.of("expression", "dataFormat");
     /**
      * Name of the methods indicating that the next method call needs to be indented the same way as before but the
      * method call itself must be indented one less time.
      */
-    private static final Set<String> NEW_BLOCK = Set.of("otherwise", "doCatch", "doFinally", "onFallback");
+    static final Set<String> NEW_BLOCK = Set.of("otherwise", "doCatch", "doFinally", "onFallback");
     /**
      * Name of the methods indicating that the expected behavior is either {@link #ADD_INDENT} or {@link #NEW_BLOCK}
      * according to last method name. If it is the same name as the last name, {@link #NEW_BLOCK} is expected, {@link #ADD_INDENT}
      * otherwise.
      */
-    private static final Set<String> ADD_INDENT_OR_NEW_BLOCK = Set.of("when");
+    static final Set<String> ADD_INDENT_OR_NEW_BLOCK = Set.of("when");
     /**
      * Name of the methods indicating that the next method call needs to be indented one less time.
      */
-    private static final Set<String> REMOVE_INDENT = Set.of("endChoice", "end", "endParent", "endDoTry", "endDoCatch",
+    static final Set<String> REMOVE_INDENT = Set.of("endChoice", "end", "endParent", "endDoTry", "endDoCatch",
         "endCircuitBreaker");
     private static final List<String> JAVA_ROUTE_BUILDERS = Arrays.asList(
         "org.apache.camel.builder.RouteBuilder",
@@ -152,23 +155,51 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
         "jakarta.enterprise.context.ConversationScoped",
         "jakarta.enterprise.context.RequestScoped"
     );
+    /**
+     * The names of the methods starting a route or a route configuration.
+     */
+    private static final Set<String> ROUTE_STARTS = Set.of("from", "fromF", "routeConfiguration");
     private static final String ANNOTATION_CAMEL_CONSUME = "org.apache.camel.Consume";
     private static final String ANNOTATION_CAMEL_PRODUCE = "org.apache.camel.Produce";
 
     @Override
     public boolean isCamelFile(PsiFile file) {
+        return getCamelFileInfo(file) != null;
+    }
+
+    @Override
+    public CamelFileInfo.Dsl getDsl() {
+        return CamelFileInfo.Dsl.JAVA;
+    }
+
+    @Override
+    public CamelFileInfo getCamelFileInfo(PsiFile file) {
         if (file != null && JavaFileType.INSTANCE.equals(file.getFileType())
             && file instanceof PsiJavaFile javaFile) {
-            final PsiClass[] classes = javaFile.getClasses();
-            for (PsiClass nextClass : classes) {
-                for (String nextBaseName : JAVA_ROUTE_BUILDERS) {
-                    if (InheritanceUtil.isInheritor(nextClass, nextBaseName)) {
-                        return true;
-                    }
+            final List<String> routeBuilderClasses = new ArrayList<>();
+            int routeCount = 0;
+            for (PsiClass nextClass : javaFile.getClasses()) {
+                if (isRouteBuilder(nextClass)) {
+                    routeBuilderClasses.add(nextClass.getQualifiedName());
+                    routeCount += (int) PsiTreeUtil.findChildrenOfType(nextClass, PsiMethodCallExpression.class).stream()
+                        .filter(call -> ROUTE_STARTS.contains(call.getMethodExpression().getReferenceName()))
+                        .count();
                 }
             }
+            if (!routeBuilderClasses.isEmpty()) {
+                return new CamelFileInfo(CamelFileInfo.Dsl.JAVA, List.copyOf(routeBuilderClasses), routeCount);
+            }
         }
 
+        return null;
+    }
+
+    private static boolean isRouteBuilder(PsiClass psiClass) {
+        for (String nextBaseName : JAVA_ROUTE_BUILDERS) {
+            if (InheritanceUtil.isInheritor(psiClass, nextBaseName)) {
+                return true;
+            }
+        }
         return false;
     }
 
@@ -187,6 +218,12 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
 
     @Override
     public boolean isCamelRouteStartExpression(PsiElement element) {
+        PsiMethodCallExpression call = PsiTreeUtil.getParentOfType(element, PsiMethodCallExpression.class);
+        JavaRouteModel.Call routeCall = call == null ? null : JavaRouteModel.getCall(call);
+        if (routeCall != null) {
+            return routeCall.hasRole(JavaRouteModel.Role.CONSUMER) || routeCall.isInsideRouteStart()
+                || isInsideConsumeAnnotation(element);
+        }
         PsiElement routeStartParent = IdeaUtils.getService().findFirstParent(element, false,
             this::isCamelRouteStart, PsiFile.class::isInstance);
         return routeStartParent != null;
@@ -198,6 +235,11 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
         if (call == null) {
             return false;
         }
+        JavaRouteModel.Call routeCall = JavaRouteModel.getCall(call);
+        if (routeCall != null) {
+            return !excludeRouteStart && routeCall.hasRole(JavaRouteModel.Role.CONSUMER)
+                || routeCall.hasRole(JavaRouteModel.Role.GLOBAL_CLAUSE) || routeCall.isContainingRouteStart();
+        }
         final IdeaUtils ideaUtils = IdeaUtils.getService();
         if ((!excludeRouteStart && ideaUtils.isFromJavaMethod(call, true, CONSUMER_ENDPOINT))
                 || ideaUtils.isFromJavaMethod(call, true, GLOBAL_CLAUSE)) {
@@ -245,6 +287,10 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
     }
 
     private boolean isDeepestMethodCall(PsiMethodCallExpression methodCall) {
+        JavaRouteModel.Call routeCall = JavaRouteModel.getCall(methodCall);
+        if (routeCall != null) {
+            return routeCall.isDeepest();
+        }
         return PsiTreeUtil.findChildrenOfType(methodCall, PsiMethodCallExpression.class).isEmpty();
     }
 
@@ -317,13 +363,33 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
 
     @Override
     public boolean isConsumerEndpoint(PsiElement element) {
-        if (IdeaUtils.getService().isFromJavaMethodCall(element, true, CONSUMER_ENDPOINT)) {
+        if (isFromRouteBuilderMethodCall(element, JavaRouteModel.Role.CONSUMER, CONSUMER_ENDPOINT)) {
             return true;
         }
         // annotation
         return isInsideConsumeAnnotation(element);
     }
 
+    /**
+     * Is the given element from a method call of the route builder with the given role?
+     *
+     * @param element the element to check
+     * @param role    the expected role of the method call
+     * @param methods the names of the methods corresponding to the role
+     * @return {@code true} if the method call has the role, {@code false} otherwise.
+     */
+    private static boolean isFromRouteBuilderMethodCall(PsiElement element, JavaRouteModel.Role role, String... methods) {
+        PsiMethodCallExpression call = PsiTreeUtil.getParentOfType(element, PsiMethodCallExpression.class);
+        if (call == null) {
+            return false;
+        }
+        JavaRouteModel.Call routeCall = JavaRouteModel.getCall(call);
+        if (routeCall == null) {
+            return IdeaUtils.getService().isFromJavaMethod(call, true, methods);
+        }
+        return routeCall.hasRole(role);
+    }
+
     private boolean isInsideConsumeAnnotation(PsiElement element) {
         PsiAnnotation annotation = PsiTreeUtil.getParentOfType(element, PsiAnnotation.class);
         if (annotation != null && annotation.getQualifiedName() != null) {
@@ -334,7 +400,7 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
 
     @Override
     public boolean isProducerEndpoint(PsiElement element) {
-        if (IdeaUtils.getService().isFromJavaMethodCall(element, true, PRODUCER_ENDPOINT)) {
+        if (isFromRouteBuilderMethodCall(element, JavaRouteModel.Role.PRODUCER, PRODUCER_ENDPOINT)) {
             return true;
         }
         // annotation
@@ -556,19 +622,6 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
         return result;
     }
 
-    private Stream<PsiElement> findCamelRouteStarts(PsiFile file) {
-        return findEndpoints(file.getProject(), GlobalSearchScope.FilesScope.fileScope(file), expression -> {
-            if (expression instanceof PsiLiteralExpression literalExpression) {
-                return isCamelRouteStart(literalExpression);
-            } else if (expression instanceof PsiMethodCallExpression methodCallExpression) {
-                return isCamelRouteStartExpression(methodCallExpression)
-                        && !List.of("kamelet", "templateParameter").contains(methodCallExpression.getMethodExpression().getReferenceName());
-            } else {
-                return false;
-            }
-        });
-    }
-
     private String getStaticBeanName(PsiJavaCodeReferenceElement referenceElement, String beanName) {
         final PsiType type = ((PsiReferenceExpression) referenceElement).getType();
         if (type != null && JAVA_LANG_STRING.equals(type.getCanonicalText())) {
@@ -602,9 +655,13 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
             // a formatter affect only PSI, and it is out of sync with a document text
             return;
         }
-
+        // The routes are formatted from the resolved calls first, only the resulting change needs the write access
+        final Consumer<Document> change = formatText(file, document, startOffset, endOffset, settings);
+        if (change == null) {
+            return;
+        }
         try {
-            ApplicationManager.getApplication().runWriteAction(() -> formatText(file, document, startOffset, endOffset, settings));
+            ApplicationManager.getApplication().runWriteAction(() -> change.accept(document));
         } finally {
             PsiDocumentManager documentManager = PsiDocumentManager.getInstance(file.getProject());
             if (documentManager.isUncommited(document)) {
@@ -621,50 +678,120 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
      * @param startOffset the start offset of the text format
      * @param endOffset   the end offset of the text format
      * @param settings    the settings to apply when formatting the text.
+     * @return the change to apply to the document to format the routes, {@code null} if there is nothing to format.
      */
-    private void formatText(PsiFile file, Document document, int startOffset, int endOffset,
-                            CodeStyleSettings settings) {
+    @Nullable
+    private Consumer<Document> formatText(PsiFile file, Document document, int startOffset, int endOffset,
+                                          CodeStyleSettings settings) {
         Module module = ModuleUtilCore.findModuleForPsiElement(file.getOriginalElement());
         if (module == null) {
-            return;
+            return null;
+        }
+        List<PsiExpressionStatement> routes = findRoutesToFormat(file, startOffset, endOffset);
+        if (routes.isEmpty()) {
+            return null;
         }
-        List<PsiElement> endpointDeclarations = findCamelRouteStarts(file)
-            .sorted(Comparator.comparingInt(PsiElement::getTextOffset))
-            .toList();
-        Deque<Consumer<Document>> changes = new ArrayDeque<>();
         boolean useTabCharacter = settings.useTabCharacter(JavaFileType.INSTANCE);
         int indentSize = settings.getIndentSize(JavaFileType.INSTANCE);
-        for (PsiElement endpoint : endpointDeclarations) {
-            int textOffset = endpoint.getTextOffset();
-            if (startOffset <= textOffset && textOffset < endOffset) {
-                PsiExpressionStatement parent = PsiTreeUtil.getParentOfType(endpoint, PsiExpressionStatement.class);
-                if (parent == null) {
-                    LOG.debug("The parent PsiExpressionStatement of the element '%s' cannot be found".formatted(endpoint.getText()));
-                    continue;
-                }
+        CharSequence charsSequence = document.getCharsSequence();
+        // One replacement per route, the text between the routes is left untouched
+        List<Pair<TextRange, CharSequence>> replacements = new ArrayList<>(routes.size());
+        for (PsiExpressionStatement route : routes) {
+            TextRange textRange = route.getTextRange();
+            int textRangeStartOffset = textRange.getStartOffset();
+            int textRangeEndOffset = textRange.getEndOffset();
+            CharSequence contentToFormat = charsSequence.subSequence(textRangeStartOffset, textRangeEndOffset);
+            CharSequence linePrefix = charsSequence.subSequence(document.getLineStartOffset(document.getLineNumber(textRangeStartOffset)), textRangeStartOffset);
+            replacements.add(Pair.create(textRange, formatText(getCallsByOffset(route), textRangeStartOffset, endOffset, contentToFormat, linePrefix, useTabCharacter, indentSize)));
+        }
+        return doc -> {
+            // The routes are replaced from the last one so that the offsets of the previous ones remain valid
+            for (int i = replacements.size() - 1; i >= 0; i--) {
+                Pair<TextRange, CharSequence> replacement = replacements.get(i);
+                doc.replaceString(replacement.first.getStartOffset(), replacement.first.getEndOffset(), replacement.second);
+            }
+        };
+    }
 
-                TextRange textRange = parent.getTextRange();
-                CharSequence charsSequence = document.getCharsSequence();
-                int textRangeStartOffset = textRange.getStartOffset();
-                int textRangeEndOffset = textRange.getEndOffset();
-                CharSequence contentToFormat = charsSequence.subSequence(textRangeStartOffset, textRangeEndOffset);
-                CharSequence linePrefix = charsSequence.subSequence(document.getLineStartOffset(document.getLineNumber(textOffset)), textRangeStartOffset);
-                CharSequence result = formatText(file, textRangeStartOffset, endOffset, contentToFormat, linePrefix, useTabCharacter, indentSize);
-                // Ensure to apply the last changes first to avoid having to deal with offset change
-                changes.addFirst(doc -> doc.replaceString(textRangeStartOffset, textRangeEndOffset, result));
+    /**
+     * Finds the statements defining a route whose start is located between the given indexes.
+     *
+     * @param file        the file in which the routes are defined.
+     * @param startOffset the start offset of the text format
+     * @param endOffset   the end offset of the text format
+     * @return the statements defining the routes to format, sorted by position and without overlap.
+     */
+    private static List<PsiExpressionStatement> findRoutesToFormat(PsiFile file, int startOffset, int endOffset) {
+        TextRange range = new TextRange(startOffset, endOffset);
+        List<PsiExpressionStatement> result = new ArrayList<>();
+        int lastEndOffset = -1;
+        // The statements are collected in pre-order, so an enclosing statement is always processed first
+        for (PsiExpressionStatement statement : PsiTreeUtil.findChildrenOfType(file, PsiExpressionStatement.class)) {
+            TextRange textRange = statement.getTextRange();
+            if (textRange.getStartOffset() < lastEndOffset || !textRange.intersects(range)) {
+                continue;
+            }
+            JavaRouteModel model = JavaRouteModel.of(statement);
+            if (model != null && model.getCalls().stream().anyMatch(call -> hasRouteStartInRange(statement, call, range))) {
+                result.add(statement);
+                lastEndOffset = textRange.getEndOffset();
             }
         }
-        Consumer<Document> change = changes.poll();
-        while (change != null) {
-            change.accept(document);
-            change = changes.poll();
+        return result;
+    }
+
+    /**
+     * Indicates whether the given call of the given statement defines the start of a route within the given range.
+     * The start of a route is either a literal directly passed to a consumer method or a method call inside the
+     * consumer method like {@code from(timer("foo"))}.
+     *
+     * @param statement the statement in which the call is defined.
+     * @param call      the call to test.
+     * @param range     the range in which the start of the route is expected.
+     * @return {@code true} if the call defines the start of a route within the given range, {@code false} otherwise.
+     */
+    private static boolean hasRouteStartInRange(PsiExpressionStatement statement, JavaRouteModel.Call call, TextRange range) {
+        PsiMethodCallExpression expression = call.getExpression();
+        if (PsiTreeUtil.getParentOfType(expression, PsiExpressionStatement.class) != statement) {
+            // The call belongs to a nested statement
+            return false;
         }
+        if (call.isInsideRouteStart()) {
+            return !List.of("kamelet", "templateParameter").contains(expression.getMethodExpression().getReferenceName())
+                && range.contains(expression.getTextOffset());
+        } else if (call.hasRole(JavaRouteModel.Role.CONSUMER)) {
+            return PsiTreeUtil.findChildrenOfType(expression.getArgumentList(), PsiLiteralExpression.class).stream()
+                .anyMatch(literal -> PsiTreeUtil.getParentOfType(literal, PsiMethodCallExpression.class) == expression
+                    && range.contains(literal.getTextOffset()));
+        }
+        return false;
+    }
+
+    /**
+     * Gives the calls of the given statement indexed by the offset of the name of their method.
+     *
+     * @param statement the statement for which the calls are expected.
+     * @return the calls of the statement indexed by offset.
+     */
+    private static Map<Integer, JavaRouteModel.Call> getCallsByOffset(PsiExpressionStatement statement) {
+        JavaRouteModel model = JavaRouteModel.of(statement);
+        if (model == null) {
+            return Map.of();
+        }
+        Map<Integer, JavaRouteModel.Call> result = new HashMap<>();
+        for (JavaRouteModel.Call call : model.getCalls()) {
+            PsiElement name = call.getExpression().getMethodExpression().getReferenceNameElement();
+            if (name != null) {
+                result.put(name.getTextOffset(), call);
+            }
+        }
+        return result;
     }
 
     /**
      * Formats the given {@code CharSequence} corresponding to entire route written in Java DSL.
      *
-     * @param file            the file in which the route has been defined.
+     * @param calls           the calls of the route indexed by the offset of the name of their method.
      * @param startOffset     the start offset of the route definition.
      * @param endOffset       the limit of the offset beyond which the text can be formatted.
      * @param contentToFormat the content to format.
@@ -673,8 +800,8 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
      * @param indentSize      the size of an ident in spaces.
      * @return the content of the route formatted according to the Java DSL.
      */
-    private CharSequence formatText(PsiFile file, int startOffset, int endOffset, CharSequence contentToFormat,
-                                    CharSequence linePrefix, boolean useTabCharacter, int indentSize) {
+    private CharSequence formatText(Map<Integer, JavaRouteModel.Call> calls, int startOffset, int endOffset,
+                                    CharSequence contentToFormat, CharSequence linePrefix, boolean useTabCharacter, int indentSize) {
         StringBuilder result = new StringBuilder(contentToFormat.length());
         Matcher matcher = METHOD_CALL_PATTERN.matcher(contentToFormat);
         int indent = 0;
@@ -691,7 +818,7 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
             if (endOffset <= offset) {
                 // The limit is reached, no need to format beyond
                 break;
-            } else if (isMethodToFormat(file, offset)) {
+            } else if (isMethodToFormat(calls, offset)) {
                 int currentIndent = indent;
                 String lastMethodName = stack.peek();
                 if (!hasDot && SUB_DSL_ROOTS.contains(methodName)) {
@@ -733,7 +860,7 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
                         currentIndent--;
                     }
                 }
-                boolean isShortPredicate = isShortPredicate(file, offset, result);
+                boolean isShortPredicate = isShortPredicate(calls, offset, result);
                 if (currentIndent > 0 && !isShortPredicate) {
                     appendNewLine(result, linePrefix, useTabCharacter, indentSize, currentIndent);
                 }
@@ -744,7 +871,7 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
                 result.append('(');
                 lastIndex = matcher.end();
                 previousMethod = methodName;
-                lastProcessedMethodIsFormatted = !isShortPredicate && !isPredicateOfWhenClause(file, offset);
+                lastProcessedMethodIsFormatted = !isShortPredicate && !isPredicateOfWhenClause(calls, offset);
                 continue;
             }
             lastProcessedMethodIsFormatted = false;
@@ -778,89 +905,57 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
     }
 
     /**
-     * Indicates whether the {@code PsiElement} located at the given {@code offset} is part of the methods to format.
+     * Indicates whether the method located at the given {@code offset} is part of the methods to format.
      *
-     * @param file   the file in which the method is located.
+     * @param calls  the calls of the route indexed by the offset of the name of their method.
      * @param offset the offset of the method to check.
      * @return {@code true} if it is method to format, {@code false} otherwise.
      */
-    private static boolean isMethodToFormat(PsiFile file, int offset) {
-        return testMethod(file, offset, JavaCamelIdeaUtils::isMethodToFormat);
-    }
-
-    /**
-     * Indicates whether the {@code PsiElement} located at the given {@code offset} is a method that matches with the
-     * given predicate.
-     *
-     * @param file   the file in which the method is located.
-     * @param offset the offset of the method to check.
-     * @param predicate the predicate to evaluate
-     * @return {@code true} if it is method matches with the predicate, {@code false} otherwise.
-     */
-    private static boolean testMethod(PsiFile file, int offset, Predicate<? super PsiMethod> predicate) {
-        PsiElement element = file.findElementAt(offset);
-        if (element == null) {
-            LOG.debug("No element cannot be found at index %d".formatted(offset));
-        } else if (element instanceof PsiIdentifier) {
-            PsiCallExpression parent = PsiTreeUtil.getParentOfType(element, PsiCallExpression.class);
-            if (parent == null) {
-                LOG.debug("The parent PsiCallExpression of the element at index %d cannot be found".formatted(offset));
-            } else if (parent instanceof PsiMethodCallExpression methodCallExpression) {
-                JavaResolveResult[] results = methodCallExpression.getMethodExpression().multiResolve(false);
-                if (results.length == 0) {
-                    LOG.debug("The method corresponding to the element at index %d cannot be resolved".formatted(offset));
-                } else if (Arrays.stream(results).map(JavaResolveResult::getElement)
-                    .filter(PsiMethod.class::isInstance)
-                    .map(PsiMethod.class::cast)
-                    .anyMatch(predicate)) {
-                    return true;
-                } else {
-                    LOG.trace("The method doesn't match with the predicate");
-                }
-            } else {
-                LOG.debug("The parent PsiCallExpression of the element at index %d is not a method call".formatted(offset));
-            }
-        } else {
-            LOG.trace("The element at index %d is not a PsiIdentifier".formatted(offset));
+    private static boolean isMethodToFormat(Map<Integer, JavaRouteModel.Call> calls, int offset) {
+        JavaRouteModel.Call call = calls.get(offset);
+        if (call == null) {
+            LOG.trace("The element at index %d is not the name of a method call".formatted(offset));
+            return false;
         }
-        return false;
+        return call.isFormattable();
     }
 
     /**
-     * Indicates whether the {@code PsiElement} located at the given {@code offset} is a predicate that can be inlined.
+     * Indicates whether the method located at the given {@code offset} is a predicate that can be inlined.
      *
-     * @param file   the file in which the method is located.
+     * @param calls  the calls of the route indexed by the offset of the name of their method.
      * @param offset the offset of the method to check.
      * @param currentContent the current formatted content
      * @return {@code true} if it is a predicate that can be inlined, {@code false} otherwise.
      */
-    private static boolean isShortPredicate(PsiFile file, int offset, StringBuilder currentContent) {
-        return checkPredicate(file, offset, methodName -> currentContent.lastIndexOf(methodName) > currentContent.lastIndexOf("\n"));
+    private static boolean isShortPredicate(Map<Integer, JavaRouteModel.Call> calls, int offset, StringBuilder currentContent) {
+        return checkPredicate(calls, offset, methodName -> currentContent.lastIndexOf(methodName) > currentContent.lastIndexOf("\n"));
     }
 
     /**
-     * Indicates whether the {@code PsiElement} located at the given {@code offset} is a predicate of a where clause.
+     * Indicates whether the method located at the given {@code offset} is a predicate of a where clause.
      *
-     * @param file   the file in which the method is located.
+     * @param calls  the calls of the route indexed by the offset of the name of their method.
      * @param offset the offset of the method to check.
      * @return {@code true} if it is a predicate of a where clause, {@code false} otherwise.
      */
-    private static boolean isPredicateOfWhenClause(PsiFile file, int offset) {
-        return checkPredicate(file, offset, "when"::equals);
+    private static boolean isPredicateOfWhenClause(Map<Integer, JavaRouteModel.Call> calls, int offset) {
+        return checkPredicate(calls, offset, "when"::equals);
     }
 
     /**
-     * Indicates whether the {@code PsiElement} located at the given {@code offset} is a Camel predicate that matches with the
+     * Indicates whether the method located at the given {@code offset} is a Camel predicate that matches with the
      * given predicate.
      *
-     * @param file   the file in which the method is located.
+     * @param calls  the calls of the route indexed by the offset of the name of their method.
      * @param offset the offset of the method to check.
      * @param predicate the predicate to evaluate
      * @return {@code true} if it is method matches with the predicate, {@code false} otherwise.
      */
-    private static boolean checkPredicate(PsiFile file, int offset, Predicate<String> predicate) {
-        if (testMethod(file, offset, JavaCamelIdeaUtils::isPredicate)) {
-            PsiExpressionList parent = PsiTreeUtil.getParentOfType(file.findElementAt(offset), PsiExpressionList.class);
+    private static boolean checkPredicate(Map<Integer, JavaRouteModel.Call> calls, int offset, Predicate<String> predicate) {
+        JavaRouteModel.Call call = calls.get(offset);
+        if (call != null && call.hasRole(JavaRouteModel.Role.PREDICATE)) {
+            PsiExpressionList parent = PsiTreeUtil.getParentOfType(call.getExpression(), PsiExpressionList.class);
             if (parent == null) {
                 LOG.debug("The parent PsiExpressionList of the element at index %d cannot be found".formatted(offset));
             } else {
@@ -920,7 +1015,7 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
      * @param method the method to check
      * @return {@code true} if it is a method to format, {@code false} otherwise.
      */
-    private static boolean isMethodToFormat(PsiMethod method) {
+    static boolean isMethodToFormat(PsiMethod method) {
         String containingClass = getContainingClass(method);
         if (containingClass == null) {
             LOG.trace("The containing class of the method cannot be found");
@@ -947,7 +1042,7 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
      * @param method the method to check
      * @return {@code true} if the method is a predicate, {@code false} otherwise.
      */
-    private static boolean isPredicate(PsiMethod method) {
+    static boolean isPredicate(PsiMethod method) {
         return "org.apache.camel.Predicate".equals(getReturnType(method));
     }
 
@@ -972,7 +1067,7 @@ public class JavaCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
      * @param method the method for which the returned type is expected
      * @return the fully qualified name of the returned type if it could be found, {@code null} otherwise.
      */
-    private static String getReturnType(PsiMethod method) {
+    static String getReturnType(PsiMethod method) {
         PsiType psiType = method.getReturnType();
         if (psiType instanceof PsiClassReferenceType referenceType) {
             PsiClass returnType = referenceType.resolve();
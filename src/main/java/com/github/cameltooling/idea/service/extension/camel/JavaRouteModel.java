@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.service.extension.camel;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.cameltooling.idea.util.IdeaUtils;
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.JavaResolveResult;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiMethodCallExpression;
+import com.intellij.psi.PsiStatement;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@code JavaRouteModel} is the model of the method calls of a statement written with the Java DSL, the calls being
+ * resolved once and associated with their role in the route.
+ * <p/>
+ * The model is built once per statement, or per field initializer, and cached until the file, the Java structure of
+ * the project or its libraries change, to avoid walking and resolving the whole call chain of a route for each of
+ * its elements.
+ */
+final class JavaRouteModel {
+
+    private static final Key<CachedValue<JavaRouteModel>> JAVA_ROUTE_MODEL = Key.create("CAMEL_JAVA_ROUTE_MODEL");
+    /**
+     * The qualified names of the types returned by the methods providing an expression.
+     */
+    private static final Set<String> EXPRESSION_TYPES = Set.of(
+        "org.apache.camel.Expression", "org.apache.camel.builder.ValueBuilder"
+    );
+
+    /**
+     * The calls of the statement indexed by expression.
+     */
+    private final Map<PsiMethodCallExpression, Call> calls;
+    /**
+     * The calls of the statement sorted by position of the method name.
+     */
+    private final List<Call> sortedCalls;
+
+    private JavaRouteModel(@NotNull PsiElement anchor) {
+        final Map<PsiMethodCallExpression, Call> result = new HashMap<>();
+        // The calls are collected in pre-order, so the enclosing calls are always processed first
+        final Collection<PsiMethodCallExpression> expressions = PsiTreeUtil.findChildrenOfType(
+            anchor, PsiMethodCallExpression.class
+        );
+        for (PsiMethodCallExpression expression : expressions) {
+            final Call parent = result.get(PsiTreeUtil.getParentOfType(expression, PsiMethodCallExpression.class));
+            final Call call = new Call(expression, parent);
+            result.put(expression, call);
+            if (parent != null) {
+                parent.deepest = false;
+            }
+            if (call.hasRole(Role.CONSUMER) || call.hasRole(Role.GLOBAL_CLAUSE)) {
+                for (Call current = parent; current != null && !current.containingRouteStart; current = current.parent) {
+                    current.containingRouteStart = true;
+                }
+            }
+        }
+        this.calls = Map.copyOf(result);
+        this.sortedCalls = result.values().stream()
+            .sorted(Comparator.comparingInt(call -> call.getExpression().getMethodExpression().getTextOffset()))
+            .toList();
+    }
+
+    /**
+     * @param element the element for which the model is expected.
+     * @return the model of the statement containing the given element, {@code null} if the element is not part of
+     * a statement or of a field initializer.
+     */
+    @Nullable
+    static JavaRouteModel of(@NotNull PsiElement element) {
+        final PsiElement anchor = PsiTreeUtil.getNonStrictParentOfType(element, PsiStatement.class, PsiField.class);
+        if (anchor == null) {
+            return null;
+        }
+        return CachedValuesManager.getCachedValue(anchor, JAVA_ROUTE_MODEL, () -> {
+            final Project project = anchor.getProject();
+            return CachedValueProvider.Result.create(
+                new JavaRouteModel(anchor), anchor,
+                PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE),
+                ProjectRootModificationTracker.getInstance(project),
+                DumbService.getInstance(project).getModificationTracker()
+            );
+        });
+    }
+
+    /**
+     * @param expression the method call for which the call of the model is expected.
+     * @return the call of the model corresponding to the given method call, {@code null} if the method call is not
+     * part of a statement or of a field initializer.
+     */
+    @Nullable
+    static Call getCall(@NotNull PsiMethodCallExpression expression) {
+        final JavaRouteModel model = of(expression);
+        return model == null ? null : model.calls.get(expression);
+    }
+
+    /**
+     * @return all the calls of the statement sorted by position of the method name.
+     */
+    @NotNull
+    List<Call> getCalls() {
+        return sortedCalls;
+    }
+
+    /**
+     * The possible roles of a method call in a route.
+     */
+    enum Role {
+        /**
+         * A method of the route builder starting a route like {@code from}.
+         */
+        CONSUMER,
+        /**
+         * A method of the route builder sending messages to an endpoint like {@code to}.
+         */
+        PRODUCER,
+        /**
+         * A method of the route builder defining a global clause like {@code onException}.
+         */
+        GLOBAL_CLAUSE,
+        /**
+         * A method providing an expression.
+         */
+        EXPRESSION,
+        /**
+         * A method providing a predicate.
+         */
+        PREDICATE,
+        /**
+         * A method of the DSL opening a block like {@code choice}.
+         */
+        BLOCK_OPEN,
+        /**
+         * A method of the DSL closing a block like {@code end}.
+         */
+        BLOCK_CLOSE
+    }
+
+    /**
+     * A method call of the statement.
+     */
+    static final class Call {
+
+        private final PsiMethodCallExpression expression;
+        private final Call parent;
+        private final Set<Role> roles = EnumSet.noneOf(Role.class);
+        /**
+         * Indicates whether the method is part of the methods of the DSL to format.
+         */
+        private final boolean formattable;
+        /**
+         * Indicates whether one of the enclosing calls starts a route.
+         */
+        private final boolean insideRouteStart;
+        /**
+         * Indicates whether one of the nested calls starts a route or defines a global clause.
+         */
+        private boolean containingRouteStart;
+        /**
+         * Indicates whether the call has no nested calls.
+         */
+        private boolean deepest = true;
+
+        private Call(PsiMethodCallExpression expression, @Nullable Call parent) {
+            this.expression = expression;
+            this.parent = parent;
+            this.insideRouteStart = parent != null && (parent.hasRole(Role.CONSUMER) || parent.insideRouteStart);
+            final String name = expression.getMethodExpression().getReferenceName();
+            if (name == null) {
+                this.formattable = false;
+                return;
+            }
+            final IdeaUtils ideaUtils = IdeaUtils.getService();
+            if (Arrays.asList(CamelIdeaUtils.CONSUMER_ENDPOINT).contains(name)
+                && ideaUtils.isFromJavaMethod(expression, true, name)) {
+                roles.add(Role.CONSUMER);
+            }
+            if (Arrays.asList(CamelIdeaUtils.PRODUCER_ENDPOINT).contains(name)
+                && ideaUtils.isFromJavaMethod(expression, true, name)) {
+                roles.add(Role.PRODUCER);
+            }
+            if (Arrays.asList(CamelIdeaUtils.GLOBAL_CLAUSE).contains(name)
+                && ideaUtils.isFromJavaMethod(expression, true, name)) {
+                roles.add(Role.GLOBAL_CLAUSE);
+            }
+            final List<PsiMethod> methods = Arrays.stream(expression.getMethodExpression().multiResolve(false))
+                .map(JavaResolveResult::getElement)
+                .filter(PsiMethod.class::isInstance)
+                .map(PsiMethod.class::cast)
+                .toList();
+            if (methods.stream().anyMatch(JavaCamelIdeaUtils::isPredicate)) {
+                roles.add(Role.PREDICATE);
+            }
+            if (methods.stream().anyMatch(method -> EXPRESSION_TYPES.contains(JavaCamelIdeaUtils.getReturnType(method)))) {
+                roles.add(Role.EXPRESSION);
+            }
+            this.formattable = methods.stream().anyMatch(JavaCamelIdeaUtils::isMethodToFormat);
+            if (formattable) {
+                if (JavaCamelIdeaUtils.ADD_INDENT.contains(name) || JavaCamelIdeaUtils.SUB_DSL_ROOTS.contains(name)
+                    || JavaCamelIdeaUtils.ADD_INDENT_OR_NEW_BLOCK.contains(name)) {
+                    roles.add(Role.BLOCK_OPEN);
+                } else if (JavaCamelIdeaUtils.REMOVE_INDENT.contains(name)) {
+                    roles.add(Role.BLOCK_CLOSE);
+                } else if (JavaCamelIdeaUtils.NEW_BLOCK.contains(name)) {
+                    // A new block closes the previous one
+                    roles.add(Role.BLOCK_CLOSE);
+                    roles.add(Role.BLOCK_OPEN);
+                }
+            }
+        }
+
+        PsiMethodCallExpression getExpression() {
+            return expression;
+        }
+
+        boolean hasRole(Role role) {
+            return roles.contains(role);
+        }
+
+        boolean isFormattable() {
+            return formattable;
+        }
+
+        boolean isInsideRouteStart() {
+            return insideRouteStart;
+        }
+
+        boolean isContainingRouteStart() {
+            return containingRouteStart;
+        }
+
+        boolean isDeepest() {
+            return deepest;
+        }
+    }
+}
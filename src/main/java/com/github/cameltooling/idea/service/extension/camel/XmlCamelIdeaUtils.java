@@ -17,6 +17,7 @@
 package com.github.cameltooling.idea.service.extension.camel;
 
 import com.github.cameltooling.idea.Constants;
+import com.github.cameltooling.idea.extension.CamelFileInfo;
 import com.github.cameltooling.idea.extension.CamelIdeaUtilsExtension;
 import com.github.cameltooling.idea.util.IdeaUtils;
 import com.github.cameltooling.idea.util.StringUtils;
@@ -53,12 +54,30 @@ public class XmlCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtilsE
 
     @Override
     public boolean isCamelFile(PsiFile file) {
+        return getCamelFileInfo(file) != null;
+    }
+
+    @Override
+    public CamelFileInfo.Dsl getDsl() {
+        return CamelFileInfo.Dsl.XML;
+    }
+
+    @Override
+    public CamelFileInfo getCamelFileInfo(PsiFile file) {
         if (file != null && XmlFileType.INSTANCE.equals(file.getFileType())) {
             XmlTag rootTag = ((XmlFile) file).getRootTag();
-            return rootTag != null && XML_ROUTES.contains(rootTag.getLocalName());
+            if (rootTag != null && XML_ROUTES.contains(rootTag.getLocalName())) {
+                final int routeCount = switch (rootTag.getLocalName()) {
+                    case "routes" -> rootTag.findSubTags("route", rootTag.getNamespace()).length;
+                    case "routeConfigurations" ->
+                        rootTag.findSubTags("routeConfiguration", rootTag.getNamespace()).length;
+                    default -> 1;
+                };
+                return new CamelFileInfo(CamelFileInfo.Dsl.XML, List.of(), routeCount);
+            }
         }
 
-        return false;
+        return null;
     }
 
     @Override
@@ -20,8 +20,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
+import com.github.cameltooling.idea.extension.CamelFileInfo;
 import com.github.cameltooling.idea.extension.CamelIdeaUtilsExtension;
 import com.github.cameltooling.idea.util.IdeaUtils;
 import com.github.cameltooling.idea.util.YamlPatternConditions;
@@ -39,6 +41,8 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.yaml.YAMLElementTypes;
 import org.jetbrains.yaml.YAMLTokenTypes;
 import org.jetbrains.yaml.psi.YAMLDocument;
@@ -86,7 +90,7 @@ public class YamlCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
      * The pattern to identify a camel route start corresponding to a YAMLKeyValue element
      * whose first child is the key "from" or "rest".
      */
-    private static final ElementPattern<YAMLKeyValue> CAMEL_ROUTE_START_PATTERN =
+    static final ElementPattern<YAMLKeyValue> CAMEL_ROUTE_START_PATTERN =
         PlatformPatterns.psiElement(YAMLKeyValue.class)
             .with(
                 YamlPatternConditions.withFirstChild(
@@ -104,7 +108,7 @@ public class YamlCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
      * has for first child a key among the possible consumers' key and whose first child is the
      * key "uri".
      */
-    private static final ElementPattern<YAMLKeyValue> CONSUMER_ENDPOINT =
+    static final ElementPattern<YAMLKeyValue> CONSUMER_ENDPOINT =
         StandardPatterns.or(
             PlatformPatterns.psiElement(YAMLKeyValue.class)
                 .withSuperParent(
@@ -147,7 +151,7 @@ public class YamlCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
      * has for first child a key among the producer consumers' key and whose first child is a
      * key among the producer consumers' uri key.
      */
-    private static final ElementPattern<YAMLKeyValue> PRODUCER_ENDPOINT =
+    static final ElementPattern<YAMLKeyValue> PRODUCER_ENDPOINT =
         StandardPatterns.or(
             PlatformPatterns.psiElement(YAMLKeyValue.class)
                 .withSuperParent(
@@ -187,21 +191,35 @@ public class YamlCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
 
     @Override
     public boolean isCamelFile(PsiFile file) {
+        return getCamelFileInfo(file) != null;
+    }
+
+    @Override
+    public CamelFileInfo.Dsl getDsl() {
+        return CamelFileInfo.Dsl.YAML;
+    }
+
+    @Override
+    public CamelFileInfo getCamelFileInfo(PsiFile file) {
         if (file instanceof YAMLFile yamlFile) {
             List<YAMLDocument> yamlDocuments = yamlFile.getDocuments();
-            return yamlDocuments.stream().anyMatch(document -> {
+            int routeCount = yamlDocuments.stream().mapToInt(document -> {
                 YAMLValue value = document.getTopLevelValue();
 
                 return switch (value) {
-                    case YAMLMapping mapping -> hasCamelRouteKey(mapping.getKeyValues());
-                    case YAMLSequence sequence -> sequence.getItems().stream()
-                        .anyMatch(item -> hasCamelRouteKey(item.getKeysValues()));
-                    case null, default -> false;
+                    case YAMLMapping mapping -> hasCamelRouteKey(mapping.getKeyValues()) ? 1 : 0;
+                    case YAMLSequence sequence -> (int) sequence.getItems().stream()
+                        .filter(item -> hasCamelRouteKey(item.getKeysValues()))
+                        .count();
+                    case null, default -> 0;
                 };
-            });
+            }).sum();
+            if (routeCount > 0) {
+                return new CamelFileInfo(CamelFileInfo.Dsl.YAML, List.of(), routeCount);
+            }
         }
 
-        return false;
+        return null;
     }
 
     private static boolean hasCamelRouteKey(Collection<YAMLKeyValue> keysValues) {
@@ -249,6 +267,10 @@ public class YamlCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
         if (keyValue == null || excludeRouteStart && isCamelRouteStart(keyValue)) {
             return false;
         }
+        final YamlRouteModel model = YamlRouteModel.of(keyValue);
+        if (model != null) {
+            return model.hasRole(keyValue, YamlRouteModel.Role.INSIDE_ROUTE);
+        }
         return IdeaUtils.getService().findFirstParent(keyValue, false, this::isCamelRouteStart, PsiFile.class::isInstance) != null;
     }
 
@@ -306,14 +328,25 @@ public class YamlCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
             keyValue = PsiTreeUtil.getParentOfType(element, YAMLKeyValue.class);
         }
         if (keyValue != null) {
-            final IdeaUtils ideaUtils = IdeaUtils.getService();
-            return ideaUtils.hasParentYAMLKeyValue(keyValue, "poll-enrich", "pollEnrich")
-                || ideaUtils.isURIYAMLKeyValue(keyValue, CONSUMERS);
+            final YamlRouteModel model = YamlRouteModel.of(keyValue);
+            if (model != null) {
+                return model.hasRole(keyValue, YamlRouteModel.Role.CONSUMER);
+            }
+            return isConsumerEndpoint(keyValue, PsiTreeUtil.getParentOfType(keyValue, YAMLKeyValue.class));
         }
 
         return false;
     }
 
+    /**
+     * @param keyValue the key-value pair to test.
+     * @param parent   the closest key-value pair containing the key-value pair to test.
+     * @return {@code true} if the given key-value pair declares a consumer endpoint, {@code false} otherwise.
+     */
+    static boolean isConsumerEndpoint(@NotNull YAMLKeyValue keyValue, @Nullable YAMLKeyValue parent) {
+        return hasParentKey(parent, "poll-enrich", "pollEnrich") || isURIKeyValue(keyValue, parent, CONSUMERS);
+    }
+
     @Override
     public boolean isProducerEndpoint(PsiElement element) {
         final YAMLKeyValue keyValue;
@@ -323,13 +356,42 @@ public class YamlCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
             keyValue = PsiTreeUtil.getParentOfType(element, YAMLKeyValue.class);
         }
         if (keyValue != null) {
-            final IdeaUtils ideaUtils = IdeaUtils.getService();
-            return ideaUtils.hasParentYAMLKeyValue(keyValue, "enrich")
-                || ideaUtils.isURIYAMLKeyValue(keyValue, PRODUCERS);
+            final YamlRouteModel model = YamlRouteModel.of(keyValue);
+            if (model != null) {
+                return model.hasRole(keyValue, YamlRouteModel.Role.PRODUCER);
+            }
+            return isProducerEndpoint(keyValue, PsiTreeUtil.getParentOfType(keyValue, YAMLKeyValue.class));
         }
         return false;
     }
 
+    /**
+     * @param keyValue the key-value pair to test.
+     * @param parent   the closest key-value pair containing the key-value pair to test.
+     * @return {@code true} if the given key-value pair declares a producer endpoint, {@code false} otherwise.
+     */
+    static boolean isProducerEndpoint(@NotNull YAMLKeyValue keyValue, @Nullable YAMLKeyValue parent) {
+        return hasParentKey(parent, "enrich") || isURIKeyValue(keyValue, parent, PRODUCERS);
+    }
+
+    /**
+     * Same as {@link IdeaUtils#hasParentYAMLKeyValue(YAMLKeyValue, String...)} with a parent already known.
+     */
+    private static boolean hasParentKey(@Nullable YAMLKeyValue parent, String... eips) {
+        return parent != null && Arrays.asList(eips).contains(parent.getKeyText());
+    }
+
+    /**
+     * Same as {@link IdeaUtils#isURIYAMLKeyValue(YAMLKeyValue, String...)} with a parent already known.
+     */
+    private static boolean isURIKeyValue(@NotNull YAMLKeyValue keyValue, @Nullable YAMLKeyValue parent, String... eips) {
+        final String key = keyValue.getKeyText();
+        if (key.equals("uri") || key.equals("dead-letter-uri")) {
+            return hasParentKey(parent, eips);
+        }
+        return Arrays.asList(eips).contains(key) && keyValue.getValue() != null;
+    }
+
     /**
      * @param element the element to test.
      * @return {@code true} if the given element is a scalar key, {@code false} otherwise.
@@ -378,35 +440,43 @@ public class YamlCamelIdeaUtils extends CamelIdeaUtils implements CamelIdeaUtils
 
     @Override
     public List<PsiElement> findEndpointUsages(Module module, Predicate<String> uriCondition) {
-        return findEndpoints(module.getProject(), module.getModuleWithDependentsScope(), PRODUCER_ENDPOINT, uriCondition);
+        return findEndpoints(
+            module.getProject(), module.getModuleWithDependentsScope(), YamlRouteModel::getProducerUris,
+            uriCondition
+        );
     }
 
     @Override
     public List<PsiElement> findEndpointDeclarations(Module module, Predicate<String> uriCondition) {
-        return findEndpoints(module.getProject(), module.getModuleWithDependenciesScope(), CONSUMER_ENDPOINT, uriCondition);
+        return findEndpoints(
+            module.getProject(), module.getModuleWithDependenciesScope(), YamlRouteModel::getConsumerUris,
+            uriCondition
+        );
     }
 
-    private List<PsiElement> findEndpoints(Project project, GlobalSearchScope scope, ElementPattern<YAMLKeyValue> pattern, Predicate<String> uriCondition) {
+    private List<PsiElement> findEndpoints(Project project, GlobalSearchScope scope,
+                                           Function<YamlRouteModel, List<YAMLKeyValue>> uris,
+                                           Predicate<String> uriCondition) {
         final List<PsiElement> result = new ArrayList<>();
         IdeaUtils.getService().iterateYamlFiles(
                 project, scope,
-            file -> PsiTreeUtil.processElements(
-                file,
-                element -> {
-                    if (pattern.accepts(element) && uriCondition.test(((YAMLKeyValue) element).getValueText())) {
-                        result.add(element.getLastChild());
+            file -> {
+                final YamlRouteModel model = YamlRouteModel.of(file);
+                if (model != null) {
+                    for (YAMLKeyValue keyValue : uris.apply(model)) {
+                        if (uriCondition.test(keyValue.getValueText())) {
+                            result.add(keyValue.getLastChild());
+                        }
                     }
-                    return true;
                 }
-            )
+            }
         );
         return result;
     }
 
     @Override
     public boolean isPlaceForEndpointUri(PsiElement location) {
-        YAMLFile file = PsiTreeUtil.getParentOfType(location, YAMLFile.class);
-        if (file == null) {
+        if (!(location.getContainingFile() instanceof YAMLFile)) {
             return false;
         }
         YAMLKeyValue keyValue = PsiTreeUtil.getParentOfType(location, false, YAMLKeyValue.class);
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.service.extension.camel;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.yaml.psi.YAMLFile;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+import org.jetbrains.yaml.psi.YAMLMapping;
+
+/**
+ * {@code YamlRouteModel} is the model of the key-value pairs of a file written with the YAML DSL, associated with
+ * their role in the routes.
+ * <p/>
+ * The model is built in a single walk of the file and cached until the file changes, to avoid walking up the
+ * parents of each key-value pair for each pattern to check.
+ */
+final class YamlRouteModel {
+
+    private static final Key<CachedValue<YamlRouteModel>> YAML_ROUTE_MODEL = Key.create("CAMEL_YAML_ROUTE_MODEL");
+
+    /**
+     * The roles of the key-value pairs having at least one role.
+     */
+    private final Map<YAMLKeyValue, Set<Role>> roles = new HashMap<>();
+    /**
+     * The key-value pairs declaring the uri of a consumer in order of appearance.
+     */
+    private final List<YAMLKeyValue> consumerUris = new ArrayList<>();
+    /**
+     * The key-value pairs declaring the uri of a producer in order of appearance.
+     */
+    private final List<YAMLKeyValue> producerUris = new ArrayList<>();
+
+    private YamlRouteModel(@NotNull YAMLFile file) {
+        walk(file, null, false);
+    }
+
+    /**
+     * @param element the element for which the model is expected.
+     * @return the model of the YAML file containing the given element, {@code null} if the element is not part of
+     * a YAML file or is part of a copy of a file like the ones used by the code completion.
+     */
+    @Nullable
+    static YamlRouteModel of(@NotNull PsiElement element) {
+        final PsiFile file = element.getContainingFile();
+        if (!(file instanceof YAMLFile yamlFile) || file.getOriginalFile() != file) {
+            return null;
+        }
+        return CachedValuesManager.getCachedValue(
+            yamlFile, YAML_ROUTE_MODEL, () -> CachedValueProvider.Result.create(new YamlRouteModel(yamlFile), yamlFile)
+        );
+    }
+
+    /**
+     * Walks the given element and its descendants.
+     *
+     * @param element     the element to walk.
+     * @param parent      the closest key-value pair containing the element.
+     * @param insideRoute indicates whether the element is part of a route.
+     */
+    private void walk(@NotNull PsiElement element, @Nullable YAMLKeyValue parent, boolean insideRoute) {
+        YAMLKeyValue closest = parent;
+        boolean inside = insideRoute;
+        if (element instanceof YAMLKeyValue keyValue) {
+            closest = keyValue;
+            final Set<Role> keyValueRoles = EnumSet.noneOf(Role.class);
+            if (YamlCamelIdeaUtils.CAMEL_ROUTE_START_PATTERN.accepts(keyValue)) {
+                keyValueRoles.add(Role.ROUTE_START);
+                inside = true;
+            }
+            if (inside) {
+                keyValueRoles.add(Role.INSIDE_ROUTE);
+            }
+            if (YamlCamelIdeaUtils.isConsumerEndpoint(keyValue, parent)) {
+                keyValueRoles.add(Role.CONSUMER);
+            }
+            if (YamlCamelIdeaUtils.isProducerEndpoint(keyValue, parent)) {
+                keyValueRoles.add(Role.PRODUCER);
+            }
+            if (YamlCamelIdeaUtils.CONSUMER_ENDPOINT.accepts(keyValue)) {
+                consumerUris.add(keyValue);
+            }
+            if (YamlCamelIdeaUtils.PRODUCER_ENDPOINT.accepts(keyValue)) {
+                producerUris.add(keyValue);
+            }
+            if (!keyValueRoles.isEmpty()) {
+                roles.put(keyValue, keyValueRoles);
+            }
+        } else if (element instanceof YAMLMapping mapping
+            && YamlCamelIdeaUtils.CAMEL_ROUTE_START_PATTERN.accepts(mapping.getFirstChild())) {
+            // A mapping starting with a route start is the scope of the route
+            inside = true;
+        }
+        for (PsiElement child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            walk(child, closest, inside);
+        }
+    }
+
+    /**
+     * @param keyValue the key-value pair to check.
+     * @param role     the expected role.
+     * @return {@code true} if the given key-value pair has the given role, {@code false} otherwise.
+     */
+    boolean hasRole(@NotNull YAMLKeyValue keyValue, @NotNull Role role) {
+        final Set<Role> keyValueRoles = roles.get(keyValue);
+        return keyValueRoles != null && keyValueRoles.contains(role);
+    }
+
+    /**
+     * @return the key-value pairs declaring the uri of a consumer in order of appearance.
+     */
+    @NotNull
+    List<YAMLKeyValue> getConsumerUris() {
+        return consumerUris;
+    }
+
+    /**
+     * @return the key-value pairs declaring the uri of a producer in order of appearance.
+     */
+    @NotNull
+    List<YAMLKeyValue> getProducerUris() {
+        return producerUris;
+    }
+
+    /**
+     * The possible roles of a key-value pair in a route.
+     */
+    enum Role {
+        /**
+         * A key-value pair starting a route like {@code from} or {@code rest}.
+         */
+        ROUTE_START,
+        /**
+         * A key-value pair that is a route start or that is part of a route.
+         */
+        INSIDE_ROUTE,
+        /**
+         * A key-value pair declaring a consumer endpoint.
+         */
+        CONSUMER,
+        /**
+         * A key-value pair declaring a producer endpoint.
+         */
+        PRODUCER
+    }
+}
@@ -16,24 +16,35 @@
  */
 package com.github.cameltooling.idea.util;
 
+import com.github.cameltooling.idea.extension.CamelFileInfo;
 import com.github.cameltooling.idea.extension.CamelIdeaUtilsExtension;
 import com.github.cameltooling.idea.reference.endpoint.CamelEndpoint;
+import com.intellij.lang.java.JavaLanguage;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.components.Service;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootModificationTracker;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.patterns.ElementPattern;
 import com.intellij.patterns.PatternCondition;
 import com.intellij.patterns.PsiJavaPatterns;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassOwner;
 import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.codeStyle.CodeStyleSettings;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.util.ProcessingContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.List;
@@ -54,6 +65,7 @@ public final class CamelIdeaUtils implements Disposable {
     public static final String PROPERTY_INJECT_ANNOTATION = "org.apache.camel.PropertyInject";
     public static final String PROPERTY_PLACEHOLDER_START_TOKEN = "{{";
     public static final String PROPERTY_PLACEHOLDER_END_TOKEN = "}}";
+    private static final Key<CachedValue<CamelFileInfo>> CAMEL_FILE_INFO = Key.create("CAMEL_FILE_INFO");
 
     private final List<CamelIdeaUtilsExtension> enabledExtensions;
 
@@ -71,8 +83,37 @@ public final class CamelIdeaUtils implements Disposable {
      * Is the given file a file containing Camel route or route configuration
      */
     public boolean isCamelFile(PsiFile file) {
-        return enabledExtensions.stream()
-                .anyMatch(extension -> extension.isCamelFile(file));
+        return getCamelFileInfo(file) != null;
+    }
+
+    /**
+     * Gives the information of the given file if it contains Camel routes or route configurations. The information
+     * is cached per file until the file is modified or, as the route builders of the Java DSL are identified by
+     * their super classes, until the Java structure of the project or its libraries change.
+     *
+     * @param file the file
+     * @return the information of the file or {@code null} if it is not a Camel file.
+     */
+    @Nullable
+    public CamelFileInfo getCamelFileInfo(@Nullable PsiFile file) {
+        if (file == null) {
+            return null;
+        }
+        return CachedValuesManager.getCachedValue(file, CAMEL_FILE_INFO, () -> {
+            final CamelFileInfo info = enabledExtensions.stream()
+                .map(extension -> extension.getCamelFileInfo(file))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+            if (file instanceof PsiClassOwner) {
+                final Project project = file.getProject();
+                return CachedValueProvider.Result.create(
+                    info, file, PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE),
+                    ProjectRootModificationTracker.getInstance(project)
+                );
+            }
+            return CachedValueProvider.Result.create(info, file);
+        });
     }
 
 
@@ -318,8 +359,14 @@ public final class CamelIdeaUtils implements Disposable {
      * @return The updated text range after the changes.
      */
     public TextRange processText(PsiFile source, TextRange rangeToReformat, CodeStyleSettings settings) {
+        final CamelFileInfo info = getCamelFileInfo(source);
+        if (info == null) {
+            return rangeToReformat;
+        }
         for (CamelIdeaUtilsExtension extension : enabledExtensions) {
-            if (extension.isCamelFile(source)) {
+            // The DSLs of the extensions that don't provide it cannot be told apart
+            if (extension.getDsl() == info.dsl()
+                && (info.dsl() != CamelFileInfo.Dsl.OTHER || extension.isCamelFile(source))) {
                 return extension.processText(source, rangeToReformat, settings);
             }
         }
@@ -16,6 +16,7 @@
  */
 package com.github.cameltooling.idea.util;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -39,10 +40,11 @@ import com.intellij.openapi.components.Service;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.fileEditor.FileDocumentManager;
 import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.roots.ModuleFileIndex;
 import com.intellij.openapi.roots.ModuleRootManager;
-import com.intellij.openapi.roots.OrderRootType;
 import com.intellij.openapi.roots.ProjectFileIndex;
 import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.openapi.roots.libraries.Library;
@@ -242,16 +244,8 @@ public final class IdeaUtils implements Disposable {
             if (library == null) {
                 continue;
             }
-            VirtualFile[] files = library.getFiles(OrderRootType.CLASSES);
-            if (files.length == 1) {
-                VirtualFile vf = files[0];
-                if (vf.getName().toLowerCase().endsWith(".jar")) {
-                    String path = vf.getPath();
-                    if (path.endsWith("!/")) {
-                        path = path.substring(0, path.length() - 2);
-                    }
-                    urls.add(new URL("file:" + path));
-                }
+            for (File root : JarMetadataReader.getRoots(library)) {
+                urls.add(root.toURI().toURL());
             }
         }
         if (urls.isEmpty()) {
@@ -314,6 +308,29 @@ public final class IdeaUtils implements Disposable {
         return false;
     }
 
+    /**
+     * Tests the given condition on the given element even if the project is being indexed. In dumb mode, the
+     * condition is tested with the alternative resolve which doesn't need the indexes, and if it still needs the
+     * indexes, the given default value is returned.
+     *
+     * @param element      the psi element to test
+     * @param condition    the condition to test which may need to resolve some elements
+     * @param defaultValue the value to return if the condition cannot be tested without the indexes
+     * @return the result of the condition or the default value if it could not be tested
+     */
+    public boolean testInDumbMode(@NotNull PsiElement element, @NotNull Predicate<? super PsiElement> condition,
+                                  boolean defaultValue) {
+        final DumbService dumbService = DumbService.getInstance(element.getProject());
+        if (!dumbService.isDumb()) {
+            return condition.test(element);
+        }
+        try {
+            return dumbService.computeWithAlternativeResolveEnabled(() -> condition.test(element));
+        } catch (IndexNotReadyException e) {
+            return defaultValue;
+        }
+    }
+
     /**
      * Returns the first parent of the given element which matches the given condition.
      *
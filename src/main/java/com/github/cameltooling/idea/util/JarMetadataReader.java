@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.roots.OrderRootType;
+import com.intellij.openapi.roots.libraries.Library;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Service allowing to read the metadata files of jar files and directories, such as the descriptors of the Camel
+ * components or the definitions of the Kamelets, without creating any classloader.
+ * <p/>
+ * The jar files are read directly from their central directory, and the roots are processed in parallel by a bounded
+ * pool of threads which makes it possible to scan hundreds of dependencies at once without starving the other
+ * background tasks.
+ */
+@Service
+public final class JarMetadataReader {
+
+    private static final Logger LOG = Logger.getInstance(JarMetadataReader.class);
+    /**
+     * The amount of time between two checks of the cancellation while waiting for the roots to be processed.
+     */
+    private static final long CANCELLATION_CHECK_INTERVAL_MILLIS = 50;
+
+    /**
+     * The executor processing the roots, bounded to the number of available processors.
+     */
+    private final ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor(
+        "Camel Jar Metadata Reader", Runtime.getRuntime().availableProcessors()
+    );
+
+    JarMetadataReader() {
+    }
+
+    public static JarMetadataReader getService() {
+        return ApplicationManager.getApplication().getService(JarMetadataReader.class);
+    }
+
+    /**
+     * Applies the given processor to the entries of all the given roots in parallel. The results are provided in the
+     * same order as the roots.
+     * <p/>
+     * The caller waits for all the roots to be processed, the remaining roots are skipped if the progress indicator of
+     * the caller is cancelled in the meantime.
+     *
+     * @param roots     the jar files and the directories to process.
+     * @param processor the processor to apply to the entries of each root.
+     * @return the non-{@code null} results of the processor indexed by root.
+     */
+    public <T> Map<File, T> process(@NotNull Collection<File> roots, @NotNull EntriesProcessor<T> processor) {
+        Map<File, T> results = new ConcurrentHashMap<>();
+        List<Future<?>> futures = new ArrayList<>();
+        for (File root : new LinkedHashSet<>(roots)) {
+            futures.add(executor.submit(() -> {
+                try {
+                    T result = processRoot(root, processor);
+                    if (result != null) {
+                        results.put(root, result);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    LOG.warn("Could not read the metadata of " + root + ": " + e.getMessage());
+                }
+            }));
+        }
+        awaitAll(futures);
+        Map<File, T> answer = new LinkedHashMap<>();
+        for (File root : roots) {
+            T result = results.get(root);
+            if (result != null) {
+                answer.put(root, result);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Waits for the given futures to be done while checking the cancellation of the progress indicator of the caller.
+     *
+     * @param futures the futures to wait for.
+     */
+    private static void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                while (true) {
+                    ProgressManager.checkCanceled();
+                    try {
+                        future.get(CANCELLATION_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                        break;
+                    } catch (TimeoutException e) {
+                        // Not done yet, check the cancellation again
+                    } catch (ExecutionException e) {
+                        LOG.warn("Could not read the metadata: " + e.getCause().getMessage());
+                        break;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+        } catch (ProcessCanceledException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the content of the given entry in all the given roots in parallel.
+     *
+     * @param roots the jar files and the directories to read.
+     * @param name  the name of the entry to read.
+     * @return the content of the entry indexed by root for the roots containing the entry.
+     */
+    public Map<File, String> readEntry(@NotNull Collection<File> roots, @NotNull String name) {
+        return process(roots, entries -> entries.read(name));
+    }
+
+    /**
+     * @param library the library for which the roots are expected.
+     * @return all the local jar files and directories of the classes of the given library.
+     */
+    public static List<File> getRoots(@Nullable Library library) {
+        if (library == null) {
+            return List.of();
+        }
+        return getRoots(library.getFiles(OrderRootType.CLASSES));
+    }
+
+    /**
+     * @param roots the virtual files corresponding to jar roots, jar files or directories.
+     * @return the corresponding local jar files and directories.
+     */
+    public static List<File> getRoots(@NotNull VirtualFile... roots) {
+        Set<File> result = new LinkedHashSet<>();
+        for (VirtualFile root : roots) {
+            VirtualFile local = JarFileSystem.getInstance().getVirtualFileForJar(root);
+            if (local == null) {
+                local = root;
+            }
+            if (local.isInLocalFileSystem()) {
+                result.add(VfsUtilCore.virtualToIoFile(local));
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    private static <T> T processRoot(File root, EntriesProcessor<T> processor) throws IOException {
+        if (root.isDirectory()) {
+            return processor.process(new DirectoryEntries(root.toPath()));
+        } else if (root.isFile()) {
+            try (ZipFile zipFile = new ZipFile(root)) {
+                return processor.process(new JarEntries(zipFile));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The entries of a jar file or a directory.
+     */
+    public interface Entries {
+
+        /**
+         * @param name the name of the entry to read.
+         * @return the content of the entry in UTF-8, {@code null} if the entry doesn't exist.
+         * @throws IOException if the entry could not be read.
+         */
+        @Nullable
+        String read(@NotNull String name) throws IOException;
+
+        /**
+         * @param prefix the prefix of the names of the expected entries.
+         * @param suffix the suffix of the names of the expected entries.
+         * @return the names of the files with the given prefix and suffix.
+         * @throws IOException if the entries could not be listed.
+         */
+        List<String> list(@NotNull String prefix, @NotNull String suffix) throws IOException;
+    }
+
+    /**
+     * A processor of the entries of a jar file or a directory.
+     *
+     * @param <T> the type of result.
+     */
+    @FunctionalInterface
+    public interface EntriesProcessor<T> {
+
+        /**
+         * @param entries the entries to process.
+         * @return the result of the processing, {@code null} if there is nothing to keep.
+         * @throws IOException if the entries could not be read.
+         */
+        @Nullable
+        T process(@NotNull Entries entries) throws IOException;
+    }
+
+    private record JarEntries(ZipFile zipFile) implements Entries {
+
+        @Override
+        public String read(@NotNull String name) throws IOException {
+            ZipEntry entry = zipFile.getEntry(name);
+            if (entry == null || entry.isDirectory()) {
+                return null;
+            }
+            try (InputStream is = zipFile.getInputStream(entry)) {
+                return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+
+        @Override
+        public List<String> list(@NotNull String prefix, @NotNull String suffix) {
+            return zipFile.stream()
+                .filter(entry -> !entry.isDirectory())
+                .map(ZipEntry::getName)
+                .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                .toList();
+        }
+    }
+
+    private record DirectoryEntries(Path root) implements Entries {
+
+        @Override
+        public String read(@NotNull String name) throws IOException {
+            Path file = root.resolve(name);
+            return Files.isRegularFile(file) ? Files.readString(file) : null;
+        }
+
+        @Override
+        public List<String> list(@NotNull String prefix, @NotNull String suffix) throws IOException {
+            // Only walk the deepest directory of the prefix
+            int index = prefix.lastIndexOf('/');
+            Path start = index == -1 ? root : root.resolve(prefix.substring(0, index));
+            if (!Files.isDirectory(start)) {
+                return List.of();
+            }
+            try (Stream<Path> files = Files.walk(start)) {
+                return files.filter(Files::isRegularFile)
+                    .map(file -> root.relativize(file).toString().replace(File.separatorChar, '/'))
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .toList();
+            }
+        }
+    }
+}
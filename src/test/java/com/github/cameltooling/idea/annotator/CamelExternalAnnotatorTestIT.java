@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.annotator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.github.cameltooling.idea.CamelLightCodeInsightFixtureTestCaseIT;
+import com.intellij.lang.annotation.AnnotationHolder;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Testing the batch validation of the endpoints and simple expressions of a file by {@link CamelExternalAnnotator}.
+ */
+public class CamelExternalAnnotatorTestIT extends CamelLightCodeInsightFixtureTestCaseIT {
+
+    private static final String INVALID_ENDPOINT = "sql:foo?backoffErrorThreshold=ImNotANumber";
+    private static final String INVALID_SIMPLE = "Response from ${xrouteId}";
+
+    @Nullable
+    @Override
+    protected String[] getMavenDependencies() {
+        return new String[]{CAMEL_CORE_MODEL_MAVEN_ARTIFACT};
+    }
+
+    public void testIdenticalValidationsShared() {
+        PsiFile file = myFixture.configureByText("AnnotatorTestData.java", getJavaWithDuplicates(false));
+        CamelExternalAnnotator annotator = new CamelExternalAnnotator();
+        CamelExternalAnnotator.Requests requests = annotator.collectInformation(file, myFixture.getEditor(), false);
+        assertNotNull(requests);
+        Map<String, List<CamelValidation<?>>> validationsByText = requests.requests().stream()
+            .filter(request -> request.text().contains(INVALID_ENDPOINT) || request.text().contains(INVALID_SIMPLE))
+            .collect(Collectors.groupingBy(
+                request -> request.text().contains(INVALID_ENDPOINT) ? INVALID_ENDPOINT : INVALID_SIMPLE,
+                Collectors.mapping(CamelExternalAnnotator.Request::validation, Collectors.toList())
+            ));
+        assertEquals(2, validationsByText.get(INVALID_ENDPOINT).size());
+        assertEquals(2, validationsByText.get(INVALID_SIMPLE).size());
+        // The identical texts share the same validation
+        assertEquals(1, validationsByText.get(INVALID_ENDPOINT).stream().distinct().count());
+        assertEquals(1, validationsByText.get(INVALID_SIMPLE).stream().distinct().count());
+
+        CamelExternalAnnotator.Results results = annotator.doAnnotate(requests);
+        assertNotNull(results);
+        assertNotNull(results.results().get(validationsByText.get(INVALID_ENDPOINT).get(0)));
+        assertNotNull(results.results().get(validationsByText.get(INVALID_SIMPLE).get(0)));
+    }
+
+    public void testIdenticalValidationsExecutedInBatchOnce() {
+        PsiFile file = myFixture.configureByText("AnnotatorTestData.java", getJavaWithDuplicates(false));
+        AtomicInteger counter = new AtomicInteger();
+        CamelExternalAnnotator.Requests requests = new CamelExternalAnnotator.Requests(List.of(
+            new CamelExternalAnnotator.Request(file, INVALID_SIMPLE, new CountingValidation(INVALID_SIMPLE, counter)),
+            new CamelExternalAnnotator.Request(file, INVALID_SIMPLE, new CountingValidation(INVALID_SIMPLE, counter)),
+            new CamelExternalAnnotator.Request(file, INVALID_ENDPOINT, new CountingValidation(INVALID_ENDPOINT, counter))
+        ));
+        CamelExternalAnnotator.Results results = new CamelExternalAnnotator().doAnnotate(requests);
+        assertNotNull(results);
+        assertEquals(2, counter.get());
+        assertEquals(2, results.results().size());
+        assertEquals(3, results.requests().size());
+    }
+
+    public void testIdenticalValidationsAnnotatedEverywhere() {
+        myFixture.configureByText("AnnotatorTestData.java", getJavaWithDuplicates(true));
+        myFixture.checkHighlighting(false, false, true, true);
+    }
+
+    /**
+     * A validation counting the number of times it is executed.
+     */
+    private record CountingValidation(String text, AtomicInteger counter) implements CamelValidation<String> {
+
+        @Override
+        public String validate() {
+            counter.incrementAndGet();
+            return text;
+        }
+
+        @Override
+        public void annotate(@NotNull PsiElement element, @NotNull String text, @NotNull String result,
+                             @NotNull AnnotationHolder holder) {
+            // Nothing to annotate
+        }
+    }
+
+    private String getJavaWithDuplicates(boolean withMarkers) {
+        String endpoint = withMarkers
+            ? "sql:foo?backoffErrorThreshold=<error descr=\"Invalid integer value: ImNotANumber\">ImNotANumber</error>"
+            : INVALID_ENDPOINT;
+        String simple = withMarkers
+            ? "Response from <error descr=\"Unknown function: xrouteId\">${xrouteId}</error>"
+            : INVALID_SIMPLE;
+        return "import org.apache.camel.builder.RouteBuilder;\n"
+            + "public class MyRouteBuilder extends RouteBuilder {\n"
+            + "        public void configure() {\n"
+            + "            from(\"" + endpoint + "\")\n"
+            + "                .transform().simple(\"" + simple + "\")\n"
+            + "                .to(\"file:outbox\");\n"
+            + "            from(\"" + endpoint + "\")\n"
+            + "                .transform().simple(\"" + simple + "\")\n"
+            + "                .to(\"file:inbox\");\n"
+            + "        }\n"
+            + "    }";
+    }
+}
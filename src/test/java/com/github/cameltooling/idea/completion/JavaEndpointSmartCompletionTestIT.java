@@ -22,6 +22,7 @@ import java.util.List;
 import com.github.cameltooling.idea.CamelLightCodeInsightFixtureTestCaseIT;
 import com.github.cameltooling.idea.service.CamelProjectPreferenceService;
 import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupElementPresentation;
 import org.hamcrest.Matchers;
 
 import static org.junit.Assert.assertThat;
@@ -76,6 +77,20 @@ public class JavaEndpointSmartCompletionTestIT extends CamelLightCodeInsightFixt
         assertEquals("There is less options", 2, strings.size());
     }
 
+    public void testOptionPresentation() {
+        myFixture.configureByText("JavaCaretInMiddleOptionsTestData.java", getJavaInTheMiddleUnresolvedOptionsTestData());
+        LookupElement[] elements = myFixture.completeBasic();
+        assertNotNull(elements);
+        LookupElement element = Arrays.stream(elements)
+            .filter(e -> e.getLookupString().endsWith("&exceptionHandler"))
+            .findFirst()
+            .orElseThrow();
+        LookupElementPresentation presentation = LookupElementPresentation.renderElement(element);
+        assertEquals("exceptionHandler", presentation.getItemText());
+        assertFalse("Advanced options are not in bold", presentation.isItemTextBold());
+        assertEquals("org.apache.camel.spi.ExceptionHandler", presentation.getTypeText());
+    }
+
     private String getJavaInTheMiddleOfResolvedOptionsData() {
         return "import org.apache.camel.builder.RouteBuilder;\n"
             + "public class MyRouteBuilder extends RouteBuilder {\n"
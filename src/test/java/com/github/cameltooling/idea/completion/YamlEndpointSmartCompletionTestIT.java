@@ -21,6 +21,7 @@ import java.util.List;
 
 import com.github.cameltooling.idea.CamelLightCodeInsightFixtureTestCaseIT;
 import com.github.cameltooling.idea.service.CamelProjectPreferenceService;
+import com.intellij.testFramework.DumbModeTestUtils;
 
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
@@ -60,6 +61,16 @@ public class YamlEndpointSmartCompletionTestIT extends CamelLightCodeInsightFixt
         assertTrue("There is less options", strings.size() < 30);
     }
 
+    public void testConsumerCompletionInDumbMode() {
+        myFixture.configureByFiles("CompleteYamlEndpointConsumerTestData.yaml");
+        List<String> strings = DumbModeTestUtils.computeInDumbModeSynchronously(getProject(), () -> {
+            myFixture.completeBasic();
+            return myFixture.getLookupElementStrings();
+        });
+        assertNotNull(strings);
+        assertTrue(strings.containsAll(Arrays.asList("file:inbox?autoCreate", "file:inbox?include", "file:inbox?delay", "file:inbox?delete")));
+    }
+
     private String getYamlInsertAfterQuestionMarkTestData() {
         return "- route\n"
             + "     from:\n"
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.documentation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class CamelDocumentationCacheTest {
+
+    private final CamelDocumentationCache cache = new CamelDocumentationCache();
+
+    private static CamelDocumentationCache.Key key(String version, String component, int wrapLength) {
+        return new CamelDocumentationCache.Key(CamelDocumentationCache.Type.COMPONENT, version, component, null, wrapLength);
+    }
+
+    @Test
+    public void testFragmentIsRenderedOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        assertEquals("timer0", cache.get(key("4.0", "timer", 120), () -> "timer" + calls.getAndIncrement()));
+        assertEquals("timer0", cache.get(key("4.0", "timer", 120), () -> "timer" + calls.getAndIncrement()));
+        assertEquals(1, calls.get());
+        // Another version or another wrap length is rendered again
+        assertEquals("timer1", cache.get(key("4.1", "timer", 120), () -> "timer" + calls.getAndIncrement()));
+        assertEquals("timer2", cache.get(key("4.0", "timer", -1), () -> "timer" + calls.getAndIncrement()));
+    }
+
+    @Test
+    public void testMissingFragmentIsNotKept() {
+        assertNull(cache.get(key("4.0", "foo", -1), () -> null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedFragmentsAreEvicted() {
+        for (int i = 0; i < CamelDocumentationCache.MAX_SIZE; i++) {
+            String name = "component" + i;
+            cache.get(key("4.0", name, -1), () -> name);
+        }
+        // Use the first fragment so that the second one is evicted instead
+        cache.get(key("4.0", "component0", -1), () -> "new");
+        cache.get(key("4.0", "extra", -1), () -> "extra");
+        assertEquals(CamelDocumentationCache.MAX_SIZE, cache.size());
+        assertEquals("component0", cache.get(key("4.0", "component0", -1), () -> "new"));
+        assertEquals("new", cache.get(key("4.0", "component1", -1), () -> "new"));
+    }
+}
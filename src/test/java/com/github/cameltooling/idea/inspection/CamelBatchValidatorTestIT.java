@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.inspection;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.github.cameltooling.idea.CamelLightCodeInsightFixtureTestCaseIT;
+import com.intellij.openapi.application.ApplicationManager;
+
+/**
+ * Testing the validation of all the Camel files of a project by {@link CamelBatchValidator}.
+ */
+public class CamelBatchValidatorTestIT extends CamelLightCodeInsightFixtureTestCaseIT {
+
+    public void testInvalidEndpointReported() throws Exception {
+        myFixture.copyFileToProject("inspectionxml/src/XmlEndpointInspectionTestData.xml", "routes.xml");
+        myFixture.addFileToProject("application.properties", "camel.main.name = batch\n");
+        // The validator waits for the project to be ready which cannot be done from the event dispatch thread
+        CamelValidationReport report = ApplicationManager.getApplication()
+            .executeOnPooledThread(() -> new CamelBatchValidator(getProject(), 2, 0).validate())
+            .get(1, TimeUnit.MINUTES);
+        List<String> paths = report.files().stream().map(CamelValidationReport.FileResult::path).toList();
+        assertTrue(paths.stream().anyMatch(path -> path.endsWith("application.properties")));
+        CamelValidationReport.FileResult routes = report.files().stream()
+            .filter(file -> file.path().endsWith("routes.xml"))
+            .findFirst()
+            .orElseThrow();
+        assertTrue(routes.problems().stream().anyMatch(
+            problem -> problem.line() == 20 && "fileExist is not applicable in consumer only mode".equals(problem.message())
+                && "warning".equals(problem.severity())
+        ));
+        assertTrue(report.getProblemCount() > 0);
+    }
+}
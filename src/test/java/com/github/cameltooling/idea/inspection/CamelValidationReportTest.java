@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.inspection;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+public class CamelValidationReportTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final CamelValidationReport report = new CamelValidationReport("4.10.0", 120, 45, List.of(
+        new CamelValidationReport.FileResult("src/main/java/MyRoute.java", 30, List.of(
+            new CamelValidationReport.Problem(12, 18, "warning", "foo is unknown option")
+        )),
+        new CamelValidationReport.FileResult("src/main/resources/routes.yaml", 15, List.of())
+    ));
+
+    @Test
+    public void testJson() throws Exception {
+        JsonNode root = MAPPER.readTree(report.toJson());
+        assertEquals("4.10.0", root.path("catalogVersion").asText());
+        assertEquals(2, root.path("totals").path("files").asInt());
+        assertEquals(1, root.path("totals").path("problems").asInt());
+        assertEquals(120, root.path("totals").path("catalogTimeMs").asLong());
+        assertEquals(45, root.path("totals").path("totalTimeMs").asLong());
+        JsonNode file = root.path("files").get(0);
+        assertEquals("src/main/java/MyRoute.java", file.path("path").asText());
+        assertEquals(30, file.path("timeMs").asLong());
+        assertEquals(12, file.path("problems").get(0).path("line").asInt());
+        assertEquals(18, file.path("problems").get(0).path("column").asInt());
+        assertEquals("foo is unknown option", file.path("problems").get(0).path("message").asText());
+        assertEquals(0, root.path("files").get(1).path("problems").size());
+    }
+
+    @Test
+    public void testSarif() throws Exception {
+        JsonNode root = MAPPER.readTree(report.toSarif());
+        assertEquals("2.1.0", root.path("version").asText());
+        JsonNode run = root.path("runs").get(0);
+        assertEquals(CamelValidationReport.RULE_ID, run.path("tool").path("driver").path("rules").get(0).path("id").asText());
+        assertEquals(2, run.path("artifacts").size());
+        assertEquals(15, run.path("artifacts").get(1).path("properties").path("timeMs").asLong());
+        assertEquals(1, run.path("results").size());
+        JsonNode result = run.path("results").get(0);
+        assertEquals("warning", result.path("level").asText());
+        assertEquals("foo is unknown option", result.path("message").path("text").asText());
+        JsonNode location = result.path("locations").get(0).path("physicalLocation");
+        assertEquals("src/main/java/MyRoute.java", location.path("artifactLocation").path("uri").asText());
+        assertEquals(12, location.path("region").path("startLine").asInt());
+        assertEquals(18, location.path("region").path("startColumn").asInt());
+    }
+
+    @Test
+    public void testParseOptions() {
+        CamelValidateStarter.Options options = CamelValidateStarter.Options.parse(
+            List.of("camelValidate", "/tmp/project", "--format=json", "--output=report.json", "--parallelism=3")
+        );
+        assertEquals(Path.of("/tmp/project"), options.project());
+        assertEquals(Path.of("report.json"), options.output());
+        assertFalse(options.sarif());
+        assertEquals(3, options.parallelism());
+        assertThrows(IllegalArgumentException.class, () -> CamelValidateStarter.Options.parse(List.of("camelValidate")));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CamelValidateStarter.Options.parse(List.of("camelValidate", "/tmp/project", "--format=xml"))
+        );
+    }
+}
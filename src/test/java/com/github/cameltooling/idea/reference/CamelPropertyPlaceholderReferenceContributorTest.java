@@ -61,6 +61,16 @@ public class CamelPropertyPlaceholderReferenceContributorTest extends CamelLight
         assertContainsPropertyReference(textElement, "prop2", 13);
     }
 
+    public void testReferenceOutsideOfCamelFiles() {
+        myFixture.configureByText("Foo.java", """
+                public final class Foo {
+                    private final String value = "something {{pro<caret>p2}}";
+                }
+                """);
+        PsiElement textElement = TestReferenceUtil.getParentElementAtCaret(myFixture);
+        assertContainsPropertyReference(textElement, "prop2", 13);
+    }
+
     public void testSingleReferenceInEndpointUri() {
         myFixture.configureByText("MyRoute.java", """
                 import org.apache.camel.builder.RouteBuilder;
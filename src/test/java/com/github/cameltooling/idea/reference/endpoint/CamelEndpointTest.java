@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.reference.endpoint;
+
+import java.util.List;
+
+import com.intellij.openapi.util.TextRange;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CamelEndpointTest {
+
+    @Test
+    public void testParts() {
+        CamelEndpoint endpoint = CamelEndpoint.parse("\"direct:abc?synchronous=true\"");
+        assertEquals("direct:abc?synchronous=true", endpoint.getUri());
+        assertEquals("direct:abc", endpoint.getBaseUri());
+        assertEquals("direct", endpoint.getPrefix());
+        assertEquals("abc", endpoint.getName());
+        assertEquals("synchronous=true", endpoint.getQuery());
+        assertEquals(new TextRange(7, 10), endpoint.getNameTextRange());
+        assertTrue(endpoint.baseUriMatches("direct:abc?timeout=10"));
+    }
+
+    @Test
+    public void testParsedOnce() {
+        assertSame(CamelEndpoint.parse("timer:foo?period=10"), CamelEndpoint.parse("\"timer:foo?period=10\""));
+    }
+
+    @Test
+    public void testOptions() {
+        String uri = "file:inbox?delay=10&amp;noop&include=RAW(a&b)&&move={{dir}}";
+        List<CamelEndpoint.Option> options = CamelEndpoint.parse(uri).getOptions();
+        assertEquals(4, options.size());
+        assertEquals(new CamelEndpoint.Option("delay", "10", new TextRange(11, 16), new TextRange(17, 19)), options.get(0));
+        assertEquals("noop", options.get(1).name());
+        assertNull(options.get(1).value());
+        assertEquals("RAW(a&b)", options.get(2).value());
+        CamelEndpoint.Option move = options.get(3);
+        assertEquals("{{dir}}", move.value());
+        assertEquals("move", move.nameRange().substring(uri));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.runner.debugger;
+
+import com.github.cameltooling.idea.runner.debugger.util.DebuggerUtils;
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CamelRoutesIndexTest {
+
+    private static final String ROUTES = """
+        <routes xmlns="http://camel.apache.org/schema/xml-io">
+            <route id="route1" sourceLocation="file:src/main/resources/my-route.xml" sourceLineNumber="3">
+                <from id="from1" uri="timer:foo" sourceLocation="file:src/main/resources/my-route.xml" sourceLineNumber="4"/>
+                <log id="log1" message="hello" sourceLocation="file:src/main/resources/my-route.xml" sourceLineNumber="5"/>
+                <to id="to1" uri="direct:bar" sourceLocation="file:src/main/resources/my-route.xml" sourceLineNumber="5"/>
+                <setBody id="setBody1" sourceLocation="com.foo.MyRoute" sourceLineNumber="-1"/>
+            </route>
+        </routes>
+        """;
+
+    private static Document parse(String xml) throws Exception {
+        return DebuggerUtils.createDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testFromSourceLineToNodeId() throws Exception {
+        CamelRoutesIndex index = CamelRoutesIndex.of(parse(ROUTES));
+        assertEquals("from1", index.getNodeId("file:src/main/resources/my-route.xml", 4));
+        // The first node in document order wins
+        assertEquals("log1", index.getNodeId("file:src/main/resources/my-route.xml", 5));
+        assertNull(index.getNodeId("file:src/main/resources/my-route.xml", 6));
+        assertNull(index.getNodeId("com.foo.MyRoute", -1));
+    }
+
+    @Test
+    public void testFromNodeIdToSourceLine() throws Exception {
+        CamelRoutesIndex index = CamelRoutesIndex.of(parse(ROUTES));
+        assertEquals(new CamelRoutesIndex.SourceLine("file:src/main/resources/my-route.xml", 5), index.getSourceLine("to1"));
+        assertNull(index.getSourceLine("setBody1"));
+        assertNull(index.getSourceLine("unknown"));
+        assertNotNull(index.getNode("setBody1"));
+        assertEquals("to", index.getNode("to1").getLocalName());
+    }
+
+    @Test
+    public void testSourceLocations() throws Exception {
+        CamelRoutesIndex index = CamelRoutesIndex.of(parse(ROUTES));
+        // The nodes without a known source line are ignored
+        assertEquals(Set.of("file:src/main/resources/my-route.xml"), index.getSourceLocations());
+        assertTrue(CamelRoutesIndex.EMPTY.getSourceLocations().isEmpty());
+    }
+
+    @Test
+    public void testEmptyIndex() {
+        CamelRoutesIndex index = CamelRoutesIndex.of(null);
+        assertSame(CamelRoutesIndex.EMPTY, index);
+        assertNull(index.getDocument());
+        assertNull(index.getNode("to1"));
+        assertNull(index.getNodeId("file:src/main/resources/my-route.xml", 4));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.service;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The test class for {@link CamelJBangLauncherService}.
+ */
+public class CamelJBangLauncherServiceTest {
+
+    /**
+     * Ensure that the command resolving the default version of Camel JBang is {@code jbang info tools camel@apache/camel}.
+     */
+    @Test
+    public void testInfoToolsParametersWithoutVersion() {
+        assertEquals(
+            List.of("info", "tools", "camel@apache/camel"), CamelJBangLauncherService.getInfoToolsParameters(null)
+        );
+    }
+
+    /**
+     * Ensure that the version of Camel JBang is provided after the command {@code info tools} and before the alias.
+     */
+    @Test
+    public void testInfoToolsParametersWithVersion() {
+        assertEquals(
+            List.of("info", "tools", "-Dcamel.jbang.version=4.8.0", "camel@apache/camel"),
+            CamelJBangLauncherService.getInfoToolsParameters("4.8.0")
+        );
+    }
+}
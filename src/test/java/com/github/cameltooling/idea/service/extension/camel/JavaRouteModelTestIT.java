@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.service.extension.camel;
+
+import java.util.List;
+
+import com.github.cameltooling.idea.CamelLightCodeInsightFixtureTestCaseIT;
+import com.intellij.psi.PsiLiteralExpression;
+
+/**
+ * Testing the route model of a statement written with the Java DSL provided by {@link JavaRouteModel}.
+ */
+public class JavaRouteModelTestIT extends CamelLightCodeInsightFixtureTestCaseIT {
+
+    private static final String CODE = "import org.apache.camel.builder.RouteBuilder;\n"
+        + "\n"
+        + "public class MyRouteBuilder extends RouteBuilder {\n"
+        + "\n"
+        + "    @Override\n"
+        + "    public void configure() throws Exception {\n"
+        + "        from(\"file:inbox\")\n"
+        + "            .choice()\n"
+        + "                .when(header(\"foo\").isEqualTo(\"bar\"))\n"
+        + "                    .to(\"log:foo\")\n"
+        + "                .otherwise()\n"
+        + "                    .to(\"log:other\")\n"
+        + "            .end();\n"
+        + "    }\n"
+        + "\n"
+        + "}\n";
+
+    public void testCalls() {
+        myFixture.configureByText("MyRouteBuilder.java", CODE);
+        PsiLiteralExpression literal = myFixture.findElementByText("\"log:foo\"", PsiLiteralExpression.class);
+        JavaRouteModel model = JavaRouteModel.of(literal);
+        assertNotNull(model);
+        List<String> names = model.getCalls().stream()
+            .map(call -> call.getExpression().getMethodExpression().getReferenceName())
+            .toList();
+        assertEquals(List.of("from", "choice", "when", "header", "isEqualTo", "to", "otherwise", "to", "end"), names);
+        List<JavaRouteModel.Call> calls = model.getCalls();
+        assertTrue(calls.get(0).hasRole(JavaRouteModel.Role.CONSUMER));
+        assertTrue(calls.get(0).isDeepest());
+        assertTrue(calls.get(1).hasRole(JavaRouteModel.Role.BLOCK_OPEN));
+        assertTrue(calls.get(4).hasRole(JavaRouteModel.Role.PREDICATE));
+        assertTrue(calls.get(5).hasRole(JavaRouteModel.Role.PRODUCER));
+        assertTrue(calls.get(5).isContainingRouteStart());
+        assertTrue(calls.get(6).hasRole(JavaRouteModel.Role.BLOCK_OPEN));
+        assertTrue(calls.get(6).hasRole(JavaRouteModel.Role.BLOCK_CLOSE));
+        assertTrue(calls.get(8).hasRole(JavaRouteModel.Role.BLOCK_CLOSE));
+        assertFalse(calls.get(8).isDeepest());
+        assertSame(model, JavaRouteModel.of(literal));
+    }
+
+    public void testRouteStart() {
+        myFixture.configureByText("MyRouteBuilder.java", CODE);
+        JavaCamelIdeaUtils utils = new JavaCamelIdeaUtils();
+        PsiLiteralExpression start = myFixture.findElementByText("\"file:inbox\"", PsiLiteralExpression.class);
+        PsiLiteralExpression producer = myFixture.findElementByText("\"log:other\"", PsiLiteralExpression.class);
+        assertTrue(utils.isConsumerEndpoint(start));
+        assertTrue(utils.isCamelRouteStartExpression(start));
+        assertFalse(utils.isInsideCamelRoute(start, true));
+        assertTrue(utils.isProducerEndpoint(producer));
+        assertFalse(utils.isCamelRouteStartExpression(producer));
+        assertTrue(utils.isInsideCamelRoute(producer, true));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.service.extension.camel;
+
+import java.util.List;
+
+import com.github.cameltooling.idea.CamelLightCodeInsightFixtureTestCaseIT;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import org.jetbrains.yaml.psi.YAMLKeyValue;
+
+/**
+ * Testing the route model of a file written with the YAML DSL provided by {@link YamlRouteModel}.
+ */
+public class YamlRouteModelTestIT extends CamelLightCodeInsightFixtureTestCaseIT {
+
+    private static final String CODE = "- route:\n"
+        + "    from:\n"
+        + "      uri: file:inbox\n"
+        + "      steps:\n"
+        + "        - to: log:foo\n"
+        + "        - pollEnrich:\n"
+        + "            uri: file:other\n"
+        + "        - to:\n"
+        + "            uri: log:bar\n"
+        + "- beans:\n"
+        + "    - name: foo\n"
+        + "      uri: log:ignored\n";
+
+    public void testRoles() {
+        PsiFile file = myFixture.configureByText("routes.yaml", CODE);
+        YamlRouteModel model = YamlRouteModel.of(file);
+        assertNotNull(model);
+        List<YAMLKeyValue> keyValues = List.copyOf(PsiTreeUtil.findChildrenOfType(file, YAMLKeyValue.class));
+        YAMLKeyValue from = keyValues.get(1);
+        assertEquals("from", from.getKeyText());
+        assertTrue(model.hasRole(from, YamlRouteModel.Role.ROUTE_START));
+        assertTrue(model.hasRole(keyValues.get(2), YamlRouteModel.Role.CONSUMER));
+        assertTrue(model.hasRole(keyValues.get(4), YamlRouteModel.Role.PRODUCER));
+        assertTrue(model.hasRole(keyValues.get(4), YamlRouteModel.Role.INSIDE_ROUTE));
+        assertTrue(model.hasRole(keyValues.get(6), YamlRouteModel.Role.CONSUMER));
+        YAMLKeyValue ignored = keyValues.get(keyValues.size() - 1);
+        assertEquals("log:ignored", ignored.getValueText());
+        assertFalse(model.hasRole(ignored, YamlRouteModel.Role.INSIDE_ROUTE));
+        assertEquals(List.of("file:inbox"), model.getConsumerUris().stream().map(YAMLKeyValue::getValueText).toList());
+        assertEquals(
+            List.of("log:foo", "log:bar"), model.getProducerUris().stream().map(YAMLKeyValue::getValueText).toList()
+        );
+        assertSame(model, YamlRouteModel.of(from));
+    }
+
+    public void testEndpoints() {
+        PsiFile file = myFixture.configureByText("routes.yaml", CODE);
+        YamlCamelIdeaUtils utils = new YamlCamelIdeaUtils();
+        List<YAMLKeyValue> keyValues = List.copyOf(PsiTreeUtil.findChildrenOfType(file, YAMLKeyValue.class));
+        assertTrue(utils.isConsumerEndpoint(keyValues.get(2).getValue()));
+        assertTrue(utils.isProducerEndpoint(keyValues.get(4).getValue()));
+        assertTrue(utils.isPlaceForEndpointUri(keyValues.get(2).getValue()));
+        assertFalse(utils.isPlaceForEndpointUri(keyValues.get(keyValues.size() - 1).getValue()));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.util;
+
+import java.util.List;
+
+import com.github.cameltooling.idea.CamelLightCodeInsightFixtureTestCaseIT;
+import com.github.cameltooling.idea.extension.CamelFileInfo;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+
+/**
+ * Testing the information of the Camel files provided by {@link CamelIdeaUtils#getCamelFileInfo(PsiFile)}.
+ */
+public class CamelIdeaUtilsCamelFileInfoTestIT extends CamelLightCodeInsightFixtureTestCaseIT {
+
+    private static final String JAVA_CODE = "import org.apache.camel.builder.RouteBuilder;\n"
+        + "\n"
+        + "public class MyRouteBuilder extends RouteBuilder {\n"
+        + "\n"
+        + "    @Override\n"
+        + "    public void configure() throws Exception {\n"
+        + "        from(\"file:inbox\")\n"
+        + "            .to(\"log:out\");\n"
+        + "        from(\"timer:foo\")\n"
+        + "            .to(\"log:out\");\n"
+        + "    }\n"
+        + "\n"
+        + "}\n";
+
+    private static final String XML_CODE = "<routes xmlns=\"http://camel.apache.org/schema/spring\">\n"
+        + "  <route>\n"
+        + "    <from uri=\"file:inbox\"/>\n"
+        + "  </route>\n"
+        + "  <route>\n"
+        + "    <from uri=\"timer:foo\"/>\n"
+        + "  </route>\n"
+        + "</routes>\n";
+
+    private static final String YAML_CODE = "- route:\n"
+        + "    from:\n"
+        + "      uri: file:inbox\n"
+        + "- routeConfiguration:\n"
+        + "    onException: []\n"
+        + "- beans: []\n";
+
+    public void testJavaFile() {
+        PsiFile file = myFixture.configureByText("MyRouteBuilder.java", JAVA_CODE);
+        CamelFileInfo info = CamelIdeaUtils.getService().getCamelFileInfo(file);
+        assertNotNull(info);
+        assertEquals(CamelFileInfo.Dsl.JAVA, info.dsl());
+        assertEquals(List.of("MyRouteBuilder"), info.routeBuilderClasses());
+        assertEquals(2, info.routeCount());
+        assertSame(info, CamelIdeaUtils.getService().getCamelFileInfo(file));
+    }
+
+    public void testXmlFile() {
+        PsiFile file = myFixture.configureByText("routes.xml", XML_CODE);
+        CamelFileInfo info = CamelIdeaUtils.getService().getCamelFileInfo(file);
+        assertNotNull(info);
+        assertEquals(CamelFileInfo.Dsl.XML, info.dsl());
+        assertEquals(2, info.routeCount());
+    }
+
+    public void testYamlFile() {
+        PsiFile file = myFixture.configureByText("routes.yaml", YAML_CODE);
+        CamelFileInfo info = CamelIdeaUtils.getService().getCamelFileInfo(file);
+        assertNotNull(info);
+        assertEquals(CamelFileInfo.Dsl.YAML, info.dsl());
+        assertEquals(2, info.routeCount());
+    }
+
+    public void testNotCamelFile() {
+        PsiFile file = myFixture.configureByText("Foo.java", "public class Foo {}");
+        assertNull(CamelIdeaUtils.getService().getCamelFileInfo(file));
+        assertFalse(CamelIdeaUtils.getService().isCamelFile(file));
+    }
+
+    public void testInfoUpdatedOnChange() {
+        PsiFile file = myFixture.configureByText("MyRouteBuilder.java", "public class MyRouteBuilder {}");
+        assertFalse(CamelIdeaUtils.getService().isCamelFile(file));
+        Document document = myFixture.getDocument(file);
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            document.setText(JAVA_CODE);
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        });
+        assertTrue(CamelIdeaUtils.getService().isCamelFile(file));
+    }
+}
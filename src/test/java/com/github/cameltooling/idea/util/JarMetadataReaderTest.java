@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.cameltooling.idea.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class JarMetadataReaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final JarMetadataReader reader = new JarMetadataReader();
+
+    private File createJar(String name, Map<String, String> entries) throws IOException {
+        File jar = folder.newFile(name);
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(jar))) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zos.putNextEntry(new ZipEntry(entry.getKey()));
+                zos.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zos.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    @Test
+    public void testReadEntryFromJarsAndDirectories() throws IOException {
+        File jar1 = createJar("foo.jar", Map.of("META-INF/services/org/apache/camel/component.properties", "components=foo"));
+        File jar2 = createJar("bar.jar", Map.of("META-INF/MANIFEST.MF", "Manifest-Version: 1.0"));
+        File dir = folder.newFolder("classes");
+        Path properties = dir.toPath().resolve("META-INF/services/org/apache/camel/component.properties");
+        Files.createDirectories(properties.getParent());
+        Files.writeString(properties, "components=bar");
+
+        Map<File, String> result = reader.readEntry(
+            List.of(jar1, jar2, dir, new File(folder.getRoot(), "missing.jar")),
+            "META-INF/services/org/apache/camel/component.properties"
+        );
+        assertEquals(List.of(jar1, dir), List.copyOf(result.keySet()));
+        assertEquals("components=foo", result.get(jar1));
+        assertEquals("components=bar", result.get(dir));
+    }
+
+    @Test
+    public void testListEntriesFromJarsAndDirectories() throws IOException {
+        File jar = createJar("kamelets.jar", Map.of(
+            "kamelets/foo.kamelet.yaml", "foo",
+            "kamelets/sub/bar.kamelet.yaml", "bar",
+            "kamelets/README.md", "readme",
+            "other/baz.kamelet.yaml", "baz"
+        ));
+        File dir = folder.newFolder("resources");
+        Path kamelet = dir.toPath().resolve("kamelets/qux.kamelet.yaml");
+        Files.createDirectories(kamelet.getParent());
+        Files.writeString(kamelet, "qux");
+
+        Map<File, List<String>> result = reader.process(
+            List.of(jar, dir), entries -> entries.list("kamelets/", ".kamelet.yaml")
+        );
+        assertEquals(2, result.get(jar).size());
+        assertTrue(result.get(jar).containsAll(List.of("kamelets/foo.kamelet.yaml", "kamelets/sub/bar.kamelet.yaml")));
+        assertEquals(List.of("kamelets/qux.kamelet.yaml"), result.get(dir));
+    }
+
+    @Test
+    public void testInvalidJarIsSkipped() throws IOException {
+        File invalid = folder.newFile("invalid.jar");
+        Files.writeString(invalid.toPath(), "not a jar");
+        assertFalse(reader.readEntry(List.of(invalid), "foo").containsKey(invalid));
+    }
+}